@@ -0,0 +1,101 @@
+package io.f1.backend.domain.game.answer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 40자 정답에 대한 오타 허용 판정 비용 비교.
+ *
+ * <ul>
+ *   <li>{@code dynamicProgramming}: 두 행만 쓰는 O(nm) 편집 거리 DP (비교 기준)
+ *   <li>{@code bitParallel}: 미리 만든 {@link BitParallelPattern} 으로 입력 한 글자당 워드 연산 몇 번
+ *   <li>{@code matcher}: 채팅 경로와 같은 {@link AnswerMatcher#matches(String)} (트라이 확인 + 오타 판정)
+ * </ul>
+ *
+ * <pre>./gradlew jmh -PjmhIncludes=EditDistanceBenchmark -PjmhProfilers=gc</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EditDistanceBenchmark {
+
+    private static final String ANSWER = "해리 포터와 마법사의 돌 그리고 비밀의 방과 아즈카반의 죄수와 불의 잔들";
+    private static final int TOLERANCE = 2;
+
+    // exact: 정답 그대로 / typo: 두 글자 오타 / miss: 길이가 같은 오답
+    @Param({"exact", "typo", "miss"})
+    private String inputType;
+
+    private String answer;
+    private BitParallelPattern pattern;
+    private AnswerMatcher matcher;
+    private String input;
+
+    @Setup
+    public void setUp() {
+        answer = AnswerNormalizer.normalize(ANSWER);
+        if (answer.length() != 40) {
+            throw new IllegalStateException("answer must be 40 chars: " + answer.length());
+        }
+        pattern = BitParallelPattern.of(answer);
+        matcher = AnswerMatcher.of(ANSWER, List.of(), TOLERANCE);
+        input =
+                switch (inputType) {
+                    case "exact" -> answer;
+                    case "typo" -> answer.replace("마법사", "마볍사").replace("죄수", "죄스");
+                    default -> "반지의 제왕 반지 원정대와 두 개의 탑 그리고 왕의 귀환까지 다 본 사람";
+                };
+    }
+
+    @Benchmark
+    public boolean dynamicProgramming() {
+        return levenshtein(answer, input) <= TOLERANCE;
+    }
+
+    @Benchmark
+    public boolean bitParallel() {
+        return pattern.withinDistance(input, TOLERANCE);
+    }
+
+    @Benchmark
+    public boolean matcher() {
+        return matcher.matches(input);
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] =
+                        Math.min(
+                                Math.min(current[j - 1] + 1, previous[j] + 1),
+                                previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
@@ -0,0 +1,90 @@
+package io.f1.backend.domain.game.executor;
+
+import io.f1.backend.global.lock.LocalLockProvider;
+import io.f1.backend.global.lock.LockExecutor;
+import io.f1.backend.global.lock.LockMetrics;
+import io.f1.backend.global.lock.RedissonLockProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 명령 처리량(commands/sec) 비교: 기존 Redisson 방 락 경로 vs 방 메일박스.
+ *
+ * <p>lock 모드는 Redis 가 필요하다. {@code -Dredis.address=redis://host:port} 로 지정하며 기본값은 로컬 6379.
+ *
+ * <pre>./gradlew jmh -PjmhIncludes=RoomCommandBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(16)
+public class RoomCommandBenchmark {
+
+    @Param({"lock", "mailbox"})
+    private String mode;
+
+    // 1: 한 방에 명령이 몰리는 경우, 64: 여러 방에 분산되는 경우
+    @Param({"1", "64"})
+    private int rooms;
+
+    private RedissonClient redissonClient;
+    private RoomCommandExecutor executor;
+    private long[] roomStates;
+
+    @Setup
+    public void setUp() {
+        LockMetrics lockMetrics = new LockMetrics(new SimpleMeterRegistry(), 500, 0.1);
+        if ("lock".equals(mode)) {
+            Config config = new Config();
+            config.useSingleServer()
+                    .setAddress(System.getProperty("redis.address", "redis://127.0.0.1:6379"));
+            redissonClient = Redisson.create(config);
+            LockExecutor lockExecutor =
+                    new LockExecutor(new RedissonLockProvider(redissonClient), lockMetrics);
+            executor = new LockRoomCommandExecutor(lockExecutor);
+        } else {
+            LockExecutor lockExecutor = new LockExecutor(new LocalLockProvider(), lockMetrics);
+            executor = new MailboxRoomCommandExecutor(lockExecutor);
+        }
+        roomStates = new long[rooms];
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor instanceof MailboxRoomCommandExecutor mailboxExecutor) {
+            mailboxExecutor.shutdown();
+        }
+        if (redissonClient != null) {
+            redissonClient.shutdown();
+        }
+    }
+
+    @Benchmark
+    public long roomCommand() {
+        int room = ThreadLocalRandom.current().nextInt(rooms);
+        // 동기화 없는 방 상태 변경 - 실행기가 직렬화를 보장해야 한다
+        return executor.executeWithRoomLock((long) room, () -> ++roomStates[room]);
+    }
+}
@@ -0,0 +1,88 @@
+package io.f1.backend.domain.quiz.dto;
+
+import io.f1.backend.domain.quiz.entity.QuizType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 게임 시작 때 라운드 수만큼 문제를 고르는 비용 비교.
+ *
+ * <ul>
+ *   <li>{@code fullShuffle}: 문제 목록 전체를 복사해 섞은 뒤 앞에서 자른다 (비교 기준, ORDER BY RAND() 와 같은 O(n))
+ *   <li>{@code partialFisherYates}: 문제까지 캐시된 팩에서 앞 {@code round} 자리만 섞는다
+ *   <li>{@code sampleIds}: 문제 id 만 캐시된 팩에서 고른다. 이후 고른 문제만 DB 에서 한 번에 읽는다
+ * </ul>
+ *
+ * <pre>./gradlew jmh -PjmhIncludes=QuestionSamplingBenchmark -PjmhProfilers=gc</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QuestionSamplingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int questionCount;
+
+    @Param({"10"})
+    private int round;
+
+    private List<GameQuestion> questions;
+    private GamePack pack;
+    private GamePack idOnlyPack;
+
+    @Setup
+    public void setUp() {
+        questions =
+                LongStream.rangeClosed(1, questionCount)
+                        .mapToObj(id -> new GameQuestion(id, "문제" + id, "정답" + id, List.of()))
+                        .toList();
+        pack = new GamePack(1L, QuizType.TEXT, "퀴즈", "설명", null, "thumbnail.png", questions);
+        idOnlyPack =
+                new GamePack(
+                        2L,
+                        QuizType.TEXT,
+                        "퀴즈",
+                        "설명",
+                        null,
+                        "thumbnail.png",
+                        List.of(),
+                        LongStream.rangeClosed(1, questionCount).toArray());
+    }
+
+    @Benchmark
+    public List<GameQuestion> fullShuffle() {
+        List<GameQuestion> shuffled = new ArrayList<>(questions);
+        Collections.shuffle(shuffled, ThreadLocalRandom.current());
+        return List.copyOf(shuffled.subList(0, round));
+    }
+
+    @Benchmark
+    public List<GameQuestion> partialFisherYates() {
+        return pack.sampleQuestions(round);
+    }
+
+    @Benchmark
+    public List<Long> sampleIds() {
+        return idOnlyPack.sampleQuestionIds(round);
+    }
+}
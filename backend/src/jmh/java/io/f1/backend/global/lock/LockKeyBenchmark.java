@@ -0,0 +1,111 @@
+package io.f1.backend.global.lock;
+
+import io.f1.backend.global.lock.CustomSpringELParser.KeyExpression;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DistributedLockAspect} 의 락 키 계산 비용 비교.
+ *
+ * <ul>
+ *   <li>{@code legacyKeyResolution}: 호출마다 파서/컨텍스트를 만들고 표현식을 다시 파싱하던 이전 방식
+ *   <li>{@code compiledKeyResolution}: 메서드별로 한 번 해석해 둔 {@link KeyExpression} 으로 계산
+ *   <li>{@code aspectOverhead}: 실제 aspect 프록시를 거친 호출 (로컬 락 획득/해제 포함)
+ * </ul>
+ *
+ * <p>할당량은 {@code -PjmhProfilers=gc} 로 함께 측정한다.
+ *
+ * <pre>./gradlew jmh -PjmhIncludes=LockKeyBenchmark -PjmhProfilers=gc</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LockKeyBenchmark {
+
+    private static final String[] PARAMETER_NAMES = {"roomId", "userId"};
+
+    // 예전 DistributedLockAspect 가 키를 만들던 형식
+    private static final String LEGACY_LOCK_KEY_FORMAT = "lock:%s:{%s}";
+
+    // parameter: "#roomId" 처럼 파라미터를 그대로 참조 / expression: SpEL 평가가 필요한 표현식
+    @Param({"parameter", "expression"})
+    private String keyType;
+
+    private String keyExpressionSource;
+    private KeyExpression keyExpression;
+    private LockedService lockedService;
+    private Object[] args;
+
+    @Setup
+    public void setUp() {
+        keyExpressionSource = "parameter".equals(keyType) ? "#roomId" : "#roomId + ':' + #userId";
+        keyExpression = CustomSpringELParser.compile(PARAMETER_NAMES, keyExpressionSource);
+        args = new Object[] {42L, 7L};
+
+        DistributedLockAspect aspect =
+                new DistributedLockAspect(
+                        new LocalLockProvider(),
+                        new LockMetrics(new SimpleMeterRegistry(), 500, 0.1));
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new LockedService());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(aspect);
+        lockedService = proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public String legacyKeyResolution() {
+        ExpressionParser parser = new SpelExpressionParser();
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        for (int i = 0; i < PARAMETER_NAMES.length; i++) {
+            context.setVariable(PARAMETER_NAMES[i], args[i]);
+        }
+        Object keyValue =
+                parser.parseExpression(keyExpressionSource).getValue(context, Object.class);
+        return String.format(LEGACY_LOCK_KEY_FORMAT, "room", keyValue);
+    }
+
+    @Benchmark
+    public String compiledKeyResolution() {
+        return LockExecutor.formatLockKey("room", keyExpression.getValue(args));
+    }
+
+    @Benchmark
+    public long aspectOverhead() {
+        return "parameter".equals(keyType)
+                ? lockedService.byParameter(42L, 7L)
+                : lockedService.byExpression(42L, 7L);
+    }
+
+    public static class LockedService {
+
+        @DistributedLock(prefix = "room", key = "#roomId")
+        public long byParameter(Long roomId, Long userId) {
+            return roomId;
+        }
+
+        @DistributedLock(prefix = "room", key = "#roomId + ':' + #userId")
+        public long byExpression(Long roomId, Long userId) {
+            return roomId;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.f1.backend.global.lock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락 1회 획득/해제 지연 시간 분포 비교: {@link RedissonLockProvider} vs {@link LocalLockProvider}.
+ *
+ * <p>redisson 은 Redis 가 필요하다. {@code -Dredis.address=redis://host:port} 로 지정하며 기본값은 로컬 6379.
+ *
+ * <pre>./gradlew jmh -PjmhIncludes=LockProviderBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(8)
+public class LockProviderBenchmark {
+
+    private static final long WAIT_TIME = 5L;
+    private static final long LEASE_TIME = 3L;
+
+    @Param({"redisson", "local"})
+    private String provider;
+
+    private RedissonClient redissonClient;
+    private LockProvider lockProvider;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        if ("redisson".equals(provider)) {
+            Config config = new Config();
+            config.useSingleServer()
+                    .setAddress(System.getProperty("redis.address", "redis://127.0.0.1:6379"));
+            redissonClient = Redisson.create(config);
+            lockProvider = new RedissonLockProvider(redissonClient);
+        } else {
+            lockProvider = new LocalLockProvider();
+        }
+
+        keys = new String[1024];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = LockExecutor.formatLockKey("room", i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (redissonClient != null) {
+            redissonClient.shutdown();
+        }
+    }
+
+    @Benchmark
+    public boolean acquireAndRelease() throws InterruptedException {
+        String key = keys[ThreadLocalRandom.current().nextInt(keys.length)];
+        LockHandle lock = lockProvider.getLock(key);
+
+        boolean acquired = lock.tryLock(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS);
+        if (acquired) {
+            lock.unlock();
+        }
+        return acquired;
+    }
+}
@@ -0,0 +1,93 @@
+package io.f1.backend.global.lock;
+
+import static io.f1.backend.global.lock.LockExecutor.formatLockKey;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입장/퇴장 경로의 유저+방 락 지연 시간 분포(p50/p99) 비교: 기존 유저 -> 방 중첩 락 vs 다중 키 한 번에 획득.
+ *
+ * <p>Redis 가 필요하다. {@code -Dredis.address=redis://host:port} 로 지정하며 기본값은 로컬 6379.
+ *
+ * <pre>./gradlew jmh -PjmhIncludes=UserRoomLockBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(16)
+public class UserRoomLockBenchmark {
+
+    private static final String ROOM_LOCK_PREFIX = "room";
+    private static final String USER_LOCK_PREFIX = "user";
+
+    // 유저 수는 방 수 * 8 (방 최대 인원)
+    @Param({"16"})
+    private int rooms;
+
+    private RedissonClient redissonClient;
+    private LockExecutor lockExecutor;
+
+    @Setup
+    public void setUp() {
+        Config config = new Config();
+        config.useSingleServer()
+                .setAddress(System.getProperty("redis.address", "redis://127.0.0.1:6379"));
+        redissonClient = Redisson.create(config);
+        lockExecutor =
+                new LockExecutor(
+                        new RedissonLockProvider(redissonClient),
+                        new LockMetrics(new SimpleMeterRegistry(), 500, 0.1));
+    }
+
+    @TearDown
+    public void tearDown() {
+        redissonClient.shutdown();
+    }
+
+    @Benchmark
+    public Long nested() {
+        long roomId = ThreadLocalRandom.current().nextInt(rooms);
+        long userId = roomId * 8 + ThreadLocalRandom.current().nextInt(8);
+
+        return lockExecutor.executeWithLock(
+                USER_LOCK_PREFIX,
+                userId,
+                () -> lockExecutor.executeWithLock(ROOM_LOCK_PREFIX, roomId, () -> roomId));
+    }
+
+    @Benchmark
+    public Long multiKey() {
+        long roomId = ThreadLocalRandom.current().nextInt(rooms);
+        long userId = roomId * 8 + ThreadLocalRandom.current().nextInt(8);
+
+        return lockExecutor.executeWithLocks(
+                List.of(
+                        formatLockKey(USER_LOCK_PREFIX, userId),
+                        formatLockKey(ROOM_LOCK_PREFIX, roomId)),
+                () -> roomId);
+    }
+}
@@ -0,0 +1,96 @@
+package io.f1.backend.domain.game.answer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 한 라운드의 정답 판정기. 게임 시작 시 문제마다 한 번 만들어 두고, 채팅은 {@link AnswerNormalizer} 로 정규화한 입력으로만 비교한다.
+ * 대표 정답과 추가 정답은 하나의 {@link AnswerTrie} 로 합쳐 두므로 추가 정답이 늘어나도 판정 비용은 같다.
+ *
+ * <p>오타 허용 범위가 있으면 정확히 일치하지 않을 때만 정답 후보마다 미리 만들어 둔 {@link BitParallelPattern} 으로 편집 거리를 본다.
+ */
+public final class AnswerMatcher {
+
+    // 짧은 정답은 한 글자만 틀려도 전혀 다른 단어가 되므로, 이 글자 수마다 오타 하나까지만 허용한다
+    private static final int MIN_CHARS_PER_TYPO = 4;
+
+    private static final BitParallelPattern[] NO_PATTERNS = new BitParallelPattern[0];
+
+    private final String answer;
+    private final AnswerTrie answers;
+    private final BitParallelPattern[] fuzzyPatterns;
+    private final int[] tolerances;
+
+    private AnswerMatcher(
+            String answer,
+            AnswerTrie answers,
+            BitParallelPattern[] fuzzyPatterns,
+            int[] tolerances) {
+        this.answer = answer;
+        this.answers = answers;
+        this.fuzzyPatterns = fuzzyPatterns;
+        this.tolerances = tolerances;
+    }
+
+    public static AnswerMatcher of(String answer) {
+        return of(answer, List.of());
+    }
+
+    public static AnswerMatcher of(String answer, Collection<String> acceptedAnswers) {
+        return of(answer, acceptedAnswers, 0);
+    }
+
+    /**
+     * @param answerTolerance 허용할 최대 편집 거리. 0 이면 정확히 일치해야 한다.
+     */
+    public static AnswerMatcher of(
+            String answer, Collection<String> acceptedAnswers, int answerTolerance) {
+        List<String> normalizedAnswers = new ArrayList<>(acceptedAnswers.size() + 1);
+        normalizedAnswers.add(AnswerNormalizer.normalize(answer));
+        for (String acceptedAnswer : acceptedAnswers) {
+            normalizedAnswers.add(AnswerNormalizer.normalize(acceptedAnswer));
+        }
+
+        List<BitParallelPattern> patterns = new ArrayList<>();
+        List<Integer> limits = new ArrayList<>();
+        for (String normalizedAnswer : normalizedAnswers) {
+            int tolerance =
+                    Math.min(answerTolerance, normalizedAnswer.length() / MIN_CHARS_PER_TYPO);
+            // 한 워드를 넘는 정답은 정확히 일치할 때만 인정한다 (입력 검증상 생기지 않는다)
+            if (tolerance > 0 && normalizedAnswer.length() <= BitParallelPattern.MAX_LENGTH) {
+                patterns.add(BitParallelPattern.of(normalizedAnswer));
+                limits.add(tolerance);
+            }
+        }
+
+        return new AnswerMatcher(
+                answer,
+                AnswerTrie.of(normalizedAnswers),
+                patterns.isEmpty() ? NO_PATTERNS : patterns.toArray(BitParallelPattern[]::new),
+                limits.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * @param normalizedInput {@link AnswerNormalizer#normalize(String)} 를 거친 채팅 메시지
+     */
+    public boolean matches(String normalizedInput) {
+        if (normalizedInput.isEmpty()) {
+            return false;
+        }
+        if (answers.contains(normalizedInput)) {
+            return true;
+        }
+        for (int i = 0; i < fuzzyPatterns.length; i++) {
+            if (fuzzyPatterns[i].withinDistance(normalizedInput, tolerances[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 정답 공개 시 보여줄 대표 정답
+    public String getAnswer() {
+        return answer;
+    }
+}
@@ -0,0 +1,78 @@
+package io.f1.backend.domain.game.answer;
+
+import java.text.Normalizer;
+
+/**
+ * 정답 비교용 문자열 정규화. 유니코드 NFC 로 합치고(조합형 한글 자모도 완성형 음절로 합쳐진다), 앞뒤 공백을 없애고 연속된 공백을 공백
+ * 하나로 접고, 대소문자를 구분하지 않도록 소문자로 맞춘다.
+ *
+ * <p>이미 정규화된 문자열은 새로 만들지 않고 그대로 돌려준다.
+ */
+public final class AnswerNormalizer {
+
+    private AnswerNormalizer() {}
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String composed =
+                Normalizer.isNormalized(text, Normalizer.Form.NFC)
+                        ? text
+                        : Normalizer.normalize(text, Normalizer.Form.NFC);
+
+        if (isFolded(composed)) {
+            return composed;
+        }
+
+        StringBuilder builder = new StringBuilder(composed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < composed.length(); ) {
+            int codePoint = composed.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (isSpace(codePoint)) {
+                pendingSpace = !builder.isEmpty();
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            builder.appendCodePoint(foldCase(codePoint));
+        }
+        return builder.toString();
+    }
+
+    // 공백이 앞뒤에 없고, 단어 사이에 ' ' 하나씩만 있으며, 대소문자가 이미 접혀 있는지
+    private static boolean isFolded(String text) {
+        boolean previousSpace = true;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (isSpace(codePoint)) {
+                if (previousSpace || codePoint != ' ') {
+                    return false;
+                }
+                previousSpace = true;
+                continue;
+            }
+            if (foldCase(codePoint) != codePoint) {
+                return false;
+            }
+            previousSpace = false;
+        }
+        return !previousSpace || text.isEmpty();
+    }
+
+    private static boolean isSpace(int codePoint) {
+        return Character.isWhitespace(codePoint) || Character.isSpaceChar(codePoint);
+    }
+
+    // 로케일에 의존하지 않는 단순 케이스 폴딩 (ſ, K(켈빈) 등도 같은 소문자로 모인다)
+    private static int foldCase(int codePoint) {
+        return Character.toLowerCase(Character.toUpperCase(codePoint));
+    }
+}
@@ -0,0 +1,88 @@
+package io.f1.backend.domain.game.answer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 정답 후보(대표 정답 + 추가 정답)를 하나로 합친 트라이. 입력을 앞에서부터 한 번만 따라가므로 판정 비용은 입력 길이에만 비례하고 후보 수와는
+ * 무관하다. 만든 뒤에는 읽기 전용이라 여러 스레드에서 함께 써도 된다.
+ */
+final class AnswerTrie {
+
+    private static final char[] NO_LABELS = new char[0];
+    private static final int[] NO_CHILDREN = new int[0];
+
+    // 노드 i 의 자식 간선 문자(정렬됨)와 그에 대응하는 자식 노드 번호
+    private final char[][] labels;
+    private final int[][] children;
+    private final boolean[] terminal;
+
+    private AnswerTrie(char[][] labels, int[][] children, boolean[] terminal) {
+        this.labels = labels;
+        this.children = children;
+        this.terminal = terminal;
+    }
+
+    /**
+     * @param words 정규화된 정답 후보. 빈 문자열은 무시한다.
+     */
+    static AnswerTrie of(Collection<String> words) {
+        List<TreeMap<Character, Integer>> edges = new ArrayList<>();
+        List<Boolean> terminals = new ArrayList<>();
+        edges.add(new TreeMap<>());
+        terminals.add(false);
+
+        for (String word : words) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            int node = 0;
+            for (int i = 0; i < word.length(); i++) {
+                TreeMap<Character, Integer> nodeEdges = edges.get(node);
+                Integer next = nodeEdges.get(word.charAt(i));
+                if (next == null) {
+                    next = edges.size();
+                    nodeEdges.put(word.charAt(i), next);
+                    edges.add(new TreeMap<>());
+                    terminals.add(false);
+                }
+                node = next;
+            }
+            terminals.set(node, true);
+        }
+
+        int size = edges.size();
+        char[][] labels = new char[size][];
+        int[][] children = new int[size][];
+        boolean[] terminal = new boolean[size];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> nodeEdges = edges.get(node);
+            labels[node] = nodeEdges.isEmpty() ? NO_LABELS : new char[nodeEdges.size()];
+            children[node] = nodeEdges.isEmpty() ? NO_CHILDREN : new int[nodeEdges.size()];
+            int index = 0;
+            for (Map.Entry<Character, Integer> edge : nodeEdges.entrySet()) {
+                labels[node][index] = edge.getKey();
+                children[node][index] = edge.getValue();
+                index++;
+            }
+            terminal[node] = terminals.get(node);
+        }
+        return new AnswerTrie(labels, children, terminal);
+    }
+
+    boolean contains(String input) {
+        int node = 0;
+        for (int i = 0; i < input.length(); i++) {
+            int index = Arrays.binarySearch(labels[node], input.charAt(i));
+            if (index < 0) {
+                return false;
+            }
+            node = children[node][index];
+        }
+        return terminal[node];
+    }
+}
@@ -0,0 +1,102 @@
+package io.f1.backend.domain.game.answer;
+
+import java.util.Arrays;
+
+/**
+ * Myers 의 비트 병렬 편집 거리(Hyyrö 의 전역 거리 변형). 정답 문자열의 문자별 위치 비트마스크를 미리 만들어 두고, 입력 한 글자마다 long
+ * 하나에 대한 몇 번의 비트 연산으로 DP 표의 한 열 전체를 갱신한다. 한 워드(64자) 안에 들어가는 정답만 만들 수 있다.
+ *
+ * <p>만든 뒤에는 읽기 전용이라 여러 스레드에서 함께 써도 된다.
+ */
+final class BitParallelPattern {
+
+    static final int MAX_LENGTH = Long.SIZE;
+
+    // 정답에 등장하는 문자(정렬됨)와 그 문자가 나타나는 위치의 비트마스크
+    private final char[] chars;
+    private final long[] masks;
+    private final int length;
+    private final long lastBit;
+
+    private BitParallelPattern(char[] chars, long[] masks, int length) {
+        this.chars = chars;
+        this.masks = masks;
+        this.length = length;
+        this.lastBit = 1L << (length - 1);
+    }
+
+    /**
+     * @param pattern 정규화된 정답. 비어 있지 않고 {@link #MAX_LENGTH} 자 이하여야 한다.
+     */
+    static BitParallelPattern of(String pattern) {
+        int length = pattern.length();
+        if (length == 0 || length > MAX_LENGTH) {
+            throw new IllegalArgumentException("pattern length must be 1.." + MAX_LENGTH);
+        }
+
+        char[] sorted = pattern.toCharArray();
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+
+        char[] chars = Arrays.copyOf(sorted, distinct);
+        long[] masks = new long[chars.length];
+        for (int i = 0; i < length; i++) {
+            masks[Arrays.binarySearch(chars, pattern.charAt(i))] |= 1L << i;
+        }
+        return new BitParallelPattern(chars, masks, length);
+    }
+
+    int length() {
+        return length;
+    }
+
+    /**
+     * 입력과 정답 사이의 편집 거리가 {@code limit} 이하인지 판정한다. 길이 차이만으로 넘는 경우는 바로 거절하고, 남은 글자를 모두 맞춰도
+     * 넘을 수밖에 없어지면 그 자리에서 멈춘다.
+     */
+    boolean withinDistance(String text, int limit) {
+        int textLength = text.length();
+        if (Math.abs(textLength - length) > limit) {
+            return false;
+        }
+
+        long positive = -1L; // Pv: 세로 방향 +1 차이
+        long negative = 0L; // Mv: 세로 방향 -1 차이
+        int score = length;
+
+        for (int j = 0; j < textLength; j++) {
+            long eq = maskOf(text.charAt(j));
+            long xv = eq | negative;
+            long xh = (((eq & positive) + positive) ^ positive) | eq;
+            long horizontalPositive = negative | ~(xh | positive);
+            long horizontalNegative = positive & xh;
+
+            if ((horizontalPositive & lastBit) != 0) {
+                score++;
+            } else if ((horizontalNegative & lastBit) != 0) {
+                score--;
+            }
+            // 남은 글자가 모두 일치해도 열마다 최대 1 씩만 줄어든다
+            if (score - (textLength - j - 1) > limit) {
+                return false;
+            }
+
+            // 첫 행은 D[0][j] = j 이므로 가로 차이가 항상 +1 이다
+            horizontalPositive = (horizontalPositive << 1) | 1L;
+            horizontalNegative <<= 1;
+            positive = horizontalNegative | ~(xv | horizontalPositive);
+            negative = horizontalPositive & xv;
+        }
+        return score <= limit;
+    }
+
+    private long maskOf(char c) {
+        int index = Arrays.binarySearch(chars, c);
+        return index < 0 ? 0L : masks[index];
+    }
+}
@@ -1,10 +1,15 @@
 package io.f1.backend.domain.game.api;
 
+import io.f1.backend.domain.game.app.LobbyService;
 import io.f1.backend.domain.game.app.RoomService;
 import io.f1.backend.domain.game.dto.request.RoomCreateRequest;
+import io.f1.backend.domain.game.dto.request.RoomSearchCondition;
 import io.f1.backend.domain.game.dto.request.RoomValidationRequest;
 import io.f1.backend.domain.game.dto.response.RoomCreateResponse;
 import io.f1.backend.domain.game.dto.response.RoomListResponse;
+import io.f1.backend.domain.game.model.RoomState;
+import io.f1.backend.global.exception.CustomException;
+import io.f1.backend.global.exception.errorcode.CommonErrorCode;
 
 import jakarta.validation.Valid;
 
@@ -15,6 +20,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -24,6 +30,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class RoomController {
 
     private final RoomService roomService;
+    private final LobbyService lobbyService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -38,7 +45,21 @@ public class RoomController {
     }
 
     @GetMapping
-    public RoomListResponse getAllRooms() {
-        return roomService.getAllRooms();
+    public RoomListResponse getRooms(
+            @RequestParam(required = false) RoomState state,
+            @RequestParam(required = false) Boolean locked,
+            @RequestParam(required = false) Boolean hasFreeSlot,
+            @RequestParam(required = false) Long quizId,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        if (size <= 0 || size > 100) {
+            throw new CustomException(CommonErrorCode.INVALID_PAGINATION);
+        }
+
+        RoomSearchCondition condition =
+                new RoomSearchCondition(state, locked, hasFreeSlot, quizId, name);
+        return lobbyService.getRooms(condition, cursor, size);
     }
 }
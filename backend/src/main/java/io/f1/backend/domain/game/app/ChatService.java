@@ -2,12 +2,14 @@ package io.f1.backend.domain.game.app;
 
 import static io.f1.backend.domain.game.websocket.WebSocketUtils.getDestination;
 
+import io.f1.backend.domain.game.answer.AnswerMatcher;
+import io.f1.backend.domain.game.answer.AnswerNormalizer;
 import io.f1.backend.domain.game.dto.ChatMessage;
 import io.f1.backend.domain.game.dto.MessageType;
 import io.f1.backend.domain.game.event.GameCorrectAnswerEvent;
+import io.f1.backend.domain.game.executor.RoomCommandExecutor;
 import io.f1.backend.domain.game.model.Room;
 import io.f1.backend.domain.game.websocket.MessageSender;
-import io.f1.backend.domain.question.entity.Question;
 import io.f1.backend.domain.user.dto.UserPrincipal;
 
 import lombok.RequiredArgsConstructor;
@@ -22,8 +24,8 @@ public class ChatService {
     private final RoomService roomService;
     private final MessageSender messageSender;
     private final ApplicationEventPublisher eventPublisher;
+    private final RoomCommandExecutor roomCommandExecutor;
 
-    // todo 동시성적용
     public void chat(Long roomId, UserPrincipal userPrincipal, ChatMessage chatMessage) {
 
         Room room = roomService.findRoom(roomId);
@@ -36,11 +38,26 @@ public class ChatService {
             return;
         }
 
-        Question currentQuestion = room.getCurrentQuestion();
+        // 정규화는 방 명령 밖에서 메시지당 한 번만 한다
+        String normalizedMessage = AnswerNormalizer.normalize(chatMessage.message());
 
-        String answer = currentQuestion.getAnswer();
+        // 정답 판정은 방 상태(현재 문제, 라운드)를 읽고 바꾸므로 방 명령으로 실행
+        roomCommandExecutor.execute(
+                roomId, () -> checkAnswer(room, userPrincipal, chatMessage, normalizedMessage));
+    }
+
+    private void checkAnswer(
+            Room room,
+            UserPrincipal userPrincipal,
+            ChatMessage chatMessage,
+            String normalizedMessage) {
+        if (!room.isPlaying()) {
+            return;
+        }
+
+        AnswerMatcher answerMatcher = room.getCurrentAnswerMatcher();
 
-        if (!answer.equals(chatMessage.message())) {
+        if (!answerMatcher.matches(normalizedMessage)) {
             return;
         }
 
@@ -48,7 +65,10 @@ public class ChatService {
         if (room.compareAndSetAnsweredFlag(false, true)) {
             eventPublisher.publishEvent(
                     new GameCorrectAnswerEvent(
-                            room, userPrincipal.getUserId(), chatMessage, answer));
+                            room,
+                            userPrincipal.getUserId(),
+                            chatMessage,
+                            answerMatcher.getAnswer()));
         }
     }
 }
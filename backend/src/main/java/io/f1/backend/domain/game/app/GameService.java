@@ -6,6 +6,7 @@ import static io.f1.backend.domain.game.mapper.RoomMapper.toGameSettingResponse;
 import static io.f1.backend.domain.game.mapper.RoomMapper.toPlayerListResponse;
 import static io.f1.backend.domain.game.mapper.RoomMapper.toQuestionResultResponse;
 import static io.f1.backend.domain.game.mapper.RoomMapper.toQuestionStartResponse;
+import static io.f1.backend.domain.game.mapper.RoomMapper.toRankDeltaResponse;
 import static io.f1.backend.domain.game.mapper.RoomMapper.toRankUpdateResponse;
 import static io.f1.backend.domain.game.mapper.RoomMapper.toRoomSettingResponse;
 import static io.f1.backend.domain.game.websocket.WebSocketUtils.getDestination;
@@ -15,36 +16,39 @@ import io.f1.backend.domain.game.dto.ChatMessage;
 import io.f1.backend.domain.game.dto.MessageType;
 import io.f1.backend.domain.game.dto.RoomEventType;
 import io.f1.backend.domain.game.dto.request.GameSettingChanger;
+import io.f1.backend.domain.game.dto.response.DefaultWebSocketResponse;
 import io.f1.backend.domain.game.dto.response.GameResultListResponse;
 import io.f1.backend.domain.game.dto.response.GameResultResponse;
 import io.f1.backend.domain.game.event.GameCorrectAnswerEvent;
 import io.f1.backend.domain.game.event.GameTimeoutEvent;
 import io.f1.backend.domain.game.event.RoomUpdatedEvent;
+import io.f1.backend.domain.game.executor.RoomCommandExecutor;
 import io.f1.backend.domain.game.model.ConnectionState;
 import io.f1.backend.domain.game.model.Player;
+import io.f1.backend.domain.game.model.RankChange;
 import io.f1.backend.domain.game.model.Room;
 import io.f1.backend.domain.game.model.RoomState;
 import io.f1.backend.domain.game.store.RoomRepository;
 import io.f1.backend.domain.game.websocket.MessageSender;
-import io.f1.backend.domain.question.entity.Question;
 import io.f1.backend.domain.quiz.app.QuizService;
-import io.f1.backend.domain.quiz.entity.Quiz;
+import io.f1.backend.domain.quiz.dto.GamePack;
+import io.f1.backend.domain.quiz.dto.GameQuestion;
 import io.f1.backend.domain.stat.app.StatService;
 import io.f1.backend.domain.user.dto.UserPrincipal;
 import io.f1.backend.global.exception.CustomException;
 import io.f1.backend.global.exception.errorcode.GameErrorCode;
 import io.f1.backend.global.exception.errorcode.RoomErrorCode;
-import io.f1.backend.global.lock.DistributedLock;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 @Slf4j
@@ -63,9 +67,17 @@ public class GameService {
     private final MessageSender messageSender;
     private final RoomRepository roomRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final RoomCommandExecutor roomCommandExecutor;
+
+    // true 면 정답 처리 때 전체 순위 대신 바뀐 플레이어 한 명의 순위만 보낸다 (입장/재연결/게임 시작은 항상 전체 순위)
+    @Value("${game.rank.delta-enabled:false}")
+    private boolean rankDeltaEnabled;
 
-    @DistributedLock(prefix = "room", key = "#roomId")
     public void gameStart(Long roomId, UserPrincipal principal) {
+        roomCommandExecutor.executeWithRoomLock(roomId, () -> performGameStart(roomId, principal));
+    }
+
+    private void performGameStart(Long roomId, UserPrincipal principal) {
 
         String destination = getDestination(roomId);
 
@@ -76,23 +88,29 @@ public class GameService {
 
         validateRoomStart(room, principal);
 
-        Long quizId = room.getGameSetting().getQuizId();
-        Quiz quiz = quizService.findQuizById(quizId);
-        Long questionsCount = quizService.getQuestionsCount(quizId);
-        List<Question> questions = prepareQuestions(room, quiz);
+        // 게임 팩은 캐시에서 읽으므로 시작할 때마다 퀴즈 전체를 조회하지 않는다
+        GamePack gamePack = quizService.getGamePack(room.getGameSetting().getQuizId());
+        List<GameQuestion> questions = quizService.sampleQuestions(gamePack, room.getRound());
+
+        // 고른 뒤에 삭제된 문제는 빠지므로, 타이머와 결과가 보는 라운드 수를 실제 문제 수에 맞춘다
+        if (questions.isEmpty()) {
+            throw new CustomException(GameErrorCode.GAME_SETTING_CONFLICT);
+        }
+        room.limitRound(questions.size());
 
         room.updateQuestions(questions);
         room.increaseCurrentRound();
         room.updateRoomState(RoomState.PLAYING);
 
-        eventPublisher.publishEvent(new RoomUpdatedEvent(room, quiz, questionsCount));
+        eventPublisher.publishEvent(
+                new RoomUpdatedEvent(room, gamePack, gamePack.questionCount()));
 
         timerService.startTimer(room, START_DELAY);
 
         messageSender.sendBroadcast(
                 destination,
                 MessageType.GAME_START,
-                toGameStartResponse(quiz.getQuizType(), questions));
+                toGameStartResponse(gamePack.quizType(), questions));
         messageSender.sendBroadcast(
                 destination, MessageType.RANK_UPDATE, toRankUpdateResponse(room));
         messageSender.sendBroadcast(
@@ -112,23 +130,30 @@ public class GameService {
 
         String destination = getDestination(room.getId());
 
-        room.increasePlayerCorrectCount(userId);
-
-        messageSender.sendBroadcast(
-                destination,
-                MessageType.QUESTION_RESULT,
-                toQuestionResultResponse(chatMessage.nickname(), answer));
-        messageSender.sendBroadcast(
-                destination, MessageType.RANK_UPDATE, toRankUpdateResponse(room));
-        messageSender.sendBroadcast(
-                destination,
-                MessageType.SYSTEM_NOTICE,
-                ofPlayerEvent(chatMessage.nickname(), RoomEventType.CORRECT_ANSWER));
+        RankChange rankChange = room.increasePlayerCorrectCount(userId);
+
+        // 라운드 전환 메시지는 한 번에 모아 보낸다
+        List<DefaultWebSocketResponse<?>> transition = new ArrayList<>();
+        transition.add(
+                new DefaultWebSocketResponse<>(
+                        MessageType.QUESTION_RESULT,
+                        toQuestionResultResponse(chatMessage.nickname(), answer)));
+        transition.add(
+                rankDeltaEnabled
+                        ? new DefaultWebSocketResponse<>(
+                                MessageType.RANK_DELTA, toRankDeltaResponse(rankChange))
+                        : new DefaultWebSocketResponse<>(
+                                MessageType.RANK_UPDATE, toRankUpdateResponse(room)));
+        transition.add(
+                new DefaultWebSocketResponse<>(
+                        MessageType.SYSTEM_NOTICE,
+                        ofPlayerEvent(chatMessage.nickname(), RoomEventType.CORRECT_ANSWER)));
 
         timerService.cancelTimer(room);
         room.compareAndSetAnsweredFlag(true, false);
 
         if (!timerService.validateCurrentRound(room)) {
+            messageSender.sendBundle(destination, transition);
             gameEnd(room);
             return;
         }
@@ -137,16 +162,20 @@ public class GameService {
 
         // 타이머 추가하기
         timerService.startTimer(room, CONTINUE_DELAY);
-        messageSender.sendBroadcast(
-                destination,
-                MessageType.QUESTION_START,
-                toQuestionStartResponse(room, CONTINUE_DELAY));
+        transition.add(
+                new DefaultWebSocketResponse<>(
+                        MessageType.QUESTION_START,
+                        toQuestionStartResponse(room, CONTINUE_DELAY)));
+        messageSender.sendBundle(destination, transition);
     }
 
     @EventListener
     public void onTimeout(GameTimeoutEvent event) {
         Room room = event.room();
+        roomCommandExecutor.execute(room.getId(), () -> handleTimeout(room));
+    }
 
+    private void handleTimeout(Room room) {
         // false -> true 여야 하는데 실패했을 때 => 이미 정답 처리가 된 경우 (onCorrectAnswer 로직 실행 중)
         if (!room.compareAndSetAnsweredFlag(false, true)) {
             return;
@@ -156,16 +185,19 @@ public class GameService {
 
         String destination = getDestination(room.getId());
 
-        messageSender.sendBroadcast(
-                destination,
-                MessageType.QUESTION_RESULT,
-                toQuestionResultResponse(NONE_CORRECT_USER, room.getCurrentQuestion().getAnswer()));
-        messageSender.sendBroadcast(
-                destination,
-                MessageType.SYSTEM_NOTICE,
-                ofPlayerEvent(NONE_CORRECT_USER, RoomEventType.TIMEOUT));
+        List<DefaultWebSocketResponse<?>> transition = new ArrayList<>();
+        transition.add(
+                new DefaultWebSocketResponse<>(
+                        MessageType.QUESTION_RESULT,
+                        toQuestionResultResponse(
+                                NONE_CORRECT_USER, room.getCurrentQuestion().answer())));
+        transition.add(
+                new DefaultWebSocketResponse<>(
+                        MessageType.SYSTEM_NOTICE,
+                        ofPlayerEvent(NONE_CORRECT_USER, RoomEventType.TIMEOUT)));
 
         if (!timerService.validateCurrentRound(room)) {
+            messageSender.sendBundle(destination, transition);
             gameEnd(room);
             return;
         }
@@ -173,10 +205,11 @@ public class GameService {
         room.increaseCurrentRound();
 
         timerService.startTimer(room, CONTINUE_DELAY);
-        messageSender.sendBroadcast(
-                destination,
-                MessageType.QUESTION_START,
-                toQuestionStartResponse(room, CONTINUE_DELAY));
+        transition.add(
+                new DefaultWebSocketResponse<>(
+                        MessageType.QUESTION_START,
+                        toQuestionStartResponse(room, CONTINUE_DELAY)));
+        messageSender.sendBundle(destination, transition);
 
         room.compareAndSetAnsweredFlag(true, false);
     }
@@ -185,10 +218,8 @@ public class GameService {
         Long roomId = room.getId();
         String destination = getDestination(roomId);
 
-        Map<Long, Player> playerMap = room.getPlayerMap();
-
         GameResultListResponse gameResultListResponse =
-                toGameResultListResponse(playerMap, room.getGameSetting().getRound());
+                toGameResultListResponse(room.getRankedPlayers(), room.getGameSetting().getRound());
 
         messageSender.sendBroadcast(destination, MessageType.GAME_RESULT, gameResultListResponse);
 
@@ -208,13 +239,16 @@ public class GameService {
 
         room.updateRoomState(RoomState.WAITING);
 
+        GamePack gamePack = quizService.getGamePack(room.getGameSetting().getQuizId());
+
+        // 로비 목록에도 대기 중으로 바뀐 상태를 알린다
+        eventPublisher.publishEvent(
+                new RoomUpdatedEvent(room, gamePack, gamePack.questionCount()));
+
         messageSender.sendBroadcast(
                 destination,
                 MessageType.GAME_SETTING,
-                toGameSettingResponse(
-                        room.getGameSetting(),
-                        quizService.findQuizById(room.getGameSetting().getQuizId()),
-                        room.getRound()));
+                toGameSettingResponse(room.getGameSetting(), gamePack, room.getRound()));
         messageSender.sendBroadcast(
                 destination, MessageType.ROOM_SETTING, toRoomSettingResponse(room));
     }
@@ -244,8 +278,12 @@ public class GameService {
         }
     }
 
-    @DistributedLock(prefix = "room", key = "#roomId")
     public void handlePlayerReady(Long roomId, UserPrincipal userPrincipal) {
+        roomCommandExecutor.executeWithRoomLock(
+                roomId, () -> performPlayerReady(roomId, userPrincipal));
+    }
+
+    private void performPlayerReady(Long roomId, UserPrincipal userPrincipal) {
 
         Room room = findRoom(roomId);
 
@@ -261,6 +299,12 @@ public class GameService {
 
     public void changeGameSetting(
             Long roomId, UserPrincipal principal, GameSettingChanger request) {
+        roomCommandExecutor.executeWithRoomLock(
+                roomId, () -> performChangeGameSetting(roomId, principal, request));
+    }
+
+    private void performChangeGameSetting(
+            Long roomId, UserPrincipal principal, GameSettingChanger request) {
         Room room = findRoom(roomId);
         validateHostAndState(room, principal);
 
@@ -286,13 +330,6 @@ public class GameService {
         }
     }
 
-    // 라운드 수만큼 랜덤 Question 추출
-    private List<Question> prepareQuestions(Room room, Quiz quiz) {
-        Long quizId = quiz.getId();
-        Integer round = room.getRound();
-        return quizService.getRandomQuestionsWithoutAnswer(quizId, round);
-    }
-
     private Room findRoom(Long roomId) {
         return roomRepository
                 .findRoom(roomId)
@@ -319,11 +356,11 @@ public class GameService {
 
     private void broadcastGameSetting(Room room) {
         String destination = getDestination(room.getId());
-        Quiz quiz = quizService.findQuizById(room.getGameSetting().getQuizId());
-        Long questionsCount = quizService.getQuestionsCount(quiz.getId());
+        GamePack gamePack = quizService.getGamePack(room.getGameSetting().getQuizId());
         messageSender.sendBroadcast(
                 destination,
                 MessageType.GAME_SETTING,
-                toGameSettingResponse(room.getGameSetting(), quiz, questionsCount));
+                toGameSettingResponse(
+                        room.getGameSetting(), gamePack, gamePack.questionCount()));
     }
 }
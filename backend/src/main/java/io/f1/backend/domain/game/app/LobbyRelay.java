@@ -0,0 +1,16 @@
+package io.f1.backend.domain.game.app;
+
+import io.f1.backend.domain.game.dto.response.RoomResponse;
+
+/**
+ * 이 노드가 가진 방의 로비 변경을 다른 노드에 알린다.
+ *
+ * <p>{@code game.cluster.enabled} 로 선택한다. 기본값인 {@link LocalLobbyRelay} 는 아무것도 하지 않고, {@link
+ * RedisLobbyRelay} 는 Redis pub/sub 으로 모든 노드에 보낸다.
+ */
+public interface LobbyRelay {
+
+    void publishSaved(RoomResponse room, Long quizId);
+
+    void publishRemoved(Long roomId);
+}
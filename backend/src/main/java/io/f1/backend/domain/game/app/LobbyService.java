@@ -0,0 +1,69 @@
+package io.f1.backend.domain.game.app;
+
+import static io.f1.backend.domain.game.mapper.RoomMapper.toRoomResponse;
+
+import io.f1.backend.domain.game.dto.request.RoomSearchCondition;
+import io.f1.backend.domain.game.dto.response.RoomListResponse;
+import io.f1.backend.domain.game.dto.response.RoomResponse;
+import io.f1.backend.domain.game.event.RoomCreatedEvent;
+import io.f1.backend.domain.game.event.RoomDeletedEvent;
+import io.f1.backend.domain.game.event.RoomUpdatedEvent;
+import io.f1.backend.domain.game.model.Room;
+import io.f1.backend.domain.game.store.LobbyRoomRepository;
+import io.f1.backend.domain.game.store.RoomRepository;
+import io.f1.backend.domain.quiz.dto.GamePack;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 방 생성/변경/삭제 이벤트로 로비 방 목록을 갱신한다. 이벤트는 방 락 안에서 발행되므로 같은 방의 이벤트는 순서대로 들어오고, 응답은 발행하는
+ * 순간의 방 상태로 만든다.
+ *
+ * <p>여기서 다루는 것은 이 노드가 가진 방뿐이다. 바뀐 내용은 {@link LobbyRelay} 로 다른 노드에도 알린다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LobbyService {
+
+    private final RoomRepository roomRepository;
+    private final LobbyRoomRepository lobbyRoomRepository;
+    private final LobbyRelay lobbyRelay;
+
+    @EventListener
+    public void onRoomCreated(RoomCreatedEvent event) {
+        save(event.room(), event.gamePack());
+    }
+
+    @EventListener
+    public void onRoomUpdated(RoomUpdatedEvent event) {
+        Room room = event.room();
+
+        // 이미 삭제된 방이 목록에 다시 생기지 않도록 한다
+        if (roomRepository.findRoom(room.getId()).isEmpty()) {
+            return;
+        }
+        save(room, event.gamePack());
+    }
+
+    @EventListener
+    public void onRoomDeleted(RoomDeletedEvent event) {
+        lobbyRoomRepository.remove(event.roomId());
+        lobbyRelay.publishRemoved(event.roomId());
+    }
+
+    /**
+     * @param cursor 이전 페이지의 {@link RoomListResponse#nextCursor()}. 첫 페이지면 null
+     */
+    public RoomListResponse getRooms(RoomSearchCondition condition, Long cursor, int size) {
+        return lobbyRoomRepository.findPage(condition, cursor, size);
+    }
+
+    private void save(Room room, GamePack gamePack) {
+        RoomResponse response = toRoomResponse(room, gamePack, gamePack.questionCount());
+        lobbyRoomRepository.save(response, gamePack.quizId());
+        lobbyRelay.publishSaved(response, gamePack.quizId());
+    }
+}
@@ -0,0 +1,18 @@
+package io.f1.backend.domain.game.app;
+
+import io.f1.backend.domain.game.dto.response.RoomResponse;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/** 단일 노드 배포용. 알릴 다른 노드가 없다. */
+@Component
+@ConditionalOnProperty(name = "game.cluster.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalLobbyRelay implements LobbyRelay {
+
+    @Override
+    public void publishSaved(RoomResponse room, Long quizId) {}
+
+    @Override
+    public void publishRemoved(Long roomId) {}
+}
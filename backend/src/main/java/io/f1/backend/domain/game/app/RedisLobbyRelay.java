@@ -0,0 +1,238 @@
+package io.f1.backend.domain.game.app;
+
+import static io.f1.backend.domain.game.sse.mapper.SseMapper.fromRoomCreated;
+import static io.f1.backend.domain.game.sse.mapper.SseMapper.fromRoomDeleted;
+import static io.f1.backend.domain.game.sse.mapper.SseMapper.fromRoomUpdated;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.f1.backend.domain.game.dto.LobbyClusterMessage;
+import io.f1.backend.domain.game.dto.LobbyClusterMessage.Type;
+import io.f1.backend.domain.game.dto.response.RoomResponse;
+import io.f1.backend.domain.game.event.RoomDeletedEvent;
+import io.f1.backend.domain.game.sse.app.LobbyEventCoalescer;
+import io.f1.backend.domain.game.store.LobbyRoomRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis pub/sub 로 노드들의 로비를 합친다. 이 노드가 가진 방의 변경을 채널에 발행하고, 다른 노드가 발행한 변경은 로비 방 목록에 반영한 뒤 이
+ * 노드의 SSE 구독자에게 보낸다.
+ *
+ * <p>발행은 스레드 하나에서 순서대로 한다. 그래서 같은 방의 변경은 일어난 순서대로 나가고, 방 락을 잡은 스레드가 Redis 왕복을 기다리지 않는다.
+ * 구독을 시작하거나 다시 연결되면 SYNC 를 보내 다른 노드들이 자기 방을 모두 다시 보내게 한다. 하트비트가 끊긴 노드의 방은 로비에서 지운다.
+ * 모르는 노드(처음 보거나 만료시킨 노드)의 메시지를 받으면 그 노드에만 SYNC 를 보내, 잠시 멈췄다 돌아온 노드의 방도 다시 채운다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "game.cluster.enabled", havingValue = "true")
+public class RedisLobbyRelay implements LobbyRelay {
+
+    static final String CHANNEL = "lobby:events";
+
+    private static final long HEARTBEAT_INTERVAL_MILLIS = 10_000L;
+    private static final long NODE_TIMEOUT_MILLIS = 3 * HEARTBEAT_INTERVAL_MILLIS;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 1_000L;
+
+    private final RTopic topic;
+    private final String nodeId;
+    private final ObjectMapper objectMapper;
+    private final LobbyRoomRepository lobbyRoomRepository;
+    private final LobbyEventCoalescer lobbyEventCoalescer;
+    private final ExecutorService publishExecutor =
+            Executors.newSingleThreadExecutor(
+                    Thread.ofPlatform().name("lobby-relay").daemon().factory());
+
+    // 다른 노드가 가진 방 id -> 그 노드 id. 이 모니터 안에서만 읽고 쓴다
+    private final Map<Long, String> remoteRooms = new HashMap<>();
+    private final Map<String, Long> lastSeenMillis = new HashMap<>();
+
+    public RedisLobbyRelay(
+            RedissonClient redissonClient,
+            ObjectMapper objectMapper,
+            LobbyRoomRepository lobbyRoomRepository,
+            LobbyEventCoalescer lobbyEventCoalescer,
+            MeterRegistry meterRegistry) {
+        this.topic = redissonClient.getTopic(CHANNEL, StringCodec.INSTANCE);
+        this.nodeId = redissonClient.getId();
+        this.objectMapper = objectMapper;
+        this.lobbyRoomRepository = lobbyRoomRepository;
+        this.lobbyEventCoalescer = lobbyEventCoalescer;
+        Gauge.builder("lobby.cluster.remote.rooms", this, RedisLobbyRelay::remoteRoomCount)
+                .description("다른 노드가 가진 로비 방 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        topic.addListener(String.class, (channel, message) -> receive(message));
+        topic.addListener(
+                new BaseStatusListener() {
+                    @Override
+                    public void onSubscribe(String channel) {
+                        publish(LobbyClusterMessage.of(nodeId, Type.SYNC));
+                    }
+                });
+    }
+
+    @Override
+    public void publishSaved(RoomResponse room, Long quizId) {
+        publish(LobbyClusterMessage.saved(nodeId, room, quizId));
+    }
+
+    @Override
+    public void publishRemoved(Long roomId) {
+        publish(LobbyClusterMessage.removed(nodeId, roomId));
+    }
+
+    @Scheduled(fixedRate = HEARTBEAT_INTERVAL_MILLIS)
+    public void heartbeat() {
+        publish(LobbyClusterMessage.of(nodeId, Type.HEARTBEAT));
+        removeExpiredNodes(System.currentTimeMillis() - NODE_TIMEOUT_MILLIS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 남은 변경을 먼저 보내고 LEAVE 로 끝낸다
+        publish(LobbyClusterMessage.of(nodeId, Type.LEAVE));
+        publishExecutor.shutdown();
+        try {
+            publishExecutor.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void receive(String payload) {
+        LobbyClusterMessage message;
+        try {
+            message = objectMapper.readValue(payload, LobbyClusterMessage.class);
+        } catch (JsonProcessingException e) {
+            log.warn("[RedisLobbyRelay] Failed to decode lobby message", e);
+            return;
+        }
+        if (nodeId.equals(message.nodeId())) {
+            return;
+        }
+        apply(message);
+    }
+
+    private synchronized void apply(LobbyClusterMessage message) {
+        boolean unknown =
+                lastSeenMillis.put(message.nodeId(), System.currentTimeMillis()) == null;
+        if (unknown && message.type() != Type.LEAVE) {
+            publish(LobbyClusterMessage.syncFrom(nodeId, message.nodeId()));
+        }
+        switch (message.type()) {
+            case SAVE -> saveRemote(message);
+            case REMOVE -> removeRemote(message.roomId());
+            case SYNC -> {
+                if (message.targetNodeId() == null || nodeId.equals(message.targetNodeId())) {
+                    publishExecutor.execute(this::sendLocalRooms);
+                }
+            }
+            case LEAVE -> {
+                lastSeenMillis.remove(message.nodeId());
+                removeRoomsOf(message.nodeId());
+            }
+            case HEARTBEAT -> {}
+        }
+    }
+
+    private void saveRemote(LobbyClusterMessage message) {
+        RoomResponse room = message.room();
+        boolean known = remoteRooms.put(room.roomId(), message.nodeId()) != null;
+        lobbyRoomRepository.save(room, message.quizId());
+        // 처음 보는 방은 UPDATE 만으로는 로비에 그릴 수 없다
+        lobbyEventCoalescer.submit(
+                room.roomId(), known ? fromRoomUpdated(room) : fromRoomCreated(room));
+    }
+
+    private void removeRemote(Long roomId) {
+        if (remoteRooms.remove(roomId) == null) {
+            return;
+        }
+        lobbyRoomRepository.remove(roomId);
+        lobbyEventCoalescer.submit(roomId, fromRoomDeleted(new RoomDeletedEvent(roomId)));
+    }
+
+    private void removeRoomsOf(String remoteNodeId) {
+        List<Long> roomIds = new ArrayList<>();
+        remoteRooms.forEach(
+                (roomId, owner) -> {
+                    if (owner.equals(remoteNodeId)) {
+                        roomIds.add(roomId);
+                    }
+                });
+        roomIds.forEach(this::removeRemote);
+    }
+
+    synchronized void removeExpiredNodes(long deadlineMillis) {
+        List<String> expired = new ArrayList<>();
+        lastSeenMillis.forEach(
+                (remoteNodeId, seenMillis) -> {
+                    if (seenMillis < deadlineMillis) {
+                        expired.add(remoteNodeId);
+                    }
+                });
+        for (String remoteNodeId : expired) {
+            log.warn(
+                    "[RedisLobbyRelay] Lobby node timed out, removing its rooms: {}",
+                    remoteNodeId);
+            lastSeenMillis.remove(remoteNodeId);
+            removeRoomsOf(remoteNodeId);
+        }
+    }
+
+    // 발행 스레드에서 실행되므로 여기서 읽은 방보다 먼저 일어난 변경은 이미 나갔고, 나중 변경은 이 뒤에 나간다
+    private void sendLocalRooms() {
+        List<LobbyClusterMessage> localRooms = new ArrayList<>();
+        synchronized (this) {
+            for (RoomResponse room : lobbyRoomRepository.findAll()) {
+                if (!remoteRooms.containsKey(room.roomId())) {
+                    Long quizId = lobbyRoomRepository.findQuizId(room.roomId()).orElse(null);
+                    localRooms.add(LobbyClusterMessage.saved(nodeId, room, quizId));
+                }
+            }
+        }
+        localRooms.forEach(this::send);
+    }
+
+    private void publish(LobbyClusterMessage message) {
+        publishExecutor.execute(() -> send(message));
+    }
+
+    private void send(LobbyClusterMessage message) {
+        try {
+            topic.publish(objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn("[RedisLobbyRelay] Failed to publish lobby {} message", message.type(), e);
+        }
+    }
+
+    private synchronized int remoteRoomCount() {
+        return remoteRooms.size();
+    }
+}
@@ -5,7 +5,6 @@ import static io.f1.backend.domain.game.mapper.RoomMapper.toGameSetting;
 import static io.f1.backend.domain.game.mapper.RoomMapper.toGameSettingResponse;
 import static io.f1.backend.domain.game.mapper.RoomMapper.toPlayerListResponse;
 import static io.f1.backend.domain.game.mapper.RoomMapper.toRankUpdateResponse;
-import static io.f1.backend.domain.game.mapper.RoomMapper.toRoomResponse;
 import static io.f1.backend.domain.game.mapper.RoomMapper.toRoomSetting;
 import static io.f1.backend.domain.game.mapper.RoomMapper.toRoomSettingResponse;
 import static io.f1.backend.domain.game.websocket.WebSocketUtils.getDestination;
@@ -23,35 +22,36 @@ import io.f1.backend.domain.game.dto.response.ExitSuccessResponse;
 import io.f1.backend.domain.game.dto.response.GameSettingResponse;
 import io.f1.backend.domain.game.dto.response.PlayerListResponse;
 import io.f1.backend.domain.game.dto.response.RoomCreateResponse;
-import io.f1.backend.domain.game.dto.response.RoomListResponse;
-import io.f1.backend.domain.game.dto.response.RoomResponse;
 import io.f1.backend.domain.game.dto.response.RoomSettingResponse;
 import io.f1.backend.domain.game.dto.response.SystemNoticeResponse;
 import io.f1.backend.domain.game.event.RoomCreatedEvent;
 import io.f1.backend.domain.game.event.RoomDeletedEvent;
 import io.f1.backend.domain.game.event.RoomUpdatedEvent;
+import io.f1.backend.domain.game.executor.RoomCommandExecutor;
 import io.f1.backend.domain.game.model.ConnectionState;
 import io.f1.backend.domain.game.model.GameSetting;
 import io.f1.backend.domain.game.model.Player;
 import io.f1.backend.domain.game.model.Room;
 import io.f1.backend.domain.game.model.RoomSetting;
+import io.f1.backend.domain.game.store.RoomIdGenerator;
 import io.f1.backend.domain.game.store.RoomRepository;
 import io.f1.backend.domain.game.store.UserRoomRepository;
+import io.f1.backend.domain.game.store.UserRoomSnapshot;
 import io.f1.backend.domain.game.websocket.DisconnectTaskManager;
 import io.f1.backend.domain.game.websocket.MessageSender;
 import io.f1.backend.domain.quiz.app.QuizService;
+import io.f1.backend.domain.quiz.dto.GamePack;
 import io.f1.backend.domain.quiz.dto.QuizMinData;
-import io.f1.backend.domain.quiz.entity.Quiz;
 import io.f1.backend.domain.user.dto.UserPrincipal;
 import io.f1.backend.global.exception.CustomException;
 import io.f1.backend.global.exception.errorcode.RoomErrorCode;
 import io.f1.backend.global.exception.errorcode.UserErrorCode;
-import io.f1.backend.global.lock.DistributedLock;
 import io.f1.backend.global.lock.LockExecutor;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
@@ -59,7 +59,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
@@ -69,13 +68,18 @@ public class RoomService {
     private final QuizService quizService;
     private final RoomRepository roomRepository;
     private final UserRoomRepository userRoomRepository;
-    private final AtomicLong roomIdGenerator = new AtomicLong(0);
+    private final RoomIdGenerator roomIdGenerator;
     private final ApplicationEventPublisher eventPublisher;
     private final Map<String, Long> sessionRoomMap = new ConcurrentHashMap<>();
 
     private final DisconnectTaskManager disconnectTasks;
     private final MessageSender messageSender;
     private final LockExecutor lockExecutor;
+    private final RoomCommandExecutor roomCommandExecutor;
+
+    // 켜져 있으면 클라이언트가 순위 delta 를 이어 붙이므로, 게임 중 퇴장으로 순위가 바뀌면 전체 순위를 다시 보내야 한다
+    @Value("${game.rank.delta-enabled:false}")
+    private boolean rankDeltaEnabled;
 
     public static final String ROOM_LOCK_PREFIX = "room";
     public static final String USER_LOCK_PREFIX = "user";
@@ -84,7 +88,7 @@ public class RoomService {
 
         QuizMinData quizMinData = quizService.getQuizMinData();
 
-        Quiz quiz = quizService.findQuizById(quizMinData.quizMinId());
+        GamePack gamePack = quizService.getGamePack(quizMinData.quizMinId());
 
         GameSetting gameSetting = toGameSetting(quizMinData);
 
@@ -92,7 +96,7 @@ public class RoomService {
 
         RoomSetting roomSetting = toRoomSetting(request);
 
-        Long newId = roomIdGenerator.incrementAndGet();
+        Long newId = roomIdGenerator.nextId();
 
         Room room = new Room(newId, roomSetting, gameSetting, host);
 
@@ -106,7 +110,7 @@ public class RoomService {
                 host.getId(),
                 () -> exitIfInAnotherRoom(room, getCurrentUserPrincipal()));
 
-        eventPublisher.publishEvent(new RoomCreatedEvent(room, quiz, gameSetting.getRound()));
+        eventPublisher.publishEvent(new RoomCreatedEvent(room, gamePack, gameSetting.getRound()));
 
         return new RoomCreateResponse(newId);
     }
@@ -123,8 +127,7 @@ public class RoomService {
                 getCurrentUserId(),
                 () -> exitIfInAnotherRoom(room, getCurrentUserPrincipal()));
 
-        lockExecutor.executeWithLock(
-                ROOM_LOCK_PREFIX, roomId, () -> performEnterRoomLogic(request));
+        roomCommandExecutor.executeWithRoomLock(roomId, () -> performEnterRoomLogic(request));
     }
 
     private void performEnterRoomLogic(RoomValidationRequest request) {
@@ -162,96 +165,81 @@ public class RoomService {
         Long joinedRoomId = getRoomIdByUserId(userId);
 
         if (joinedRoomId != null && !room.isSameRoom(joinedRoomId)) {
-            lockExecutor.executeWithLock(
-                    ROOM_LOCK_PREFIX,
-                    joinedRoomId,
-                    () -> disconnectOrExitRoom(joinedRoomId, userPrincipal));
+            roomCommandExecutor.executeWithRoomLock(
+                    joinedRoomId, () -> disconnectOrExitRoom(joinedRoomId, userPrincipal));
         }
     }
 
     public void initializeRoomSocket(Long roomId, UserPrincipal principal) {
+        initializeRoomSocket(roomId, principal, null);
+    }
+
+    public void initializeRoomSocket(Long roomId, UserPrincipal principal, Long lastSequence) {
 
         Long userId = principal.getUserId();
 
-        lockExecutor.executeWithLock(
-                USER_LOCK_PREFIX,
+        roomCommandExecutor.executeWithUserAndRoomLock(
                 userId,
+                roomId,
                 () -> {
-                    lockExecutor.executeWithLock(
-                            ROOM_LOCK_PREFIX,
-                            roomId,
-                            () -> {
-                                Room room = findRoom(roomId);
-
-                                if (!room.hasPlayer(userId)) {
-                                    throw new CustomException(RoomErrorCode.ROOM_ENTER_REQUIRED);
-                                }
-
-                                /* 재연결 */
-                                if (room.isPlayerInState(userId, ConnectionState.DISCONNECTED)) {
-                                    changeConnectedStatus(
-                                            roomId, userId, ConnectionState.CONNECTED);
-                                    cancelTask(userId);
-                                    reconnectSendResponse(roomId, principal);
-                                    return;
-                                }
-
-                                Player player = createPlayer(principal);
-
-                                RoomSettingResponse roomSettingResponse =
-                                        toRoomSettingResponse(room);
-
-                                Long quizId = room.getGameSetting().getQuizId();
-                                Quiz quiz = quizService.getQuizWithQuestionsById(quizId);
-
-                                GameSettingResponse gameSettingResponse =
-                                        toGameSettingResponse(
-                                                room.getGameSetting(),
-                                                quiz,
-                                                quiz.getQuestions().size());
-
-                                PlayerListResponse playerListResponse = toPlayerListResponse(room);
-
-                                SystemNoticeResponse systemNoticeResponse =
-                                        ofPlayerEvent(player.getNickname(), RoomEventType.ENTER);
-
-                                String destination = getDestination(roomId);
-
-                                userRoomRepository.addUser(player, room);
-
-                                messageSender.sendPersonal(
-                                        getUserDestination(),
-                                        MessageType.GAME_SETTING,
-                                        gameSettingResponse,
-                                        principal.getName());
-
-                                messageSender.sendBroadcast(
-                                        destination, MessageType.ROOM_SETTING, roomSettingResponse);
-                                messageSender.sendBroadcast(
-                                        destination, MessageType.PLAYER_LIST, playerListResponse);
-                                messageSender.sendBroadcast(
-                                        destination,
-                                        MessageType.SYSTEM_NOTICE,
-                                        systemNoticeResponse);
-
-                                eventPublisher.publishEvent(
-                                        new RoomUpdatedEvent(
-                                                room, quiz, quiz.getQuestions().size()));
-                            });
+                    Room room = findRoom(roomId);
+
+                    if (!room.hasPlayer(userId)) {
+                        throw new CustomException(RoomErrorCode.ROOM_ENTER_REQUIRED);
+                    }
+
+                    /* 재연결 */
+                    if (room.isPlayerInState(userId, ConnectionState.DISCONNECTED)) {
+                        changeConnectedStatus(roomId, userId, ConnectionState.CONNECTED);
+                        cancelTask(userId);
+                        reconnectSendResponse(roomId, principal, lastSequence);
+                        return;
+                    }
+
+                    Player player = createPlayer(principal);
+
+                    RoomSettingResponse roomSettingResponse = toRoomSettingResponse(room);
+
+                    Long quizId = room.getGameSetting().getQuizId();
+                    GamePack gamePack = quizService.getGamePack(quizId);
+
+                    GameSettingResponse gameSettingResponse =
+                            toGameSettingResponse(
+                                    room.getGameSetting(), gamePack, gamePack.questionCount());
+
+                    PlayerListResponse playerListResponse = toPlayerListResponse(room);
+
+                    SystemNoticeResponse systemNoticeResponse =
+                            ofPlayerEvent(player.getNickname(), RoomEventType.ENTER);
+
+                    String destination = getDestination(roomId);
+
+                    userRoomRepository.addUser(player, room);
+
+                    messageSender.sendPersonal(
+                            getUserDestination(),
+                            MessageType.GAME_SETTING,
+                            gameSettingResponse,
+                            principal.getName());
+
+                    messageSender.sendBroadcast(
+                            destination, MessageType.ROOM_SETTING, roomSettingResponse);
+                    messageSender.sendBroadcast(
+                            destination, MessageType.PLAYER_LIST, playerListResponse);
+                    messageSender.sendBroadcast(
+                            destination, MessageType.SYSTEM_NOTICE, systemNoticeResponse);
+
+                    eventPublisher.publishEvent(
+                            new RoomUpdatedEvent(room, gamePack, gamePack.questionCount()));
                 });
     }
 
     public void exitRoomWithLock(Long roomId, UserPrincipal principal) {
-        lockExecutor.executeWithLock(
-                USER_LOCK_PREFIX,
+        roomCommandExecutor.executeWithUserAndRoomLock(
                 principal.getUserId(),
+                roomId,
                 () -> {
-                    lockExecutor.executeWithLock(
-                            ROOM_LOCK_PREFIX,
-                            roomId,
-                            () -> {
-                                exitRoom(roomId, principal);
-                            });
+                    exitRoom(roomId, principal);
                 });
     }
 
@@ -267,7 +255,7 @@ public class RoomService {
 
         String destination = getDestination(roomId);
 
-        cleanRoom(room, removePlayer);
+        boolean roomRemoved = cleanRoom(room, removePlayer);
 
         messageSender.sendPersonal(
                 getUserDestination(),
@@ -275,6 +263,10 @@ public class RoomService {
                 new ExitSuccessResponse(true),
                 principal.getName());
 
+        if (roomRemoved) {
+            return;
+        }
+
         SystemNoticeResponse systemNoticeResponse =
                 ofPlayerEvent(removePlayer.nickname, RoomEventType.EXIT);
 
@@ -284,34 +276,43 @@ public class RoomService {
         messageSender.sendBroadcast(destination, MessageType.SYSTEM_NOTICE, systemNoticeResponse);
     }
 
-    public RoomListResponse getAllRooms() {
-        List<Room> rooms = roomRepository.findAll();
-        List<RoomResponse> roomResponses =
-                rooms.stream()
-                        .map(
-                                room -> {
-                                    Long quizId = room.getGameSetting().getQuizId();
-                                    Quiz quiz = quizService.findQuizById(quizId);
-                                    Long questionsCount = quizService.getQuestionsCount(quizId);
-                                    return toRoomResponse(room, quiz, questionsCount);
-                                })
-                        .toList();
-        return new RoomListResponse(roomResponses);
-    }
-
-    @DistributedLock(prefix = "room", key = "#roomId")
-    public void reconnectSendResponseWithLock(Long roomId, UserPrincipal principal) {
-        reconnectSendResponse(roomId, principal);
+    public void reconnectSendResponseWithLock(
+            Long roomId, UserPrincipal principal, Long lastSequence) {
+        roomCommandExecutor.executeWithRoomLock(
+                roomId, () -> reconnectSendResponse(roomId, principal, lastSequence));
     }
 
-    public void reconnectSendResponse(Long roomId, UserPrincipal principal) {
+    /**
+     * @param lastSequence 클라이언트가 마지막으로 받은 방송 메시지 번호. 그 뒤의 메시지가 기록에 남아 있으면 놓친 메시지만 다시 보내고,
+     *     없거나 null 이면 전체 상태를 보낸다.
+     */
+    public void reconnectSendResponse(Long roomId, UserPrincipal principal, Long lastSequence) {
         Room room = findRoom(roomId);
 
         String destination = getDestination(roomId);
         String userDestination = getUserDestination();
 
-        Long quizId = room.getQuizId();
-        Quiz quiz = quizService.findQuizById(quizId);
+        // 재연결 알림보다 먼저 보내야 알림이 놓친 메시지 목록에 섞이지 않는다
+        if (lastSequence != null
+                && messageSender.sendMissedEvents(
+                        destination, lastSequence, userDestination, principal.getName())) {
+            messageSender.sendBroadcast(
+                    destination,
+                    MessageType.SYSTEM_NOTICE,
+                    ofPlayerEvent(principal.getUserNickname(), RoomEventType.RECONNECT));
+            if (room.isPlaying()) {
+                messageSender.sendPersonal(
+                        userDestination,
+                        MessageType.SYSTEM_NOTICE,
+                        ofPlayerEvent(
+                                principal.getUserNickname(),
+                                RoomEventType.RECONNECT_PRIVATE_NOTICE),
+                        principal.getName());
+            }
+            return;
+        }
+
+        GamePack gamePack = quizService.getGamePack(room.getQuizId());
 
         messageSender.sendBroadcast(
                 destination,
@@ -333,15 +334,14 @@ public class RoomService {
             messageSender.sendPersonal(
                     userDestination,
                     MessageType.GAME_START,
-                    toGameStartResponse(quiz.getQuizType(), room.getQuestions()),
+                    toGameStartResponse(gamePack.quizType(), room.getQuestions()),
                     principal.getName());
         } else {
             RoomSettingResponse roomSettingResponse = toRoomSettingResponse(room);
 
-            Long questionsCount = quizService.getQuestionsCount(quizId);
-
             GameSettingResponse gameSettingResponse =
-                    toGameSettingResponse(room.getGameSetting(), quiz, questionsCount);
+                    toGameSettingResponse(
+                            room.getGameSetting(), gamePack, gamePack.questionCount());
 
             PlayerListResponse playerListResponse = toPlayerListResponse(room);
 
@@ -363,9 +363,9 @@ public class RoomService {
         }
     }
 
-    @DistributedLock(prefix = "room", key = "#roomId")
     public void changeConnectedStatusWithLock(Long roomId, Long userId, ConnectionState newState) {
-        changeConnectedStatus(roomId, userId, newState);
+        roomCommandExecutor.executeWithRoomLock(
+                roomId, () -> changeConnectedStatus(roomId, userId, newState));
     }
 
     public void changeConnectedStatus(Long roomId, Long userId, ConnectionState newState) {
@@ -427,37 +427,33 @@ public class RoomService {
     }
 
     public void exitRoomForDisconnectedPlayer(Long roomId, Player player) {
-        lockExecutor.executeWithLock(
-                USER_LOCK_PREFIX,
+        roomCommandExecutor.executeWithUserAndRoomLock(
                 player.getId(),
+                roomId,
                 () -> {
-                    lockExecutor.executeWithLock(
-                            ROOM_LOCK_PREFIX,
-                            roomId,
-                            () -> {
-                                // 연결 끊긴 플레이어 exit 로직 타게 해주기
-                                Room room = findRoom(roomId);
-
-                                cleanRoom(room, player);
-
-                                String destination = getDestination(roomId);
-
-                                SystemNoticeResponse systemNoticeResponse =
-                                        ofPlayerEvent(player.nickname, RoomEventType.EXIT);
-
-                                messageSender.sendBroadcast(
-                                        destination,
-                                        MessageType.SYSTEM_NOTICE,
-                                        systemNoticeResponse);
-                                messageSender.sendBroadcast(
-                                        destination,
-                                        MessageType.PLAYER_LIST,
-                                        toPlayerListResponse(room));
-                            });
+                    // 연결 끊긴 플레이어 exit 로직 타게 해주기
+                    Room room = findRoom(roomId);
+
+                    if (cleanRoom(room, player)) {
+                        return;
+                    }
+
+                    String destination = getDestination(roomId);
+
+                    SystemNoticeResponse systemNoticeResponse =
+                            ofPlayerEvent(player.nickname, RoomEventType.EXIT);
+
+                    messageSender.sendBroadcast(
+                            destination, MessageType.SYSTEM_NOTICE, systemNoticeResponse);
+                    messageSender.sendBroadcast(
+                            destination, MessageType.PLAYER_LIST, toPlayerListResponse(room));
                 });
     }
 
-    private void cleanRoom(Room room, Player player) {
+    /**
+     * @return 마지막 플레이어가 나가 방이 삭제되었으면 true. 삭제된 방으로는 더 이상 방송하지 않는다.
+     */
+    private boolean cleanRoom(Room room, Player player) {
 
         Long roomId = room.getId();
         Long userId = player.getId();
@@ -469,7 +465,7 @@ public class RoomService {
         if (room.isLastPlayer(player)) {
             removeRoom(room);
             eventPublisher.publishEvent(new RoomDeletedEvent(roomId));
-            return;
+            return true;
         }
 
         /* 방장 변경 */
@@ -480,11 +476,17 @@ public class RoomService {
         /* 플레이어 삭제 */
         room.removePlayer(player);
 
-        Long quizId = room.getQuizId();
-        Quiz quiz = quizService.findQuizById(quizId);
-        Long questionsCount = quizService.getQuestionsCount(quizId);
+        /* 순위 번호가 올라갔으므로 다음 RANK_DELTA 전에 전체 순위로 맞춘다 */
+        if (rankDeltaEnabled && room.isPlaying()) {
+            messageSender.sendBroadcast(
+                    getDestination(roomId), MessageType.RANK_UPDATE, toRankUpdateResponse(room));
+        }
+
+        GamePack gamePack = quizService.getGamePack(room.getQuizId());
 
-        eventPublisher.publishEvent(new RoomUpdatedEvent(room, quiz, questionsCount));
+        eventPublisher.publishEvent(
+                new RoomUpdatedEvent(room, gamePack, gamePack.questionCount()));
+        return false;
     }
 
     public void handleDisconnectedPlayers(Room room, List<Player> disconnectedPlayers) {
@@ -502,18 +504,21 @@ public class RoomService {
         userRoomRepository.removeUser(userId, roomId);
     }
 
-    @DistributedLock(prefix = "user", key = "#userId")
+    /* 유저-방 매핑 조회는 불변 스냅샷을 읽으므로 락이 필요 없다 */
     public boolean isUserInAnyRoom(Long userId) {
         return userRoomRepository.isUserInAnyRoom(userId);
     }
 
-    private Long getRoomIdByUserId(Long userId) {
+    public Long getRoomIdByUserId(Long userId) {
         return userRoomRepository.getRoomId(userId);
     }
 
-    @DistributedLock(prefix = "user", key = "#userId")
-    public Long getRoomIdByUserIdWithLock(Long userId) {
-        return userRoomRepository.getRoomId(userId);
+    public UserRoomSnapshot getUserRoomSnapshot(Long userId) {
+        return userRoomRepository.getSnapshot(userId);
+    }
+
+    public boolean isUserRoomUnchanged(Long userId, UserRoomSnapshot snapshot) {
+        return userRoomRepository.validate(userId, snapshot);
     }
 
     public void addSessionRoomId(String sessionId, Long roomId) {
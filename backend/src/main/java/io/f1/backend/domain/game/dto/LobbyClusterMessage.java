@@ -0,0 +1,44 @@
+package io.f1.backend.domain.game.dto;
+
+import io.f1.backend.domain.game.dto.response.RoomResponse;
+
+/**
+ * 노드 사이에 주고받는 로비 메시지. 방 변경은 그 방을 가진 노드만 발행한다.
+ *
+ * @param nodeId 발행한 노드
+ * @param room SAVE 일 때만 있다
+ * @param quizId SAVE 일 때만 있다
+ * @param targetNodeId SYNC 에 응답할 노드. null 이면 모든 노드가 응답한다
+ */
+public record LobbyClusterMessage(
+        String nodeId,
+        Type type,
+        Long roomId,
+        RoomResponse room,
+        Long quizId,
+        String targetNodeId) {
+
+    public enum Type {
+        SAVE, // 방이 생기거나 바뀌었다
+        REMOVE, // 방이 없어졌다
+        SYNC, // 다른 노드들(또는 targetNodeId 노드)의 방 목록을 요청한다
+        HEARTBEAT, // 살아 있는 노드가 주기적으로 보낸다
+        LEAVE // 노드가 내려간다
+    }
+
+    public static LobbyClusterMessage saved(String nodeId, RoomResponse room, Long quizId) {
+        return new LobbyClusterMessage(nodeId, Type.SAVE, room.roomId(), room, quizId, null);
+    }
+
+    public static LobbyClusterMessage removed(String nodeId, Long roomId) {
+        return new LobbyClusterMessage(nodeId, Type.REMOVE, roomId, null, null, null);
+    }
+
+    public static LobbyClusterMessage of(String nodeId, Type type) {
+        return new LobbyClusterMessage(nodeId, type, null, null, null, null);
+    }
+
+    public static LobbyClusterMessage syncFrom(String nodeId, String targetNodeId) {
+        return new LobbyClusterMessage(nodeId, Type.SYNC, null, null, null, targetNodeId);
+    }
+}
@@ -7,10 +7,13 @@ public enum MessageType {
     SYSTEM_NOTICE,
     GAME_START,
     CHAT,
+    CHAT_BATCH,
     QUESTION_RESULT,
     RANK_UPDATE,
+    RANK_DELTA,
     QUESTION_START,
     GAME_RESULT,
     EXIT_SUCCESS,
-    HEARTBEAT
+    HEARTBEAT,
+    BUNDLE
 }
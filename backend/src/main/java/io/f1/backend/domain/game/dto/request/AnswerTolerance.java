@@ -0,0 +1,29 @@
+package io.f1.backend.domain.game.dto.request;
+
+import io.f1.backend.global.exception.CustomException;
+import io.f1.backend.global.exception.errorcode.GameErrorCode;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+// 정답으로 인정할 최대 편집 거리(오타 수)
+@Getter
+public enum AnswerTolerance {
+    EXACT(0),
+    ONE(1),
+    TWO(2);
+
+    private final int value;
+
+    AnswerTolerance(int value) {
+        this.value = value;
+    }
+
+    public static AnswerTolerance from(int value) {
+        return Arrays.stream(values())
+                .filter(t -> t.value == value)
+                .findFirst()
+                .orElseThrow(() -> new CustomException(GameErrorCode.GAME_SETTING_CONFLICT));
+    }
+}
@@ -0,0 +1,16 @@
+package io.f1.backend.domain.game.dto.request;
+
+import io.f1.backend.domain.game.model.Room;
+import io.f1.backend.domain.quiz.app.QuizService;
+
+public record AnswerToleranceChangeRequest(int answerTolerance) implements GameSettingChanger {
+
+    @Override
+    public boolean change(Room room, QuizService quizService) {
+        if (room.getAnswerTolerance() == answerTolerance) {
+            return false; // 동일하면 무시
+        }
+        room.changeAnswerTolerance(AnswerTolerance.from(answerTolerance));
+        return true;
+    }
+}
@@ -22,8 +22,7 @@ public record QuizChangeRequest(long quizId) implements GameSettingChanger {
         if (room.getQuizId() == quizId) {
             return false; // 동일하면 무시
         }
-        Long questionsCount = quizService.getQuestionsCount(quizId);
-        room.changeQuiz(quizId, questionsCount.intValue());
+        room.changeQuiz(quizId, quizService.getGamePack(quizId).questionCount());
         room.resetAllPlayerReadyStates();
         return true;
     }
@@ -44,7 +43,7 @@ public record QuizChangeRequest(long quizId) implements GameSettingChanger {
         RoomUpdatedEvent roomUpdatedEvent =
                 new RoomUpdatedEvent(
                         room,
-                        quizService.findQuizById(room.getGameSetting().getQuizId()),
+                        quizService.getGamePack(room.getGameSetting().getQuizId()),
                         room.getGameSetting().getRound());
 
         eventPublisher.publishEvent(roomUpdatedEvent);
@@ -0,0 +1,30 @@
+package io.f1.backend.domain.game.dto.request;
+
+import io.f1.backend.domain.game.model.RoomState;
+
+/**
+ * 로비 방 목록 필터. null 인 조건은 적용하지 않는다.
+ *
+ * @param hasFreeSlot true 면 빈자리가 있는 방만, false 면 정원이 찬 방만
+ * @param namePrefix 방 이름 접두사. 대소문자를 구분하지 않는다
+ */
+public record RoomSearchCondition(
+        RoomState state, Boolean locked, Boolean hasFreeSlot, Long quizId, String namePrefix) {
+
+    public static final RoomSearchCondition NONE =
+            new RoomSearchCondition(null, null, null, null, null);
+
+    public RoomSearchCondition {
+        if (namePrefix != null && namePrefix.isBlank()) {
+            namePrefix = null;
+        }
+    }
+
+    public boolean isEmpty() {
+        return state == null
+                && locked == null
+                && hasFreeSlot == null
+                && quizId == null
+                && namePrefix == null;
+    }
+}
@@ -11,9 +11,9 @@ public record RoundChangeRequest(int round) implements GameSettingChanger {
             return false; // 동일하면 무시
         }
 
-        Long questionsCount = quizService.getQuestionsCount(room.getQuizId());
+        int questionsCount = quizService.getGamePack(room.getQuizId()).questionCount();
 
-        room.changeRound(round, questionsCount.intValue());
+        room.changeRound(round, questionsCount);
         return true;
     }
 }
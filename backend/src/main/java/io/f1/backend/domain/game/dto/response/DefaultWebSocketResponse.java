@@ -1,5 +1,7 @@
 package io.f1.backend.domain.game.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import io.f1.backend.domain.game.dto.MessageType;
 import io.f1.backend.domain.game.dto.WebSocketDto;
 
@@ -11,4 +13,12 @@ import lombok.Getter;
 public class DefaultWebSocketResponse<T> implements WebSocketDto<T> {
     private final MessageType type;
     private final T message;
+
+    // 방 방송 메시지의 번호. 개인 메시지와 묶음 프레임 자체에는 붙지 않는다
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long sequence;
+
+    public DefaultWebSocketResponse(MessageType type, T message) {
+        this(type, message, null);
+    }
 }
@@ -1,3 +1,4 @@
 package io.f1.backend.domain.game.dto.response;
 
-public record GameSettingResponse(int round, int timeLimit, QuizResponse quiz) {}
+public record GameSettingResponse(
+        int round, int timeLimit, int answerTolerance, QuizResponse quiz) {}
@@ -0,0 +1,9 @@
+package io.f1.backend.domain.game.dto.response;
+
+/**
+ * 정답을 맞힌 플레이어 한 명의 순위 변경분. 받는 쪽은 해당 플레이어를 목록에서 빼서 {@code rank} 번째(1부터)에 넣는다.
+ *
+ * <p>{@code sequence} 가 마지막으로 받은 값 + 1 이 아니면 놓친 변경이 있는 것이므로 다음 전체 순위({@link RankUpdateResponse})를
+ * 기준으로 다시 맞춘다.
+ */
+public record RankDeltaResponse(long sequence, String nickname, int correctCount, int rank) {}
@@ -4,4 +4,4 @@ import io.f1.backend.domain.game.dto.Rank;
 
 import java.util.List;
 
-public record RankUpdateResponse(List<Rank> rank) {}
+public record RankUpdateResponse(List<Rank> rank, long sequence) {}
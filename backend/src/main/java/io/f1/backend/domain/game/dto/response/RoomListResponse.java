@@ -2,4 +2,7 @@ package io.f1.backend.domain.game.dto.response;
 
 import java.util.List;
 
-public record RoomListResponse(List<RoomResponse> rooms) {}
+/**
+ * @param nextCursor 다음 페이지를 요청할 때 cursor 로 보낼 값. 마지막 페이지면 null
+ */
+public record RoomListResponse(List<RoomResponse> rooms, Long nextCursor) {}
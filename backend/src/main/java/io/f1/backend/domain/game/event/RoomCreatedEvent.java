@@ -1,6 +1,6 @@
 package io.f1.backend.domain.game.event;
 
 import io.f1.backend.domain.game.model.Room;
-import io.f1.backend.domain.quiz.entity.Quiz;
+import io.f1.backend.domain.quiz.dto.GamePack;
 
-public record RoomCreatedEvent(Room room, Quiz quiz, long questionSize) {}
+public record RoomCreatedEvent(Room room, GamePack gamePack, long questionSize) {}
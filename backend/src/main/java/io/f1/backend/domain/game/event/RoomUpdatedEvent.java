@@ -1,6 +1,6 @@
 package io.f1.backend.domain.game.event;
 
 import io.f1.backend.domain.game.model.Room;
-import io.f1.backend.domain.quiz.entity.Quiz;
+import io.f1.backend.domain.quiz.dto.GamePack;
 
-public record RoomUpdatedEvent(Room room, Quiz quiz, long questionSize) {}
+public record RoomUpdatedEvent(Room room, GamePack gamePack, long questionSize) {}
@@ -0,0 +1,46 @@
+package io.f1.backend.domain.game.executor;
+
+import static io.f1.backend.domain.game.app.RoomService.ROOM_LOCK_PREFIX;
+import static io.f1.backend.domain.game.app.RoomService.USER_LOCK_PREFIX;
+import static io.f1.backend.global.lock.LockExecutor.formatLockKey;
+
+import io.f1.backend.global.lock.LockExecutor;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "game.room.execution-mode",
+        havingValue = "lock",
+        matchIfMissing = true)
+public class LockRoomCommandExecutor implements RoomCommandExecutor {
+
+    private final LockExecutor lockExecutor;
+
+    @Override
+    public <T> T executeWithRoomLock(Long roomId, Supplier<T> supplier) {
+        return lockExecutor.executeWithLock(ROOM_LOCK_PREFIX, roomId, supplier);
+    }
+
+    @Override
+    public <T> T executeWithUserAndRoomLock(Long userId, Long roomId, Supplier<T> supplier) {
+        // 유저 -> 방 중첩 락 대신 두 키를 한 번에 획득 (Redis 왕복 1회, 획득 순서 고정)
+        return lockExecutor.executeWithLocks(
+                List.of(
+                        formatLockKey(USER_LOCK_PREFIX, userId),
+                        formatLockKey(ROOM_LOCK_PREFIX, roomId)),
+                supplier);
+    }
+
+    @Override
+    public void execute(Long roomId, Runnable runnable) {
+        runnable.run();
+    }
+}
@@ -0,0 +1,262 @@
+package io.f1.backend.domain.game.executor;
+
+import static io.f1.backend.domain.game.app.RoomService.USER_LOCK_PREFIX;
+
+import io.f1.backend.domain.game.event.RoomDeletedEvent;
+import io.f1.backend.global.exception.CustomException;
+import io.f1.backend.global.exception.errorcode.CommonErrorCode;
+import io.f1.backend.global.exception.errorcode.RoomErrorCode;
+import io.f1.backend.global.lock.LockExecutor;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 방마다 메일박스(큐)를 두고, 가상 스레드 하나가 큐를 비울 때까지 명령을 순서대로 실행하는 single-writer 구현.
+ *
+ * <p>같은 방의 명령은 절대 동시에 실행되지 않으므로 방 상태 변경에 Redis 락 왕복이 필요 없다. 단일 노드에서 방을 소유한다는
+ * 전제이므로 다중 노드 배포에서는 lock 모드를 사용해야 한다.
+ *
+ * <p>방이 삭제되면 메일박스를 닫는다. 닫힌 메일박스는 이미 들어온 명령까지만 실행하고 새 명령은 거절하며, 큐를 다 비운 뒤 자기 실행 루프에서
+ * 스스로 맵에서 빠진다. 그래서 한 방에 메일박스가 둘 생겨 명령이 동시에 실행되는 일이 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "game.room.execution-mode", havingValue = "mailbox")
+public class MailboxRoomCommandExecutor implements RoomCommandExecutor {
+
+    // 락 모드의 대기 시간과 동일하게, 실행이 시작되기까지 최대 5초 기다린다
+    private static final long DEFAULT_WAIT_MILLIS = 5000L;
+
+    private final Map<Long, RoomMailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 유저 락은 방 밖의 상태(유저-방 매핑)를 보호하므로 메일박스 모드에서도 그대로 사용한다
+    private final LockExecutor lockExecutor;
+
+    @Override
+    public <T> T executeWithRoomLock(Long roomId, Supplier<T> supplier) {
+        RoomMailbox mailbox = getMailbox(roomId);
+
+        /* 같은 방 명령 안에서 다시 호출된 경우 (ex. gameEnd -> 연결 끊긴 플레이어 퇴장) */
+        if (mailbox.isRunningOnCurrentThread()) {
+            return supplier.get();
+        }
+
+        RoomCommand<T> command = new RoomCommand<>(supplier);
+        if (!mailbox.enqueue(command)) {
+            throw new CustomException(RoomErrorCode.ROOM_NOT_FOUND);
+        }
+        return command.await(roomId);
+    }
+
+    @Override
+    public <T> T executeWithUserAndRoomLock(Long userId, Long roomId, Supplier<T> supplier) {
+        return lockExecutor.executeWithLock(
+                USER_LOCK_PREFIX, userId, () -> executeWithRoomLock(roomId, supplier));
+    }
+
+    @Override
+    public void execute(Long roomId, Runnable runnable) {
+        RoomMailbox mailbox = getMailbox(roomId);
+
+        if (mailbox.isRunningOnCurrentThread()) {
+            runnable.run();
+            return;
+        }
+
+        boolean accepted =
+                mailbox.enqueue(
+                        new RoomCommand<>(
+                                () -> {
+                                    runnable.run();
+                                    return null;
+                                }));
+        if (!accepted) {
+            log.debug("[MailboxRoomCommandExecutor] Dropped command for deleted room: {}", roomId);
+        }
+    }
+
+    @EventListener
+    public void onRoomDeleted(RoomDeletedEvent event) {
+        RoomMailbox mailbox = mailboxes.get(event.roomId());
+        if (mailbox != null) {
+            mailbox.close();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public int getMailboxCount() {
+        return mailboxes.size();
+    }
+
+    private RoomMailbox getMailbox(Long roomId) {
+        return mailboxes.computeIfAbsent(roomId, RoomMailbox::new);
+    }
+
+    private final class RoomMailbox implements Runnable {
+
+        private final Long roomId;
+        private final Queue<RoomCommand<?>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private volatile Thread runner;
+        private volatile boolean closed;
+
+        private RoomMailbox(Long roomId) {
+            this.roomId = roomId;
+        }
+
+        /**
+         * @return 메일박스가 닫혀 있어 받지 않았으면 false
+         */
+        private boolean enqueue(RoomCommand<?> command) {
+            // close 와 같은 모니터에서 확인하므로 닫힌 뒤에는 큐에 아무것도 들어오지 않는다
+            synchronized (this) {
+                if (closed) {
+                    return false;
+                }
+                queue.add(command);
+            }
+            schedule();
+            return true;
+        }
+
+        private void close() {
+            synchronized (this) {
+                closed = true;
+            }
+            // 실행 중이 아니어도 루프를 한 번 돌려 맵에서 빠지게 한다
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        private boolean isRunningOnCurrentThread() {
+            return runner == Thread.currentThread();
+        }
+
+        @Override
+        public void run() {
+            runner = Thread.currentThread();
+            try {
+                RoomCommand<?> command;
+                while ((command = queue.poll()) != null) {
+                    command.run();
+                }
+            } finally {
+                runner = null;
+                scheduled.set(false);
+                // 닫힌 것을 큐보다 먼저 확인해야, 비어 있는 것을 본 뒤에 명령이 들어올 수 없다
+                boolean wasClosed = closed;
+                // 플래그를 내리는 사이에 들어온 명령이 있으면 다시 스케줄
+                if (!queue.isEmpty()) {
+                    schedule();
+                } else if (wasClosed) {
+                    mailboxes.remove(roomId, this);
+                }
+            }
+        }
+    }
+
+    private static final class RoomCommand<T> {
+
+        private static final int PENDING = 0;
+        private static final int RUNNING = 1;
+        private static final int CANCELLED = 2;
+
+        private final Supplier<T> supplier;
+        private final SecurityContext securityContext;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private RoomCommand(Supplier<T> supplier) {
+            this.supplier = supplier;
+            // 명령이 메일박스 스레드에서 실행되므로 호출자의 인증 정보를 그대로 넘겨준다
+            this.securityContext = SecurityContextHolder.getContext();
+        }
+
+        private void run() {
+            if (!state.compareAndSet(PENDING, RUNNING)) {
+                return;
+            }
+
+            SecurityContextHolder.setContext(securityContext);
+            try {
+                result.complete(supplier.get());
+            } catch (Throwable t) {
+                log.warn("[MailboxRoomCommandExecutor] Room command failed", t);
+                result.completeExceptionally(t);
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        }
+
+        private T await(Long roomId) {
+            try {
+                return result.get(DEFAULT_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                /* 아직 시작하지 않은 명령은 취소해서 호출자 실패 후 뒤늦게 실행되지 않도록 한다 */
+                if (state.compareAndSet(PENDING, CANCELLED)) {
+                    log.warn("[MailboxRoomCommandExecutor] Room command timed out: {}", roomId);
+                    throw new CustomException(CommonErrorCode.LOCK_ACQUISITION_FAILED);
+                }
+                return join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                state.compareAndSet(PENDING, CANCELLED);
+                throw new CustomException(CommonErrorCode.LOCK_INTERRUPTED);
+            } catch (ExecutionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+
+        private T join() {
+            try {
+                return result.join();
+            } catch (RuntimeException e) {
+                throw rethrow(e.getCause() != null ? e.getCause() : e);
+            }
+        }
+
+        private RuntimeException rethrow(Throwable cause) {
+            if (cause instanceof RuntimeException runtimeException) {
+                return runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            return new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.f1.backend.domain.game.executor;
+
+import java.util.function.Supplier;
+
+/**
+ * 방 단위 상태 변경 명령을 직렬화해서 실행한다.
+ *
+ * <p>{@code game.room.execution-mode} 로 구현체를 고른다. {@code lock}(기본값) 은 기존처럼 Redisson 방 락을 잡고 호출
+ * 스레드에서 실행하고, {@code mailbox} 는 방마다 하나의 메일박스에 넣어 가상 스레드 하나가 순서대로 실행한다.
+ */
+public interface RoomCommandExecutor {
+
+    /** 방에 대한 배타 구간에서 실행하고 결과를 돌려받는다. 호출 스레드는 실행이 끝날 때까지 기다린다. */
+    <T> T executeWithRoomLock(Long roomId, Supplier<T> supplier);
+
+    default void executeWithRoomLock(Long roomId, Runnable runnable) {
+        executeWithRoomLock(
+                roomId,
+                () -> {
+                    runnable.run();
+                    return null;
+                });
+    }
+
+    /** 유저 락과 방 배타 구간을 함께 잡아야 하는 명령(입장 소켓 초기화, 퇴장, 연결 끊김 처리)을 실행한다. */
+    <T> T executeWithUserAndRoomLock(Long userId, Long roomId, Supplier<T> supplier);
+
+    default void executeWithUserAndRoomLock(Long userId, Long roomId, Runnable runnable) {
+        executeWithUserAndRoomLock(
+                userId,
+                roomId,
+                () -> {
+                    runnable.run();
+                    return null;
+                });
+    }
+
+    /**
+     * 결과를 기다릴 필요가 없는 명령(정답 판정, 타임아웃)을 실행한다.
+     *
+     * <p>lock 모드에서는 기존 동작대로 호출 스레드에서 바로 실행하고(answered 플래그 CAS 로 보호), mailbox 모드에서는 방 메일박스에
+     * 넣고 바로 반환한다.
+     */
+    void execute(Long roomId, Runnable runnable);
+}
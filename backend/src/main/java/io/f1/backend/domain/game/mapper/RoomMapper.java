@@ -11,22 +11,23 @@ import io.f1.backend.domain.game.dto.response.PlayerResponse;
 import io.f1.backend.domain.game.dto.response.QuestionResultResponse;
 import io.f1.backend.domain.game.dto.response.QuestionStartResponse;
 import io.f1.backend.domain.game.dto.response.QuizResponse;
+import io.f1.backend.domain.game.dto.response.RankDeltaResponse;
 import io.f1.backend.domain.game.dto.response.RankUpdateResponse;
 import io.f1.backend.domain.game.dto.response.RoomResponse;
 import io.f1.backend.domain.game.dto.response.RoomSettingResponse;
 import io.f1.backend.domain.game.dto.response.SystemNoticeResponse;
 import io.f1.backend.domain.game.model.GameSetting;
 import io.f1.backend.domain.game.model.Player;
+import io.f1.backend.domain.game.model.RankChange;
+import io.f1.backend.domain.game.model.RankSnapshot;
 import io.f1.backend.domain.game.model.Room;
 import io.f1.backend.domain.game.model.RoomSetting;
+import io.f1.backend.domain.quiz.dto.GamePack;
 import io.f1.backend.domain.quiz.dto.QuizMinData;
-import io.f1.backend.domain.quiz.entity.Quiz;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 
 public class RoomMapper {
 
@@ -52,11 +53,12 @@ public class RoomMapper {
     }
 
     public static GameSettingResponse toGameSettingResponse(
-            GameSetting gameSetting, Quiz quiz, long questionsCount) {
+            GameSetting gameSetting, GamePack gamePack, long questionsCount) {
         return new GameSettingResponse(
                 gameSetting.getRound(),
                 gameSetting.getTimeLimit(),
-                toQuizResponse(quiz, questionsCount));
+                gameSetting.getAnswerTolerance(),
+                toQuizResponse(gamePack, questionsCount));
     }
 
     public static PlayerListResponse toPlayerListResponse(Room room) {
@@ -69,7 +71,7 @@ public class RoomMapper {
                 room.getHost().getNickname(), playerResponseList, playerResponseList.size());
     }
 
-    public static RoomResponse toRoomResponse(Room room, Quiz quiz, long questionsCount) {
+    public static RoomResponse toRoomResponse(Room room, GamePack gamePack, long questionsCount) {
         return new RoomResponse(
                 room.getId(),
                 room.getRoomSetting().roomName(),
@@ -77,19 +79,19 @@ public class RoomMapper {
                 room.getCurrentUserCnt(),
                 room.getRoomSetting().locked(),
                 room.getState().name(),
-                quiz.getTitle(),
-                quiz.getDescription(),
-                quiz.getCreator().getNickname(),
+                gamePack.title(),
+                gamePack.description(),
+                gamePack.creatorNickname(),
                 (int) questionsCount,
-                quiz.getThumbnailUrl());
+                gamePack.thumbnailUrl());
     }
 
-    public static QuizResponse toQuizResponse(Quiz quiz, long questionsCount) {
+    public static QuizResponse toQuizResponse(GamePack gamePack, long questionsCount) {
         return new QuizResponse(
-                quiz.getId(),
-                quiz.getTitle(),
-                quiz.getDescription(),
-                quiz.getThumbnailUrl(),
+                gamePack.quizId(),
+                gamePack.title(),
+                gamePack.description(),
+                gamePack.thumbnailUrl(),
                 (int) questionsCount);
     }
 
@@ -102,16 +104,26 @@ public class RoomMapper {
     }
 
     public static RankUpdateResponse toRankUpdateResponse(Room room) {
+        RankSnapshot snapshot = room.getRankSnapshot();
         return new RankUpdateResponse(
-                room.getPlayerMap().values().stream()
-                        .sorted(Comparator.comparing(Player::getCorrectCount).reversed())
+                snapshot.rankedPlayers().stream()
                         .map(player -> new Rank(player.getNickname(), player.getCorrectCount()))
-                        .toList());
+                        .toList(),
+                snapshot.sequence());
+    }
+
+    public static RankDeltaResponse toRankDeltaResponse(RankChange rankChange) {
+        Player player = rankChange.player();
+        return new RankDeltaResponse(
+                rankChange.sequence(),
+                player.getNickname(),
+                player.getCorrectCount(),
+                rankChange.rank());
     }
 
     public static QuestionStartResponse toQuestionStartResponse(Room room, int delay) {
         return new QuestionStartResponse(
-                room.getCurrentQuestion().getId(),
+                room.getCurrentQuestion().id(),
                 room.getCurrentRound(),
                 Instant.now().plusSeconds(delay),
                 room.getTimeLimit(),
@@ -129,12 +141,7 @@ public class RoomMapper {
     }
 
     public static GameResultListResponse toGameResultListResponse(
-            Map<Long, Player> playerMap, int round) {
-
-        List<Player> rankedPlayers =
-                playerMap.values().stream()
-                        .sorted(Comparator.comparingInt(Player::getCorrectCount).reversed())
-                        .toList();
+            List<Player> rankedPlayers, int round) {
 
         List<GameResultResponse> gameResults = buildRankedGameResults(rankedPlayers, round);
 
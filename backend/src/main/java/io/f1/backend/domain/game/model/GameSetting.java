@@ -1,5 +1,6 @@
 package io.f1.backend.domain.game.model;
 
+import io.f1.backend.domain.game.dto.request.AnswerTolerance;
 import io.f1.backend.domain.game.dto.request.TimeLimit;
 import io.f1.backend.global.exception.CustomException;
 import io.f1.backend.global.exception.errorcode.GameErrorCode;
@@ -14,6 +15,11 @@ public class GameSetting {
     private Long quizId;
     private Integer round;
     private int timeLimit;
+    private int answerTolerance; // 0 이면 정확히 일치해야 정답
+
+    public GameSetting(Long quizId, Integer round, int timeLimit) {
+        this(quizId, round, timeLimit, AnswerTolerance.EXACT.getValue());
+    }
 
     public void changeQuiz(Long quizId, int questionsCount) {
         this.quizId = quizId;
@@ -24,10 +30,19 @@ public class GameSetting {
         this.timeLimit = timeLimit.getValue();
     }
 
+    public void changeAnswerTolerance(AnswerTolerance answerTolerance) {
+        this.answerTolerance = answerTolerance.getValue();
+    }
+
     public void changeRound(int round, int questionsCount) {
         if (round > questionsCount) {
             throw new CustomException(GameErrorCode.ROUND_EXCEEDS_QUESTION_COUNT);
         }
         this.round = round;
     }
+
+    // 게임을 시작할 때 실제로 고른 문제가 라운드 수보다 적으면 문제 수까지만 진행한다
+    public void limitRound(int questionsCount) {
+        round = Math.min(round, questionsCount);
+    }
 }
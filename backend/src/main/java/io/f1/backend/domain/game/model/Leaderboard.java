@@ -0,0 +1,102 @@
+package io.f1.backend.domain.game.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 방 안의 정답 수 순위. 정답 수 내림차순으로 정렬된 목록과 정답 수별 구간의 시작 위치를 함께 유지해서, 정답 처리(+1)는 정렬 없이 자리
+ * 교환 한 번(O(1))으로 반영한다. 입장/퇴장/초기화는 드물게 일어나므로 목록을 다시 만든다.
+ *
+ * <p>같은 정답 수끼리의 순서는 보장하지 않는다. 순위가 바뀔 때마다 번호(sequence)를 1씩 올려서, 클라이언트가 변경분을 빠짐없이
+ * 받았는지 확인할 수 있게 한다.
+ */
+final class Leaderboard {
+
+    private final List<Player> ranked = new ArrayList<>();
+    private final Map<Long, Integer> positions = new HashMap<>();
+
+    // 정답 수 -> 그 정답 수를 가진 플레이어 구간의 시작 위치
+    private final Map<Integer, Integer> blockStarts = new HashMap<>();
+
+    private long sequence;
+
+    synchronized void add(Player player) {
+        ranked.removeIf(existing -> existing.getId().equals(player.getId()));
+        ranked.add(player);
+        rebuild();
+        sequence++;
+    }
+
+    synchronized void remove(Long playerId) {
+        if (positions.containsKey(playerId)) {
+            ranked.remove((int) positions.get(playerId));
+            rebuild();
+            sequence++;
+        }
+    }
+
+    /**
+     * 플레이어의 정답 수를 1 올리고, 자기 구간의 맨 앞과 자리를 바꿔 한 단계 위 구간의 맨 끝으로 옮긴다.
+     *
+     * <p>받는 쪽은 목록에서 플레이어를 빼서 {@link RankChange#rank()} 자리에 끼워 넣으면 된다. 자리를 바꾸는 대신 밀어 넣는 것이라
+     * 같은 정답 수끼리의 순서는 서버와 달라질 수 있지만, 정답 수 구간의 경계는 항상 같으므로 정렬 상태는 유지된다.
+     */
+    synchronized RankChange increaseCorrectCount(Long playerId) {
+        int position = positions.get(playerId);
+        Player player = ranked.get(position);
+        int count = player.getCorrectCount();
+        int blockStart = blockStarts.get(count);
+
+        swap(position, blockStart);
+        player.increaseCorrectCount();
+
+        blockStarts.putIfAbsent(count + 1, blockStart);
+        int next = blockStart + 1;
+        if (next < ranked.size() && ranked.get(next).getCorrectCount() == count) {
+            blockStarts.put(count, next);
+        } else {
+            blockStarts.remove(count);
+        }
+        return new RankChange(++sequence, player, blockStart + 1);
+    }
+
+    // 플레이어 정답 수를 밖에서 초기화한 뒤 호출한다
+    synchronized void reset() {
+        rebuild();
+        sequence++;
+    }
+
+    synchronized List<Player> getRankedPlayers() {
+        return List.copyOf(ranked);
+    }
+
+    synchronized RankSnapshot snapshot() {
+        return new RankSnapshot(sequence, List.copyOf(ranked));
+    }
+
+    private void swap(int i, int j) {
+        if (i == j) {
+            return;
+        }
+        Player first = ranked.get(i);
+        Player second = ranked.get(j);
+        ranked.set(i, second);
+        ranked.set(j, first);
+        positions.put(second.getId(), i);
+        positions.put(first.getId(), j);
+    }
+
+    private void rebuild() {
+        ranked.sort(Comparator.comparingInt(Player::getCorrectCount).reversed());
+        positions.clear();
+        blockStarts.clear();
+        for (int i = 0; i < ranked.size(); i++) {
+            Player player = ranked.get(i);
+            positions.put(player.getId(), i);
+            blockStarts.putIfAbsent(player.getCorrectCount(), i);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package io.f1.backend.domain.game.model;
+
+/**
+ * 정답 처리 한 번으로 바뀐 순위.
+ *
+ * @param sequence 방 순위가 바뀔 때마다 1씩 늘어나는 번호
+ * @param rank 바뀐 뒤의 순위 (1부터 시작)
+ */
+public record RankChange(long sequence, Player player, int rank) {}
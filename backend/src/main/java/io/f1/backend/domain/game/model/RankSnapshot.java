@@ -0,0 +1,10 @@
+package io.f1.backend.domain.game.model;
+
+import java.util.List;
+
+/**
+ * 특정 시점의 방 전체 순위.
+ *
+ * @param sequence 이 순위에 반영된 마지막 {@link RankChange#sequence()}
+ */
+public record RankSnapshot(long sequence, List<Player> rankedPlayers) {}
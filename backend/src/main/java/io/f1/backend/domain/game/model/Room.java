@@ -1,10 +1,14 @@
 package io.f1.backend.domain.game.model;
 
+import io.f1.backend.domain.game.answer.AnswerMatcher;
+import io.f1.backend.domain.game.dto.request.AnswerTolerance;
 import io.f1.backend.domain.game.dto.request.TimeLimit;
-import io.f1.backend.domain.question.entity.Question;
+import io.f1.backend.domain.quiz.dto.GameQuestion;
 import io.f1.backend.global.exception.CustomException;
 import io.f1.backend.global.exception.errorcode.RoomErrorCode;
+import io.f1.backend.global.timer.HashedWheelTimer.Timeout;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -13,9 +17,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 @Getter
@@ -31,17 +32,20 @@ public class Room {
 
     private Player host;
 
-    private List<Question> questions = new ArrayList<>();
+    private List<GameQuestion> questions = new ArrayList<>();
+
+    private List<AnswerMatcher> answerMatchers = new ArrayList<>();
 
     private Map<Long, Player> playerMap = new ConcurrentHashMap<>();
 
+    @Getter(AccessLevel.NONE)
+    private final Leaderboard leaderboard = new Leaderboard();
+
     private final LocalDateTime createdAt = LocalDateTime.now();
 
     private int currentRound = 0;
 
-    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
-
-    private ScheduledFuture<?> timer;
+    private Timeout timer;
 
     private final AtomicBoolean answered = new AtomicBoolean(false);
 
@@ -63,14 +67,25 @@ public class Room {
             player.toggleReady();
         }
         playerMap.put(player.getId(), player);
+        leaderboard.add(player);
     }
 
     public boolean isHost(Long id) {
         return this.host.getId().equals(id);
     }
 
-    public void updateQuestions(List<Question> questions) {
+    // 정답 판정기는 문제가 정해질 때(게임 시작) 한 번만 만들고, 채팅마다 다시 만들지 않는다
+    public void updateQuestions(List<GameQuestion> questions) {
         this.questions = questions;
+        this.answerMatchers =
+                questions.stream()
+                        .map(
+                                question ->
+                                        AnswerMatcher.of(
+                                                question.answer(),
+                                                question.acceptedAnswers(),
+                                                gameSetting.getAnswerTolerance()))
+                        .toList();
     }
 
     public void updateHost(Player nextHost) {
@@ -81,22 +96,37 @@ public class Room {
         this.state = newState;
     }
 
-    public void updateTimer(ScheduledFuture<?> timer) {
+    public void updateTimer(Timeout timer) {
         this.timer = timer;
     }
 
     public void removePlayer(Player removePlayer) {
         playerMap.remove(removePlayer.getId());
+        leaderboard.remove(removePlayer.getId());
+    }
+
+    public RankChange increasePlayerCorrectCount(Long userId) {
+        return leaderboard.increaseCorrectCount(userId);
+    }
+
+    // 정답 수 내림차순. 정답 처리 때마다 갱신되므로 읽을 때 정렬하지 않는다
+    public List<Player> getRankedPlayers() {
+        return leaderboard.getRankedPlayers();
     }
 
-    public void increasePlayerCorrectCount(Long userId) {
-        this.playerMap.get(userId).increaseCorrectCount();
+    // 입장/재연결 시 보내는 전체 순위. 이후 변경분은 이 sequence 다음 번호부터 이어진다
+    public RankSnapshot getRankSnapshot() {
+        return leaderboard.snapshot();
     }
 
-    public Question getCurrentQuestion() {
+    public GameQuestion getCurrentQuestion() {
         return questions.get(currentRound - 1);
     }
 
+    public AnswerMatcher getCurrentAnswerMatcher() {
+        return answerMatchers.get(currentRound - 1);
+    }
+
     public boolean isPlaying() {
         return state == RoomState.PLAYING;
     }
@@ -122,6 +152,7 @@ public class Room {
 
     public void initializePlayers() {
         this.playerMap.values().forEach(Player::initializeCorrectCount);
+        leaderboard.reset();
         resetAllPlayerReadyStates();
     }
 
@@ -166,10 +197,18 @@ public class Room {
         gameSetting.changeTimeLimit(timeLimit);
     }
 
+    public void changeAnswerTolerance(AnswerTolerance answerTolerance) {
+        gameSetting.changeAnswerTolerance(answerTolerance);
+    }
+
     public void changeRound(int round, int questionCount) {
         gameSetting.changeRound(round, questionCount);
     }
 
+    public void limitRound(int questionCount) {
+        gameSetting.limitRound(questionCount);
+    }
+
     public Long getQuizId() {
         return gameSetting.getQuizId();
     }
@@ -178,6 +217,10 @@ public class Room {
         return gameSetting.getTimeLimit();
     }
 
+    public int getAnswerTolerance() {
+        return gameSetting.getAnswerTolerance();
+    }
+
     public int getRound() {
         return gameSetting.getRound();
     }
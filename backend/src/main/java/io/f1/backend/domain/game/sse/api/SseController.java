@@ -5,6 +5,7 @@ import io.f1.backend.domain.game.sse.app.SseService;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -17,7 +18,8 @@ public class SseController {
     private final SseService sseService;
 
     @GetMapping("/lobby")
-    public SseEmitter subscribe() {
-        return sseService.subscribe();
+    public SseEmitter subscribe(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return sseService.subscribe(lastEventId);
     }
 }
@@ -0,0 +1,153 @@
+package io.f1.backend.domain.game.sse.app;
+
+import io.f1.backend.domain.game.sse.dto.LobbySseEvent;
+import io.f1.backend.domain.game.sse.dto.SseEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로비 이벤트를 방 id 별로 {@code windowMillis} 동안 모았다가 방마다 마지막 상태만 보낸다. 입장/퇴장 한 번에 RoomUpdatedEvent 가 여러
+ * 번 발행되어도 로비 구독자에게는 한 번만 나간다.
+ *
+ * <p>창 안에서 만들어진 방은 CREATE 와 마지막 UPDATE 를 함께 보내고, 창 안에서 만들어졌다가 삭제된 방은 아무것도 보내지 않는다. 방 사이의
+ * 순서는 각 방의 첫 이벤트가 들어온 순서를 따른다.
+ */
+@Slf4j
+@Component
+public class LobbyEventCoalescer {
+
+    private final SseService sseService;
+    private final long windowMillis;
+    private final Counter coalescedEvents;
+
+    // 모으지 않으면 null
+    private final ScheduledExecutorService flushScheduler;
+    private final Map<Long, PendingRoom> pending = new LinkedHashMap<>();
+    private int submittedInWindow;
+    private boolean flushScheduled;
+
+    public LobbyEventCoalescer(
+            SseService sseService,
+            MeterRegistry meterRegistry,
+            @Value("${game.lobby.coalescing.window-millis:100}") long windowMillis) {
+        this.sseService = sseService;
+        this.windowMillis = windowMillis;
+        this.coalescedEvents =
+                Counter.builder("lobby.sse.events.coalesced")
+                        .description("같은 방의 더 새로운 이벤트에 덮여 보내지 않은 로비 이벤트 수")
+                        .register(meterRegistry);
+        this.flushScheduler =
+                windowMillis > 0
+                        ? Executors.newSingleThreadScheduledExecutor(
+                                Thread.ofPlatform().name("lobby-coalescer").daemon().factory())
+                        : null;
+    }
+
+    public void submit(Long roomId, LobbySseEvent<?> event) {
+        if (flushScheduler == null) {
+            sseService.notifyLobbyUpdate(event);
+            return;
+        }
+
+        synchronized (this) {
+            submittedInWindow++;
+            merge(roomId, event);
+            // 창의 첫 이벤트가 들어올 때만 전송을 예약한다
+            if (!flushScheduled) {
+                flushScheduled = true;
+                flushScheduler.schedule(this::flushScheduled, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flushScheduler != null) {
+            flushScheduler.shutdownNow();
+        }
+    }
+
+    // 모아 둔 이벤트를 방마다 순서대로 보낸다. 예약 스레드 하나에서만 불리므로 방 사이 순서도 유지된다
+    void flush() {
+        List<LobbySseEvent<?>> events = new ArrayList<>();
+        synchronized (this) {
+            flushScheduled = false;
+            for (PendingRoom room : pending.values()) {
+                room.drainTo(events);
+            }
+            pending.clear();
+            coalescedEvents.increment(submittedInWindow - events.size());
+            submittedInWindow = 0;
+        }
+        events.forEach(sseService::notifyLobbyUpdate);
+    }
+
+    private void flushScheduled() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("[LobbyEventCoalescer] Failed to flush lobby events", e);
+        }
+    }
+
+    private void merge(Long roomId, LobbySseEvent<?> event) {
+        PendingRoom room = pending.get(roomId);
+        if (room == null) {
+            pending.put(roomId, PendingRoom.of(event));
+            return;
+        }
+
+        SseEventType type = SseEventType.valueOf(event.type());
+        if (type == SseEventType.DELETE && room.created != null) {
+            // 로비에 한 번도 보이지 않은 방이라 삭제도 알릴 필요가 없다
+            pending.remove(roomId);
+            return;
+        }
+        if (type == SseEventType.UPDATE && room.created != null) {
+            room.latest = event;
+            return;
+        }
+        pending.put(roomId, PendingRoom.of(event));
+    }
+
+    /** 방 하나의 보낼 이벤트. 창 안에서 만들어진 방이면 CREATE 를 따로 들고 있다. */
+    private static final class PendingRoom {
+
+        private LobbySseEvent<?> created;
+        private LobbySseEvent<?> latest;
+
+        private static PendingRoom of(LobbySseEvent<?> event) {
+            PendingRoom room = new PendingRoom();
+            if (SseEventType.CREATE.name().equals(event.type())) {
+                room.created = event;
+            } else {
+                room.latest = event;
+            }
+            return room;
+        }
+
+        private void drainTo(List<LobbySseEvent<?>> events) {
+            if (created != null) {
+                events.add(created);
+            }
+            if (latest != null) {
+                events.add(latest);
+            }
+        }
+    }
+}
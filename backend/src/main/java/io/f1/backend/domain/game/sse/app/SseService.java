@@ -1,59 +1,248 @@
 package io.f1.backend.domain.game.sse.app;
 
+import static io.f1.backend.global.config.LobbyEventExecutorConfig.LOBBY_EVENT_EXECUTOR;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.f1.backend.domain.game.dto.request.RoomSearchCondition;
+import io.f1.backend.domain.game.dto.response.RoomListResponse;
+import io.f1.backend.domain.game.sse.dto.LobbySnapshotPayload;
 import io.f1.backend.domain.game.sse.dto.LobbySseEvent;
+import io.f1.backend.domain.game.sse.dto.SseEventType;
+import io.f1.backend.domain.game.sse.store.LobbyEventLog;
 import io.f1.backend.domain.game.sse.store.SseEmitterRepository;
+import io.f1.backend.domain.game.sse.store.SseSubscriber;
+import io.f1.backend.domain.game.store.LobbyRoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
+/**
+ * 로비 SSE 구독 관리. 이벤트는 구독자마다 크기가 정해진 큐에 넣기만 하고, 실제 전송은 구독자별 가상 스레드가 한다. 그래서 느린 클라이언트가
+ * 있어도 이벤트를 발행한 쪽은 기다리지 않는다.
+ *
+ * <p>스트림은 방 목록 스냅샷(SNAPSHOT)으로 시작하고, 그 뒤로 번호가 붙은 CREATE/UPDATE/DELETE delta 가 이어진다. 스냅샷은 자기
+ * version 까지의 delta 를 모두 반영하고, 그 뒤의 delta 중 일부를 이미 반영했을 수도 있으므로 클라이언트는 delta 를 덮어쓰기로 적용한다.
+ * 방이 많아도 스냅샷 프레임이 커지지 않도록 방 목록 API 와 같은 방식으로 첫 페이지만 담고, 나머지는 cursor 로 이어서 읽게 한다.
+ *
+ * <p>큐가 가득 찬 구독자는 이벤트를 버리고 연결을 끊는다. 클라이언트가 Last-Event-ID 로 다시 연결하면 기록에 남은 delta 만 다시 받고,
+ * 남아 있지 않으면 스냅샷을 새로 받는다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class SseService {
 
+    private static final long EMITTER_TIMEOUT_MILLIS = 1_800_000L;
+    private static final long HEARTBEAT_INTERVAL_MILLIS = 60_000L;
+    private static final long HEARTBEAT_INITIAL_DELAY_MILLIS = 5_000L;
+
+    private static final Set<DataWithMediaType> HEARTBEAT_EVENT =
+            SseEmitter.event().name("heartbeat").data("sse-alive").build();
+
     private final SseEmitterRepository emitterRepository;
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private final LobbyEventLog eventLog;
+    private final LobbyRoomRepository lobbyRoomRepository;
+    private final ObjectMapper objectMapper;
+    private final int queueCapacity;
+    private final int snapshotSize;
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter droppedEvents;
+    private final Counter snapshotStarts;
+    private final Counter resumedStarts;
 
-    public SseEmitter subscribe() {
-        SseEmitter emitter = new SseEmitter(1_800_000L);
-        emitterRepository.save(emitter);
+    // delta 번호 부여와 전송, 구독 등록과 첫 프레임 전송을 묶는다
+    private final Object sequenceLock = new Object();
+    private EncodedSnapshot snapshot;
 
-        try {
-            emitter.send(SseEmitter.event().name("connect").data("connected"));
-            startHeartBeat(emitter);
-        } catch (IOException e) {
-            emitter.completeWithError(e);
+    public SseService(
+            SseEmitterRepository emitterRepository,
+            LobbyEventLog eventLog,
+            LobbyRoomRepository lobbyRoomRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${game.lobby.sse.queue-capacity:64}") int queueCapacity,
+            @Value("${game.lobby.sse.snapshot-size:100}") int snapshotSize) {
+        this.emitterRepository = emitterRepository;
+        this.eventLog = eventLog;
+        this.lobbyRoomRepository = lobbyRoomRepository;
+        this.objectMapper = objectMapper;
+        this.queueCapacity = queueCapacity;
+        this.snapshotSize = snapshotSize;
+        this.droppedEvents =
+                Counter.builder("lobby.sse.events.dropped")
+                        .description("큐가 가득 차서 보내지 못하고 버린 로비 SSE 이벤트 수")
+                        .register(meterRegistry);
+        this.snapshotStarts = subscriptions(meterRegistry, "snapshot");
+        this.resumedStarts = subscriptions(meterRegistry, "resume");
+        Gauge.builder("lobby.sse.emitters", emitterRepository, SseEmitterRepository::count)
+                .description("연결된 로비 SSE 구독자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param lastEventId 재연결한 클라이언트가 마지막으로 받은 이벤트 id. 처음 연결이면 null. 이 서버가 붙인 id 가 아니면 스냅샷으로
+     *     시작한다.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(new SseEmitter(EMITTER_TIMEOUT_MILLIS), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String lastEventId) {
+        SseSubscriber subscriber = new SseSubscriber(emitter, queueCapacity);
+
+        // 등록과 첫 프레임을 delta 전송과 같은 잠금 안에서 처리해야 그 사이의 delta 가 빠지거나 스냅샷보다 먼저 나가지 않는다
+        synchronized (sequenceLock) {
+            emitterRepository.save(subscriber);
+
+            Optional<List<Set<DataWithMediaType>>> missed =
+                    lastEventId == null ? Optional.empty() : eventLog.eventsAfter(lastEventId);
+            // 놓친 delta 가 큐에 다 들어가지 않으면 스냅샷이 더 싸다
+            if (missed.isPresent() && missed.get().size() < queueCapacity) {
+                resumedStarts.increment();
+                missed.get().forEach(frame -> enqueue(subscriber, frame));
+            } else {
+                snapshotStarts.increment();
+                enqueue(subscriber, snapshotFrame());
+            }
         }
         return emitter;
     }
 
+    // 방 락 안에서 발행된 이벤트가 로비 전송을 기다리지 않도록 로비 알림 전용 스레드에서 실행한다
+    @Async(LOBBY_EVENT_EXECUTOR)
     public <T> void notifyLobbyUpdate(LobbySseEvent<T> event) {
-        for (SseEmitter emitter : emitterRepository.getAll()) {
-            try {
-                emitter.send(SseEmitter.event().name(event.type()).data(event));
-            } catch (IOException e) {
-                emitterRepository.remove(emitter);
+        // JSON 으로 한 번만 바꿔 두면 구독자마다 send 할 때는 문자열을 그대로 쓰기만 한다
+        String data = encode(event);
+        synchronized (sequenceLock) {
+            Set<DataWithMediaType> frame =
+                    eventLog.append(sequence -> frame(sequence, event.type(), data));
+            for (SseSubscriber subscriber : emitterRepository.getAll()) {
+                enqueue(subscriber, frame);
+            }
+        }
+    }
+
+    // 구독자마다 작업을 두지 않고 하나의 작업이 살아 있는 구독자를 모두 훑는다
+    @Scheduled(
+            fixedRate = HEARTBEAT_INTERVAL_MILLIS,
+            initialDelay = HEARTBEAT_INITIAL_DELAY_MILLIS)
+    public void sendHeartbeat() {
+        for (SseSubscriber subscriber : emitterRepository.getAll()) {
+            enqueue(subscriber, HEARTBEAT_EVENT);
+        }
+    }
+
+    // 번호를 받지 못하고 버려진 알림이 있으므로 재연결한 구독자는 기록이 아니라 스냅샷을 받아야 한다
+    public void disconnectAll() {
+        synchronized (sequenceLock) {
+            eventLog.truncate();
+        }
+        for (SseSubscriber subscriber : emitterRepository.getAll()) {
+            disconnect(subscriber);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdown();
+    }
+
+    // 같은 version 의 스냅샷은 한 번만 인코딩해서 재연결이 몰려도 구독자마다 방 목록 전체를 다시 만들지 않는다
+    private Set<DataWithMediaType> snapshotFrame() {
+        long version = eventLog.getLastSequence();
+        long roomsVersion = lobbyRoomRepository.getVersion();
+        if (snapshot == null
+                || snapshot.version() != version
+                || snapshot.roomsVersion() != roomsVersion) {
+            RoomListResponse firstPage =
+                    lobbyRoomRepository.findPage(RoomSearchCondition.NONE, null, snapshotSize);
+            LobbySseEvent<LobbySnapshotPayload> event =
+                    new LobbySseEvent<>(
+                            SseEventType.SNAPSHOT.name(),
+                            new LobbySnapshotPayload(
+                                    version, firstPage.rooms(), firstPage.nextCursor()));
+            snapshot =
+                    new EncodedSnapshot(
+                            version, roomsVersion, frame(version, event.type(), encode(event)));
+        }
+        return snapshot.frame();
+    }
+
+    private Set<DataWithMediaType> frame(long sequence, String type, String data) {
+        return SseEmitter.event()
+                .id(eventLog.eventId(sequence))
+                .name(type)
+                .data(data, MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    private String encode(LobbySseEvent<?> event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode lobby " + event.type() + " event", e);
+        }
+    }
+
+    private void enqueue(SseSubscriber subscriber, Set<DataWithMediaType> frame) {
+        if (!subscriber.offer(frame)) {
+            droppedEvents.increment();
+            log.warn("[SseService] Lobby SSE queue is full, closing slow subscriber");
+            disconnect(subscriber);
+            return;
+        }
+        if (subscriber.tryStartDrain()) {
+            sendExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void disconnect(SseSubscriber subscriber) {
+        emitterRepository.remove(subscriber);
+        subscriber.getEmitter().complete();
+    }
+
+    private void drain(SseSubscriber subscriber) {
+        try {
+            Set<DataWithMediaType> frame;
+            while ((frame = subscriber.poll()) != null) {
+                subscriber.getEmitter().send(frame);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결이거나 이미 끝난 emitter
+            emitterRepository.remove(subscriber);
+        } finally {
+            if (subscriber.finishDrain() && subscriber.tryStartDrain()) {
+                sendExecutor.execute(() -> drain(subscriber));
             }
         }
     }
 
-    private void startHeartBeat(SseEmitter emitter) {
-        scheduler.scheduleAtFixedRate(
-                () -> {
-                    try {
-                        emitter.send(SseEmitter.event().name("heartbeat").data("sse-alive"));
-                    } catch (IOException e) {
-                        emitterRepository.remove(emitter);
-                    }
-                },
-                5,
-                60,
-                TimeUnit.SECONDS);
+    private static Counter subscriptions(MeterRegistry meterRegistry, String start) {
+        return Counter.builder("lobby.sse.subscriptions")
+                .description("로비 SSE 구독 수. 스냅샷으로 시작했는지 기록에서 재개했는지로 나눈다")
+                .tag("start", start)
+                .register(meterRegistry);
     }
+
+    private record EncodedSnapshot(long version, long roomsVersion, Set<DataWithMediaType> frame) {}
 }
@@ -0,0 +1,12 @@
+package io.f1.backend.domain.game.sse.dto;
+
+import io.f1.backend.domain.game.dto.response.RoomResponse;
+
+import java.util.List;
+
+/**
+ * @param version 이 스냅샷이 반영한 마지막 delta 번호. 이후 delta 는 이 번호 다음부터 온다
+ * @param rooms 방 id 오름차순 첫 페이지
+ * @param nextCursor 나머지 방을 방 목록 API 로 이어서 읽을 cursor. 모든 방이 담겼으면 null
+ */
+public record LobbySnapshotPayload(long version, List<RoomResponse> rooms, Long nextCursor) {}
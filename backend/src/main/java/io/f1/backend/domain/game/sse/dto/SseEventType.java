@@ -1,6 +1,7 @@
 package io.f1.backend.domain.game.sse.dto;
 
 public enum SseEventType {
+    SNAPSHOT,
     CREATE,
     UPDATE,
     DELETE
@@ -3,26 +3,25 @@ package io.f1.backend.domain.game.sse.listener;
 import static io.f1.backend.domain.game.sse.mapper.SseMapper.*;
 
 import io.f1.backend.domain.game.event.RoomUpdatedEvent;
-import io.f1.backend.domain.game.sse.app.SseService;
+import io.f1.backend.domain.game.sse.app.LobbyEventCoalescer;
 import io.f1.backend.domain.game.sse.dto.LobbySseEvent;
 import io.f1.backend.domain.game.sse.dto.RoomUpdatedPayload;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class RoomUpdatedEventListener {
 
-    private final SseService sseService;
+    private final LobbyEventCoalescer lobbyEventCoalescer;
 
-    @Async
+    // 방 상태는 발행한 스레드(방 락 안)에서 바로 읽고, 전송만 로비 알림 스레드로 넘긴다
     @EventListener
     public void roomUpdate(RoomUpdatedEvent event) {
         LobbySseEvent<RoomUpdatedPayload> sseEvent = fromRoomUpdated(event);
-        sseService.notifyLobbyUpdate(sseEvent);
+        lobbyEventCoalescer.submit(event.room().getId(), sseEvent);
     }
 }
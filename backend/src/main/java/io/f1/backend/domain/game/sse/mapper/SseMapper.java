@@ -1,5 +1,6 @@
 package io.f1.backend.domain.game.sse.mapper;
 
+import io.f1.backend.domain.game.dto.response.RoomResponse;
 import io.f1.backend.domain.game.event.RoomCreatedEvent;
 import io.f1.backend.domain.game.event.RoomDeletedEvent;
 import io.f1.backend.domain.game.event.RoomUpdatedEvent;
@@ -9,13 +10,13 @@ import io.f1.backend.domain.game.sse.dto.RoomCreatedPayload;
 import io.f1.backend.domain.game.sse.dto.RoomDeletedPayload;
 import io.f1.backend.domain.game.sse.dto.RoomUpdatedPayload;
 import io.f1.backend.domain.game.sse.dto.SseEventType;
-import io.f1.backend.domain.quiz.entity.Quiz;
+import io.f1.backend.domain.quiz.dto.GamePack;
 
 public class SseMapper {
 
     public static LobbySseEvent<RoomCreatedPayload> fromRoomCreated(RoomCreatedEvent event) {
         Room room = event.room();
-        Quiz quiz = event.quiz();
+        GamePack gamePack = event.gamePack();
         long questionSize = event.questionSize();
         RoomCreatedPayload payload =
                 new RoomCreatedPayload(
@@ -25,28 +26,60 @@ public class SseMapper {
                         room.getCurrentUserCnt(),
                         room.getRoomSetting().locked(),
                         room.getState().name(),
-                        quiz.getTitle(),
-                        quiz.getDescription(),
-                        quiz.getCreator().getNickname(),
+                        gamePack.title(),
+                        gamePack.description(),
+                        gamePack.creatorNickname(),
                         (int) questionSize,
-                        quiz.getThumbnailUrl());
+                        gamePack.thumbnailUrl());
         return new LobbySseEvent<>(SseEventType.CREATE.name(), payload);
     }
 
     public static LobbySseEvent<RoomUpdatedPayload> fromRoomUpdated(RoomUpdatedEvent event) {
         Room room = event.room();
-        Quiz quiz = event.quiz();
+        GamePack gamePack = event.gamePack();
         long questionSize = event.questionSize();
         RoomUpdatedPayload payload =
                 new RoomUpdatedPayload(
                         room.getId(),
                         room.getCurrentUserCnt(),
                         room.getState().name(),
-                        quiz.getTitle(),
-                        quiz.getDescription(),
-                        quiz.getCreator().getNickname(),
+                        gamePack.title(),
+                        gamePack.description(),
+                        gamePack.creatorNickname(),
                         (int) questionSize,
-                        quiz.getThumbnailUrl());
+                        gamePack.thumbnailUrl());
+        return new LobbySseEvent<>(SseEventType.UPDATE.name(), payload);
+    }
+
+    // 다른 노드가 가진 방은 로비 응답으로만 알 수 있다
+    public static LobbySseEvent<RoomCreatedPayload> fromRoomCreated(RoomResponse room) {
+        RoomCreatedPayload payload =
+                new RoomCreatedPayload(
+                        room.roomId(),
+                        room.roomName(),
+                        room.maxUserCount(),
+                        room.currentUserCount(),
+                        room.locked(),
+                        room.roomState(),
+                        room.quizTitle(),
+                        room.description(),
+                        room.creator(),
+                        room.numberOfQuestions(),
+                        room.thumbnailUrl());
+        return new LobbySseEvent<>(SseEventType.CREATE.name(), payload);
+    }
+
+    public static LobbySseEvent<RoomUpdatedPayload> fromRoomUpdated(RoomResponse room) {
+        RoomUpdatedPayload payload =
+                new RoomUpdatedPayload(
+                        room.roomId(),
+                        room.currentUserCount(),
+                        room.roomState(),
+                        room.quizTitle(),
+                        room.description(),
+                        room.creator(),
+                        room.numberOfQuestions(),
+                        room.thumbnailUrl());
         return new LobbySseEvent<>(SseEventType.UPDATE.name(), payload);
     }
 
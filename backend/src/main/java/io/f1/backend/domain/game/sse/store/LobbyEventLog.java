@@ -0,0 +1,79 @@
+package io.f1.backend.domain.game.sse.store;
+
+import io.f1.backend.global.util.SequencedRingBuffer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongFunction;
+
+/**
+ * 로비 delta 기록. 보낸 delta 마다 번호를 붙여 만든 프레임을 최근 {@code capacity} 개까지 {@link SequencedRingBuffer} 에
+ * 남겨 둔다. 재연결한 클라이언트가 Last-Event-ID 로 알려 준 번호 뒤의 프레임이 남아 있으면 스냅샷 대신 그것만 다시 보낸다.
+ *
+ * <p>SSE id 는 {@code <epoch>-<번호>} 형식이다. epoch 는 서버가 뜰 때마다 새로 뽑으므로, 재시작 전에 받았거나 다른 노드에서 받은 id 는 번호가
+ * 같아도 이 기록의 것으로 보지 않는다.
+ */
+@Repository
+public class LobbyEventLog {
+
+    private static final char ID_SEPARATOR = '-';
+
+    private final String epoch;
+    private final SequencedRingBuffer<Set<DataWithMediaType>> frames;
+
+    public LobbyEventLog(@Value("${game.lobby.sse.replay-capacity:256}") int capacity) {
+        this.epoch = Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36);
+        this.frames = new SequencedRingBuffer<>(capacity);
+    }
+
+    // 프레임과 스냅샷에 붙일 SSE id
+    public String eventId(long sequence) {
+        return epoch + ID_SEPARATOR + sequence;
+    }
+
+    /**
+     * @param builder 번호를 받아 프레임을 만든다
+     * @return 기록된 프레임
+     */
+    public Set<DataWithMediaType> append(LongFunction<Set<DataWithMediaType>> builder) {
+        return frames.append(builder);
+    }
+
+    // 스냅샷의 version. 스냅샷은 이 번호까지의 delta 를 모두 반영한다
+    public long getLastSequence() {
+        return frames.getLastSequence();
+    }
+
+    /**
+     * @param lastEventId 클라이언트가 마지막으로 받은 SSE id
+     * @return 그 뒤의 프레임들. 형식이 맞지 않거나, epoch 가 달라 이 기록이 붙인 id 가 아니거나, 버퍼에서 이미 밀려났으면 empty
+     */
+    public Optional<List<Set<DataWithMediaType>>> eventsAfter(String lastEventId) {
+        int separator = lastEventId.lastIndexOf(ID_SEPARATOR);
+        if (separator != epoch.length() || !lastEventId.startsWith(epoch)) {
+            return Optional.empty();
+        }
+        try {
+            return eventsAfter(Long.parseLong(lastEventId.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    Optional<List<Set<DataWithMediaType>>> eventsAfter(long sequence) {
+        return frames.itemsAfter(sequence);
+    }
+
+    /**
+     * 번호 없이 버려진 delta 가 있을 때 지금까지의 번호로는 재개할 수 없게 한다. 이후에 받는 스냅샷의 version 부터 다시 재개할 수 있다.
+     */
+    public void truncate() {
+        frames.truncate();
+    }
+}
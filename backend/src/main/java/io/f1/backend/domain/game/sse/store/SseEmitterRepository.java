@@ -1,29 +1,33 @@
 package io.f1.backend.domain.game.sse.store;
 
 import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Repository
 public class SseEmitterRepository {
 
-    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final Set<SseSubscriber> subscribers = ConcurrentHashMap.newKeySet();
 
-    public void save(SseEmitter emitter) {
-        emitters.add(emitter);
+    public void save(SseSubscriber subscriber) {
+        subscribers.add(subscriber);
 
-        emitter.onCompletion(() -> emitters.remove(emitter));
-        emitter.onTimeout(() -> emitters.remove(emitter));
-        emitter.onError(error -> emitters.remove(emitter));
+        subscriber.getEmitter().onCompletion(() -> remove(subscriber));
+        subscriber.getEmitter().onTimeout(() -> remove(subscriber));
+        subscriber.getEmitter().onError(error -> remove(subscriber));
     }
 
-    public void remove(SseEmitter emitter) {
-        emitters.remove(emitter);
+    public void remove(SseSubscriber subscriber) {
+        subscriber.close();
+        subscribers.remove(subscriber);
     }
 
-    public List<SseEmitter> getAll() {
-        return emitters;
+    public Set<SseSubscriber> getAll() {
+        return subscribers;
+    }
+
+    public int count() {
+        return subscribers.size();
     }
 }
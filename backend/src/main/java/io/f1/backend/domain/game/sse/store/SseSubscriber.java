@@ -0,0 +1,63 @@
+package io.f1.backend.domain.game.sse.store;
+
+import lombok.Getter;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 로비 SSE 구독자 한 명과 보낼 이벤트 큐. 큐는 크기가 정해져 있어서, 느린 클라이언트 때문에 이벤트가 끝없이 쌓이지 않는다.
+ *
+ * <p>큐를 비우는 작업은 한 번에 하나만 돌도록 {@link #tryStartDrain()} 으로 예약하므로 이벤트는 넣은 순서대로 나간다.
+ */
+public class SseSubscriber {
+
+    @Getter private final SseEmitter emitter;
+
+    private final BlockingQueue<Set<DataWithMediaType>> queue;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private volatile boolean closed;
+
+    public SseSubscriber(SseEmitter emitter, int queueCapacity) {
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * @return 큐가 가득 차서 넣지 못했으면 false
+     */
+    public boolean offer(Set<DataWithMediaType> event) {
+        return closed || queue.offer(event);
+    }
+
+    public Set<DataWithMediaType> poll() {
+        return closed ? null : queue.poll();
+    }
+
+    // 이미 큐를 비우는 중이면 false. true 를 받은 쪽이 큐를 비우고 finishDrain() 을 호출해야 한다
+    public boolean tryStartDrain() {
+        return !closed && draining.compareAndSet(false, true);
+    }
+
+    /**
+     * @return 플래그를 내리는 사이에 들어온 이벤트가 있어서 다시 비워야 하면 true
+     */
+    public boolean finishDrain() {
+        draining.set(false);
+        return !closed && !queue.isEmpty();
+    }
+
+    public void close() {
+        closed = true;
+        queue.clear();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+}
@@ -0,0 +1,289 @@
+package io.f1.backend.domain.game.store;
+
+import io.f1.backend.domain.game.dto.request.RoomSearchCondition;
+import io.f1.backend.domain.game.dto.response.RoomListResponse;
+import io.f1.backend.domain.game.dto.response.RoomResponse;
+
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로비 방 목록. 방이 바뀔 때마다 그 방의 {@link RoomResponse} 를 미리 만들어 교체해 두므로, 목록 조회는 DB 나 방 상태를 읽지 않는다.
+ *
+ * <p>바뀔 때마다 version 을 1씩 올리고, 조건 없는 조회는 version 이 그대로면 전에 만든 목록을 다시 쓴다. 조건이 있는 조회는 상태/잠금/빈자리/
+ * 퀴즈/이름 보조 인덱스 중 가장 작은 후보 집합을 방 id 순서로 훑으면서 나머지 조건을 확인하고, 한 페이지가 차면 멈춘다.
+ *
+ * <p>쓰기는 방 이벤트마다 한 번이라 잠금으로 직렬화하고, 읽기는 잠금 없이 한다. 읽는 도중 인덱스가 바뀔 수 있으므로 후보마다 현재 값으로 조건을 다시
+ * 확인한다.
+ */
+@Repository
+public class LobbyRoomRepository {
+
+    private final NavigableMap<Long, LobbyRoom> rooms = new ConcurrentSkipListMap<>();
+    private final AtomicLong version = new AtomicLong(0);
+
+    private final Index<String> stateIndex = new Index<>();
+    private final Index<Boolean> lockedIndex = new Index<>();
+    private final Index<Boolean> freeSlotIndex = new Index<>();
+    private final Index<Long> quizIndex = new Index<>();
+    private final NavigableMap<String, NavigableSet<Long>> nameIndex =
+            new ConcurrentSkipListMap<>();
+
+    private volatile RoomListSnapshot snapshot = new RoomListSnapshot(0, List.of());
+
+    public synchronized void save(RoomResponse room, Long quizId) {
+        LobbyRoom saved = new LobbyRoom(room, quizId, normalize(room.roomName()));
+        LobbyRoom previous = rooms.put(room.roomId(), saved);
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(saved);
+        version.incrementAndGet();
+    }
+
+    public synchronized void remove(Long roomId) {
+        LobbyRoom removed = rooms.remove(roomId);
+        if (removed != null) {
+            unindex(removed);
+            version.incrementAndGet();
+        }
+    }
+
+    public Optional<Long> findQuizId(Long roomId) {
+        return Optional.ofNullable(rooms.get(roomId)).map(LobbyRoom::quizId);
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    // 방 id 오름차순. 돌려준 목록은 불변이라 여러 요청이 함께 써도 된다
+    public List<RoomResponse> findAll() {
+        // version 을 먼저 읽어야 목록이 적어도 그 version 까지의 변경을 담는다
+        long current = version.get();
+        RoomListSnapshot cached = snapshot;
+        if (cached.version() == current) {
+            return cached.rooms();
+        }
+
+        List<RoomResponse> sorted =
+                rooms.values().stream()
+                        .map(LobbyRoom::response)
+                        .sorted(Comparator.comparing(RoomResponse::roomId))
+                        .toList();
+        snapshot = new RoomListSnapshot(current, sorted);
+        return sorted;
+    }
+
+    /**
+     * @param cursor 이 방 id 보다 큰 방부터 찾는다. 첫 페이지면 null
+     * @return 조건에 맞는 방을 방 id 오름차순으로 최대 {@code limit} 개
+     */
+    public List<RoomResponse> find(RoomSearchCondition condition, Long cursor, int limit) {
+        if (condition.isEmpty()) {
+            return page(findAll(), cursor, limit);
+        }
+
+        NavigableSet<Long> candidates = candidates(condition);
+        if (cursor != null) {
+            candidates = candidates.tailSet(cursor, false);
+        }
+
+        List<RoomResponse> found = new ArrayList<>(limit);
+        for (Long roomId : candidates) {
+            LobbyRoom room = rooms.get(roomId);
+            if (room != null && matches(room, condition)) {
+                found.add(room.response());
+                if (found.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * {@link #find} 로 한 페이지를 읽고 다음 페이지의 cursor 를 붙인다.
+     *
+     * @param cursor 이전 페이지의 {@link RoomListResponse#nextCursor()}. 첫 페이지면 null
+     */
+    public RoomListResponse findPage(RoomSearchCondition condition, Long cursor, int size) {
+        // 한 개 더 읽어서 다음 페이지가 있는지 확인한다
+        List<RoomResponse> rooms = find(condition, cursor, size + 1);
+        if (rooms.size() <= size) {
+            return new RoomListResponse(rooms, null);
+        }
+
+        List<RoomResponse> page = rooms.subList(0, size);
+        return new RoomListResponse(page, page.get(size - 1).roomId());
+    }
+
+    // 지정된 조건 중 후보가 가장 적은 인덱스를 고른다
+    private NavigableSet<Long> candidates(RoomSearchCondition condition) {
+        NavigableSet<Long> best = rooms.navigableKeySet();
+        int bestSize = Integer.MAX_VALUE;
+
+        List<Bucket> buckets = new ArrayList<>();
+        if (condition.state() != null) {
+            buckets.add(stateIndex.get(condition.state().name()));
+        }
+        if (condition.locked() != null) {
+            buckets.add(lockedIndex.get(condition.locked()));
+        }
+        if (condition.hasFreeSlot() != null) {
+            buckets.add(freeSlotIndex.get(condition.hasFreeSlot()));
+        }
+        if (condition.quizId() != null) {
+            buckets.add(quizIndex.get(condition.quizId()));
+        }
+        for (Bucket bucket : buckets) {
+            if (bucket.size() < bestSize) {
+                best = bucket.ids();
+                bestSize = bucket.size();
+            }
+        }
+
+        if (condition.namePrefix() != null) {
+            NavigableMap<String, NavigableSet<Long>> names = namesStartingWith(condition);
+            int nameSize = 0;
+            for (NavigableSet<Long> ids : names.values()) {
+                nameSize += ids.size();
+                if (nameSize >= bestSize) {
+                    return best;
+                }
+            }
+            TreeSet<Long> merged = new TreeSet<>();
+            names.values().forEach(merged::addAll);
+            return merged;
+        }
+        return best;
+    }
+
+    private NavigableMap<String, NavigableSet<Long>> namesStartingWith(
+            RoomSearchCondition condition) {
+        String prefix = normalize(condition.namePrefix());
+        return nameIndex.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+    }
+
+    private boolean matches(LobbyRoom room, RoomSearchCondition condition) {
+        RoomResponse response = room.response();
+        return (condition.state() == null
+                        || condition.state().name().equals(response.roomState()))
+                && (condition.locked() == null || condition.locked() == response.locked())
+                && (condition.hasFreeSlot() == null
+                        || condition.hasFreeSlot() == hasFreeSlot(room))
+                && (condition.quizId() == null || condition.quizId().equals(room.quizId()))
+                && (condition.namePrefix() == null
+                        || room.normalizedName().startsWith(normalize(condition.namePrefix())));
+    }
+
+    private void index(LobbyRoom room) {
+        Long roomId = room.response().roomId();
+        stateIndex.add(room.response().roomState(), roomId);
+        lockedIndex.add(room.response().locked(), roomId);
+        freeSlotIndex.add(hasFreeSlot(room), roomId);
+        quizIndex.add(room.quizId(), roomId);
+        nameIndex
+                .computeIfAbsent(room.normalizedName(), name -> new ConcurrentSkipListSet<>())
+                .add(roomId);
+    }
+
+    private void unindex(LobbyRoom room) {
+        Long roomId = room.response().roomId();
+        stateIndex.remove(room.response().roomState(), roomId);
+        lockedIndex.remove(room.response().locked(), roomId);
+        freeSlotIndex.remove(hasFreeSlot(room), roomId);
+        quizIndex.remove(room.quizId(), roomId);
+        NavigableSet<Long> ids = nameIndex.get(room.normalizedName());
+        if (ids != null) {
+            ids.remove(roomId);
+            if (ids.isEmpty()) {
+                nameIndex.remove(room.normalizedName());
+            }
+        }
+    }
+
+    private static List<RoomResponse> page(List<RoomResponse> sorted, Long cursor, int limit) {
+        // cursor 보다 큰 첫 방의 위치를 이분 탐색으로 찾는다
+        int from = 0;
+        if (cursor != null) {
+            int to = sorted.size();
+            while (from < to) {
+                int mid = (from + to) >>> 1;
+                if (sorted.get(mid).roomId() <= cursor) {
+                    from = mid + 1;
+                } else {
+                    to = mid;
+                }
+            }
+        }
+        return sorted.subList(from, Math.min(from + limit, sorted.size()));
+    }
+
+    private static boolean hasFreeSlot(LobbyRoom room) {
+        return room.response().currentUserCount() < room.response().maxUserCount();
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private record LobbyRoom(RoomResponse response, Long quizId, String normalizedName) {}
+
+    private record RoomListSnapshot(long version, List<RoomResponse> rooms) {}
+
+    /** 값 -> 방 id 집합. */
+    private static final class Index<K> {
+
+        private static final Bucket EMPTY = new Bucket();
+
+        private final Map<K, Bucket> buckets = new ConcurrentHashMap<>();
+
+        private void add(K key, Long roomId) {
+            Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket());
+            if (bucket.ids.add(roomId)) {
+                bucket.size.incrementAndGet();
+            }
+        }
+
+        private void remove(K key, Long roomId) {
+            Bucket bucket = buckets.get(key);
+            if (bucket != null && bucket.ids.remove(roomId)) {
+                bucket.size.decrementAndGet();
+            }
+        }
+
+        private Bucket get(K key) {
+            return buckets.getOrDefault(key, EMPTY);
+        }
+    }
+
+    // ConcurrentSkipListSet 의 size() 는 O(n) 이라 크기를 따로 세어 둔다
+    private static final class Bucket {
+
+        private final NavigableSet<Long> ids = new ConcurrentSkipListSet<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        private NavigableSet<Long> ids() {
+            return ids;
+        }
+
+        private int size() {
+            return size.get();
+        }
+    }
+}
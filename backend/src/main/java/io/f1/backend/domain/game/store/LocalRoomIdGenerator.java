@@ -0,0 +1,18 @@
+package io.f1.backend.domain.game.store;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@ConditionalOnProperty(name = "game.cluster.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalRoomIdGenerator implements RoomIdGenerator {
+
+    private final AtomicLong sequence = new AtomicLong(0);
+
+    @Override
+    public Long nextId() {
+        return sequence.incrementAndGet();
+    }
+}
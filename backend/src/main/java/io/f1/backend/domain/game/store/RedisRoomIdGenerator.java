@@ -0,0 +1,22 @@
+package io.f1.backend.domain.game.store;
+
+import lombok.RequiredArgsConstructor;
+
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "game.cluster.enabled", havingValue = "true")
+public class RedisRoomIdGenerator implements RoomIdGenerator {
+
+    private static final String SEQUENCE_KEY = "room:id-sequence";
+
+    private final RedissonClient redissonClient;
+
+    @Override
+    public Long nextId() {
+        return redissonClient.getAtomicLong(SEQUENCE_KEY).incrementAndGet();
+    }
+}
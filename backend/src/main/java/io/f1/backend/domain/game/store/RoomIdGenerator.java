@@ -0,0 +1,12 @@
+package io.f1.backend.domain.game.store;
+
+/**
+ * 방 id 발급.
+ *
+ * <p>{@code game.cluster.enabled} 로 선택한다. 기본값은 프로세스 안에서만 유일한 {@link LocalRoomIdGenerator} 이고,
+ * 여러 노드를 함께 띄우면 노드 사이에서도 id 가 겹치지 않도록 {@link RedisRoomIdGenerator} 를 쓴다.
+ */
+public interface RoomIdGenerator {
+
+    Long nextId();
+}
@@ -7,22 +7,41 @@ import org.springframework.stereotype.Repository;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저 -> 참여 중인 방 매핑.
+ *
+ * <p>값은 불변 {@link UserRoomSnapshot} 이고 쓰기마다 새 version 으로 교체되므로 읽기에는 락이 필요 없다. 읽은 값을 근거로 나중에
+ * 작업하는 쪽은 {@link #validate(Long, UserRoomSnapshot)} 로 그 사이에 매핑이 바뀌지 않았는지 확인한다.
+ */
 @Repository
 public class UserRoomRepository {
 
-    private final Map<Long, Long> userRoomMap = new ConcurrentHashMap<>();
+    private final Map<Long, UserRoomSnapshot> userRoomMap = new ConcurrentHashMap<>();
+    private final AtomicLong versionSequence = new AtomicLong(0);
 
     public void addUser(Player player, Room room) {
-        userRoomMap.put(player.getId(), room.getId());
+        userRoomMap.put(
+                player.getId(),
+                new UserRoomSnapshot(room.getId(), versionSequence.incrementAndGet()));
     }
 
     public Long getRoomId(Long userId) {
-        return userRoomMap.get(userId);
+        return getSnapshot(userId).roomId();
+    }
+
+    public UserRoomSnapshot getSnapshot(Long userId) {
+        return userRoomMap.getOrDefault(userId, UserRoomSnapshot.NOT_IN_ROOM);
+    }
+
+    public boolean validate(Long userId, UserRoomSnapshot snapshot) {
+        return getSnapshot(userId).version() == snapshot.version();
     }
 
     public void removeUser(Long userId, Long roomId) {
-        userRoomMap.remove(userId, roomId);
+        userRoomMap.computeIfPresent(
+                userId, (id, snapshot) -> snapshot.roomId().equals(roomId) ? null : snapshot);
     }
 
     public boolean isUserInAnyRoom(Long userId) {
@@ -0,0 +1,14 @@
+package io.f1.backend.domain.game.store;
+
+/**
+ * 특정 시점의 유저-방 매핑. version 은 매핑이 바뀔 때마다 전역 시퀀스에서 새로 발급되므로 같은 방에 다시 들어와도 이전 값과 겹치지
+ * 않는다 (방에 없는 상태는 version 0).
+ */
+public record UserRoomSnapshot(Long roomId, long version) {
+
+    public static final UserRoomSnapshot NOT_IN_ROOM = new UserRoomSnapshot(null, 0L);
+
+    public boolean isInRoom() {
+        return roomId != null;
+    }
+}
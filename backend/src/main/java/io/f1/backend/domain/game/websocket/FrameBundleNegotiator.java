@@ -0,0 +1,121 @@
+package io.f1.backend.domain.game.websocket;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 라운드 전환 묶음 프레임({@link io.f1.backend.domain.game.dto.MessageType#BUNDLE}) 협상.
+ *
+ * <p>CONNECT 프레임에 {@code x-frame-bundle: 1} 헤더를 보낸 세션이 방 destination 을 구독하면, 구독 destination 을
+ * {@code <방 destination>/bundled} 로 바꿔 등록한다. 클라이언트는 구독 id 로 메시지를 받으므로 구독 경로는 그대로 두면 된다. 일반
+ * 메시지는 두 destination 에 같은 payload 로 나가고, 라운드 전환만 기존 구독에는 낱개 프레임으로, 묶음 구독에는 한 프레임으로 나간다.
+ */
+@Component
+public class FrameBundleNegotiator implements ChannelInterceptor {
+
+    public static final String BUNDLE_HEADER = "x-frame-bundle";
+
+    private static final String ROOM_DESTINATION_PREFIX = "/sub/room/";
+    private static final String BUNDLED_SUFFIX = "/bundled";
+
+    private final Set<String> bundleSessions = ConcurrentHashMap.newKeySet();
+
+    // sessionId -> (subscriptionId -> 묶음 destination)
+    private final Map<String, Map<String, String>> bundleSubscriptions = new ConcurrentHashMap<>();
+    private final Map<String, Integer> subscriberCounts = new ConcurrentHashMap<>();
+
+    public static String toBundledDestination(String destination) {
+        return destination + BUNDLED_SUFFIX;
+    }
+
+    // 묶음 구독자가 없는 방에는 묶음 destination 으로 보내지 않는다
+    public boolean hasBundleSubscribers(String destination) {
+        return subscriberCounts.containsKey(toBundledDestination(destination));
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        StompCommand command = accessor.getCommand();
+        String sessionId = accessor.getSessionId();
+        if (command == null || sessionId == null) {
+            return message;
+        }
+
+        switch (command) {
+            case CONNECT -> {
+                String bundle = accessor.getFirstNativeHeader(BUNDLE_HEADER);
+                if ("1".equals(bundle) || "true".equalsIgnoreCase(bundle)) {
+                    bundleSessions.add(sessionId);
+                }
+            }
+            case SUBSCRIBE -> {
+                return subscribe(message, accessor, sessionId);
+            }
+            case UNSUBSCRIBE -> unsubscribe(sessionId, accessor.getSubscriptionId());
+            case DISCONNECT -> disconnect(sessionId);
+            default -> {}
+        }
+        return message;
+    }
+
+    private Message<?> subscribe(
+            Message<?> message, StompHeaderAccessor accessor, String sessionId) {
+        String destination = accessor.getDestination();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (!bundleSessions.contains(sessionId)
+                || subscriptionId == null
+                || destination == null
+                || !destination.startsWith(ROOM_DESTINATION_PREFIX)
+                || destination.endsWith(BUNDLED_SUFFIX)) {
+            return message;
+        }
+
+        String bundledDestination = toBundledDestination(destination);
+        String previous =
+                bundleSubscriptions
+                        .computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                        .put(subscriptionId, bundledDestination);
+        if (previous != null) {
+            decrement(previous);
+        }
+        subscriberCounts.merge(bundledDestination, 1, Integer::sum);
+
+        accessor.setDestination(bundledDestination);
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, String> subscriptions = bundleSubscriptions.get(sessionId);
+        if (subscriptions == null || subscriptionId == null) {
+            return;
+        }
+        String bundledDestination = subscriptions.remove(subscriptionId);
+        if (bundledDestination != null) {
+            decrement(bundledDestination);
+        }
+    }
+
+    // 클라이언트의 DISCONNECT 와 세션 종료 시 두 번 들어올 수 있으므로 여러 번 호출돼도 안전해야 한다
+    private void disconnect(String sessionId) {
+        bundleSessions.remove(sessionId);
+        Map<String, String> subscriptions = bundleSubscriptions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrement);
+        }
+    }
+
+    private void decrement(String bundledDestination) {
+        subscriberCounts.computeIfPresent(
+                bundledDestination, (key, count) -> count > 1 ? count - 1 : null);
+    }
+}
@@ -1,14 +1,12 @@
 package io.f1.backend.domain.game.websocket;
 
-import static io.f1.backend.domain.game.app.RoomService.ROOM_LOCK_PREFIX;
-import static io.f1.backend.domain.game.app.RoomService.USER_LOCK_PREFIX;
 import static io.f1.backend.domain.game.websocket.WebSocketUtils.getUserDestination;
 
 import io.f1.backend.domain.game.app.RoomService;
 import io.f1.backend.domain.game.dto.MessageType;
 import io.f1.backend.domain.game.dto.response.HeartbeatResponse;
+import io.f1.backend.domain.game.executor.RoomCommandExecutor;
 import io.f1.backend.domain.user.dto.UserPrincipal;
-import io.f1.backend.global.lock.LockExecutor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -36,7 +34,7 @@ public class HeartbeatMonitor {
     private final MessageSender messageSender;
     private final RoomService roomService;
     private final SimpUserRegistry simpUserRegistry;
-    private final LockExecutor lockExecutor;
+    private final RoomCommandExecutor roomCommandExecutor;
 
     @Scheduled(fixedDelay = HEARTBEAT_CHECK_INTERVAL_MS)
     public void monitorClientHeartbeat() {
@@ -75,19 +73,17 @@ public class HeartbeatMonitor {
                     && token.getPrincipal() instanceof UserPrincipal userPrincipal) {
 
                 Long userId = userPrincipal.getUserId();
-                Long roomId = roomService.getRoomIdByUserIdWithLock(userId);
-
-                lockExecutor.executeWithLock(
-                        USER_LOCK_PREFIX,
-                        userId,
-                        () -> {
-                            lockExecutor.executeWithLock(
-                                    ROOM_LOCK_PREFIX,
-                                    roomId,
-                                    () -> {
-                                        roomService.disconnectOrExitRoom(roomId, userPrincipal);
-                                    });
-                        });
+                Long roomId = roomService.getRoomIdByUserId(userId);
+
+                /* 방에 없는 유저는 세션만 정리 */
+                if (roomId != null) {
+                    roomCommandExecutor.executeWithUserAndRoomLock(
+                            userId,
+                            roomId,
+                            () -> {
+                                roomService.disconnectOrExitRoom(roomId, userPrincipal);
+                            });
+                }
             }
             cleanSession(sessionId);
         }
@@ -1,22 +1,125 @@
 package io.f1.backend.domain.game.websocket;
 
+import static io.f1.backend.domain.game.websocket.WebSocketUtils.getDestination;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.f1.backend.domain.game.dto.MessageType;
 import io.f1.backend.domain.game.dto.response.DefaultWebSocketResponse;
+import io.f1.backend.domain.game.event.RoomCreatedEvent;
+import io.f1.backend.domain.game.event.RoomDeletedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방송 메시지는 JSON 을 여기서 한 번만 byte[] 로 인코딩해 보내고, 브로커는 그 payload 를 구독자 모두에게 그대로 재사용한다. 구독자
+ * 수가 늘어도 Jackson 작업량은 메시지당 한 번이다.
+ *
+ * <p>라운드 전환처럼 연달아 나가는 메시지는 {@link #sendBundle} 로 보낸다. 묶음을 협상한 클라이언트에게는 {@link
+ * MessageType#BUNDLE} 한 프레임으로, 나머지에게는 기존처럼 낱개 프레임으로 전달된다. 협상은 {@link FrameBundleNegotiator} 참고.
+ *
+ * <p>채팅 묶음 전송(coalescing)을 켜면 CHAT 메시지는 destination 별로 짧은 시간 모았다가 {@link MessageType#CHAT_BATCH} 한
+ * 프레임으로 보낸다. 그 외 메시지는 기다리지 않고 바로 보내되, 같은 destination 에 모아 둔 채팅을 먼저 내보내 순서를 지킨다.
+ *
+ * <p>방송 메시지에는 destination 별 번호(sequence)가 붙고 {@link RoomEventLog} 에 기록된다. 같은 destination 의 전송은 한 번에
+ * 하나씩 일어나므로 클라이언트는 번호가 건너뛰면 놓친 메시지가 있다고 판단할 수 있다.
+ *
+ * <p>destination 별 상태는 방이 만들어질 때 만들고 방이 삭제될 때 버린다. 삭제된 방으로 늦게 들어온 방송은 받을 사람이 없으므로 버린다.
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class MessageSender {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final FrameBundleNegotiator frameBundleNegotiator;
+    private final RoomEventLog eventLog;
+    private final Map<MessageType, Counter> encodedBytes = new EnumMap<>(MessageType.class);
+    private final long chatWindowMillis;
+
+    // 묶음 전송을 끄면 null
+    private final ScheduledExecutorService flushScheduler;
+    private final Map<String, RoomChannel> channels = new ConcurrentHashMap<>();
+
+    public MessageSender(
+            SimpMessagingTemplate messagingTemplate,
+            ObjectMapper objectMapper,
+            FrameBundleNegotiator frameBundleNegotiator,
+            RoomEventLog eventLog,
+            MeterRegistry meterRegistry,
+            @Value("${game.chat.coalescing.enabled:false}") boolean chatCoalescingEnabled,
+            @Value("${game.chat.coalescing.window-millis:30}") long chatWindowMillis) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.frameBundleNegotiator = frameBundleNegotiator;
+        this.eventLog = eventLog;
+        for (MessageType type : MessageType.values()) {
+            encodedBytes.put(
+                    type,
+                    Counter.builder("websocket.broadcast.encoded.bytes")
+                            .description("방송 메시지를 JSON 으로 인코딩한 바이트 수 (구독자 수와 무관)")
+                            .baseUnit("bytes")
+                            .tag("type", type.name())
+                            .register(meterRegistry));
+        }
+        this.chatWindowMillis = chatWindowMillis;
+        this.flushScheduler =
+                chatCoalescingEnabled && chatWindowMillis > 0
+                        ? Executors.newSingleThreadScheduledExecutor(
+                                Thread.ofPlatform().name("chat-coalescer").daemon().factory())
+                        : null;
+    }
 
     public <T> void sendBroadcast(String destination, MessageType type, T message) {
-        messagingTemplate.convertAndSend(
-                destination, new DefaultWebSocketResponse<>(type, message));
+        RoomChannel channel = channels.get(destination);
+        if (channel == null) {
+            log.debug("[MessageSender] Dropped {} for closed destination: {}", type, destination);
+            return;
+        }
+        if (type == MessageType.CHAT && flushScheduler != null) {
+            channel.add(message);
+            return;
+        }
+        // 정답 채팅이 QUESTION_RESULT 보다 늦게 도착하지 않도록 모아 둔 채팅을 먼저 보낸다
+        channel.flushThen(() -> send(destination, type, message));
+    }
+
+    /**
+     * @param events 순서대로 전달할 메시지들
+     */
+    public void sendBundle(String destination, List<DefaultWebSocketResponse<?>> events) {
+        RoomChannel channel = channels.get(destination);
+        if (channel == null) {
+            log.debug("[MessageSender] Dropped bundle for closed destination: {}", destination);
+            return;
+        }
+        channel.flushThen(() -> sendEvents(destination, events));
     }
 
     public <T> void sendPersonal(
@@ -24,4 +127,173 @@ public class MessageSender {
         messagingTemplate.convertAndSendToUser(
                 principalName, destination, new DefaultWebSocketResponse<>(type, message));
     }
+
+    /**
+     * 재연결한 사용자에게 {@code lastSequence} 뒤의 방송 메시지를 기록된 payload 그대로 다시 보낸다.
+     *
+     * @return 놓친 메시지가 기록에 남아 있지 않아 보내지 못했으면 false
+     */
+    public boolean sendMissedEvents(
+            String destination, long lastSequence, String userDestination, String principalName) {
+        Optional<List<byte[]>> missed = eventLog.eventsAfter(destination, lastSequence);
+        if (missed.isEmpty()) {
+            return false;
+        }
+
+        // convertAndSendToUser 와 같은 방식으로 사용자 destination 을 만든다
+        String personalDestination =
+                messagingTemplate.getUserDestinationPrefix()
+                        + principalName.replace("/", "%2F")
+                        + userDestination;
+        for (byte[] payload : missed.get()) {
+            messagingTemplate.send(personalDestination, toMessage(payload));
+        }
+        return true;
+    }
+
+    @EventListener
+    public void onRoomCreated(RoomCreatedEvent event) {
+        open(getDestination(event.room().getId()));
+    }
+
+    @EventListener
+    public void onRoomDeleted(RoomDeletedEvent event) {
+        // 이미 예약된 전송이 버퍼를 들고 있어도 RoomEventLog 가 닫혀 있으면 send 에서 버려진다
+        channels.remove(getDestination(event.roomId()));
+    }
+
+    void open(String destination) {
+        channels.putIfAbsent(destination, new RoomChannel(destination));
+    }
+
+    boolean isOpen(String destination) {
+        return channels.containsKey(destination);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flushScheduler == null) {
+            return;
+        }
+        flushScheduler.shutdownNow();
+        channels.values().forEach(RoomChannel::flush);
+    }
+
+    private void send(String destination, MessageType type, Object message) {
+        byte[] payload =
+                eventLog.append(
+                        destination,
+                        sequence ->
+                                encode(new DefaultWebSocketResponse<>(type, message, sequence)));
+        if (payload == null) {
+            return;
+        }
+        Message<byte[]> encoded = toMessage(payload);
+        messagingTemplate.send(destination, encoded);
+        if (frameBundleNegotiator.hasBundleSubscribers(destination)) {
+            messagingTemplate.send(
+                    FrameBundleNegotiator.toBundledDestination(destination), encoded);
+        }
+    }
+
+    private void sendEvents(String destination, List<DefaultWebSocketResponse<?>> events) {
+        List<DefaultWebSocketResponse<?>> sequencedEvents = new ArrayList<>(events.size());
+        for (DefaultWebSocketResponse<?> event : events) {
+            byte[] payload =
+                    eventLog.append(
+                            destination,
+                            sequence -> {
+                                DefaultWebSocketResponse<?> sequenced =
+                                        new DefaultWebSocketResponse<>(
+                                                event.getType(), event.getMessage(), sequence);
+                                sequencedEvents.add(sequenced);
+                                return encode(sequenced);
+                            });
+            if (payload == null) {
+                return;
+            }
+            messagingTemplate.send(destination, toMessage(payload));
+        }
+        // 묶음 프레임 자체는 기록하지 않는다. 재연결 시에는 안의 메시지를 하나씩 다시 보낸다
+        if (frameBundleNegotiator.hasBundleSubscribers(destination)) {
+            byte[] bundle =
+                    encode(new DefaultWebSocketResponse<>(MessageType.BUNDLE, sequencedEvents));
+            messagingTemplate.send(
+                    FrameBundleNegotiator.toBundledDestination(destination), toMessage(bundle));
+        }
+    }
+
+    // 메시지 컨버터와 같은 ObjectMapper 를 쓰므로 convertAndSend 와 같은 JSON 이 나간다
+    private byte[] encode(DefaultWebSocketResponse<?> response) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new MessageConversionException(
+                    "Failed to encode " + response.getType() + " message", e);
+        }
+        encodedBytes.get(response.getType()).increment(payload.length);
+        return payload;
+    }
+
+    private Message<byte[]> toMessage(byte[] payload) {
+        SimpMessageHeaderAccessor accessor =
+                SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    /**
+     * destination 하나의 전송 순서를 지키는 모니터이자 채팅 버퍼. 번호 부여, 채팅 추가, 전송을 같은 모니터 안에서 처리하므로 예약된
+     * 전송이 인코딩하는 도중에 제어 메시지가 먼저 나가거나, 번호와 전송 순서가 어긋나는 일이 없다.
+     */
+    private final class RoomChannel {
+
+        private final String destination;
+        private List<Object> chats = new ArrayList<>();
+        private boolean flushScheduled;
+
+        private RoomChannel(String destination) {
+            this.destination = destination;
+        }
+
+        private synchronized void add(Object message) {
+            chats.add(message);
+            // 창의 첫 메시지가 들어올 때만 전송을 예약한다
+            if (!flushScheduled) {
+                flushScheduled = true;
+                flushScheduler.schedule(
+                        this::flushScheduled, chatWindowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private synchronized void flushThen(Runnable sendAction) {
+            flush();
+            sendAction.run();
+        }
+
+        private void flushScheduled() {
+            try {
+                flush();
+            } catch (Exception e) {
+                log.warn("[MessageSender] Failed to flush chat batch: {}", destination, e);
+            }
+        }
+
+        private synchronized void flush() {
+            flushScheduled = false;
+            if (chats.isEmpty()) {
+                return;
+            }
+
+            List<Object> batch = chats;
+            chats = new ArrayList<>();
+            if (batch.size() == 1) {
+                send(destination, MessageType.CHAT, batch.get(0));
+                return;
+            }
+            send(destination, MessageType.CHAT_BATCH, batch);
+        }
+    }
 }
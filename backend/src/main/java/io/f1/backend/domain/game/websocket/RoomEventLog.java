@@ -0,0 +1,82 @@
+package io.f1.backend.domain.game.websocket;
+
+import static io.f1.backend.domain.game.websocket.WebSocketUtils.getDestination;
+
+import io.f1.backend.domain.game.event.RoomCreatedEvent;
+import io.f1.backend.domain.game.event.RoomDeletedEvent;
+import io.f1.backend.global.util.SequencedRingBuffer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+
+/**
+ * 방 destination 별 방송 기록. 방송 메시지마다 번호(sequence)를 붙이고, 인코딩된 payload 를 최근 {@code capacity} 개까지
+ * destination 별 {@link SequencedRingBuffer} 에 남겨 둔다.
+ *
+ * <p>재연결한 클라이언트가 마지막으로 받은 번호를 알려 주면 그 뒤의 payload 만 다시 보내면 되므로, DB 조회나 JSON 인코딩 없이 상태를
+ * 맞출 수 있다. 놓친 메시지가 버퍼보다 많으면 기존처럼 전체 상태를 보낸다.
+ *
+ * <p>버퍼는 방이 만들어질 때 열고 방이 삭제될 때 닫는다. 닫힌 destination 으로 늦게 도착한 방송은 기록하지 않으므로 삭제된 방의 버퍼가
+ * 다시 생기지 않는다.
+ */
+@Component
+public class RoomEventLog {
+
+    private final int capacity;
+    private final Map<String, SequencedRingBuffer<byte[]>> rings = new ConcurrentHashMap<>();
+
+    public RoomEventLog(@Value("${game.room.event-log.capacity:256}") int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    public void open(String destination) {
+        rings.putIfAbsent(destination, new SequencedRingBuffer<>(capacity));
+    }
+
+    /**
+     * 다음 번호로 메시지를 인코딩해 기록한다. 번호 순서와 실제 전송 순서가 같도록 호출하는 쪽에서 destination 별로 순서를 보장해야 한다.
+     *
+     * @param encoder 번호를 받아 payload 를 만든다
+     * @return 기록된 payload. 열려 있지 않은 destination 이면 인코딩하지 않고 null
+     */
+    public byte[] append(String destination, LongFunction<byte[]> encoder) {
+        SequencedRingBuffer<byte[]> ring = rings.get(destination);
+        return ring == null ? null : ring.append(encoder);
+    }
+
+    boolean isOpen(String destination) {
+        return rings.containsKey(destination);
+    }
+
+    /**
+     * @param lastSequence 클라이언트가 마지막으로 받은 번호. 아직 하나도 받지 못했으면 0
+     * @return 그 뒤의 payload 들. 버퍼에서 이미 밀려났거나 이 서버가 붙인 번호가 아니면 empty
+     */
+    public Optional<List<byte[]>> eventsAfter(String destination, long lastSequence) {
+        SequencedRingBuffer<byte[]> ring = rings.get(destination);
+        if (ring == null) {
+            return lastSequence == 0 ? Optional.of(List.of()) : Optional.empty();
+        }
+        return ring.itemsAfter(lastSequence);
+    }
+
+    @EventListener
+    public void onRoomCreated(RoomCreatedEvent event) {
+        open(getDestination(event.room().getId()));
+    }
+
+    @EventListener
+    public void onRoomDeleted(RoomDeletedEvent event) {
+        rings.remove(getDestination(event.roomId()));
+    }
+}
@@ -8,6 +8,9 @@ import org.springframework.security.core.Authentication;
 
 public class WebSocketUtils {
 
+    // 재연결 시 클라이언트가 마지막으로 받은 방송 메시지 번호를 담는 헤더
+    public static final String LAST_SEQUENCE_HEADER = "x-last-sequence";
+
     public static UserPrincipal getSessionUser(Message<?> message) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
         Authentication auth = (Authentication) accessor.getUser();
@@ -19,6 +22,21 @@ public class WebSocketUtils {
         return accessor.getSessionId();
     }
 
+    // 헤더가 없거나 숫자가 아니면 null 을 돌려주고, 전체 상태를 다시 보내게 한다
+    public static Long getLastSequence(Message<?> message) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        String lastSequence = accessor.getFirstNativeHeader(LAST_SEQUENCE_HEADER);
+        if (lastSequence == null) {
+            return null;
+        }
+        try {
+            long sequence = Long.parseLong(lastSequence.trim());
+            return sequence < 0 ? null : sequence;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     public static String getDestination(Long roomId) {
         return "/sub/room/" + roomId;
     }
@@ -1,5 +1,6 @@
 package io.f1.backend.domain.game.websocket.controller;
 
+import static io.f1.backend.domain.game.websocket.WebSocketUtils.getLastSequence;
 import static io.f1.backend.domain.game.websocket.WebSocketUtils.getSessionId;
 import static io.f1.backend.domain.game.websocket.WebSocketUtils.getSessionUser;
 
@@ -7,6 +8,7 @@ import io.f1.backend.domain.game.app.ChatService;
 import io.f1.backend.domain.game.app.GameService;
 import io.f1.backend.domain.game.app.RoomService;
 import io.f1.backend.domain.game.dto.ChatMessage;
+import io.f1.backend.domain.game.dto.request.AnswerToleranceChangeRequest;
 import io.f1.backend.domain.game.dto.request.DefaultWebSocketRequest;
 import io.f1.backend.domain.game.dto.request.QuizChangeRequest;
 import io.f1.backend.domain.game.dto.request.RoundChangeRequest;
@@ -33,7 +35,7 @@ public class GameSocketController {
     public void initializeRoomSocket(@DestinationVariable Long roomId, Message<?> message) {
         UserPrincipal principal = getSessionUser(message);
 
-        roomService.initializeRoomSocket(roomId, principal);
+        roomService.initializeRoomSocket(roomId, principal, getLastSequence(message));
         roomService.addSessionRoomId(getSessionId(message), roomId);
     }
 
@@ -43,7 +45,7 @@ public class GameSocketController {
         UserPrincipal principal = getSessionUser(message);
         roomService.changeConnectedStatusWithLock(
                 roomId, principal.getUserId(), ConnectionState.CONNECTED);
-        roomService.reconnectSendResponseWithLock(roomId, principal);
+        roomService.reconnectSendResponseWithLock(roomId, principal, getLastSequence(message));
         roomService.addSessionRoomId(getSessionId(message), roomId);
     }
 
@@ -93,6 +95,14 @@ public class GameSocketController {
         gameService.changeGameSetting(roomId, principal, message.getPayload().getMessage());
     }
 
+    @MessageMapping("/room/answer-tolerance/{roomId}")
+    public void answerToleranceChange(
+            @DestinationVariable Long roomId,
+            Message<DefaultWebSocketRequest<AnswerToleranceChangeRequest>> message) {
+        UserPrincipal principal = getSessionUser(message);
+        gameService.changeGameSetting(roomId, principal, message.getPayload().getMessage());
+    }
+
     @MessageMapping("/room/round/{roomId}")
     public void roundChange(
             @DestinationVariable Long roomId,
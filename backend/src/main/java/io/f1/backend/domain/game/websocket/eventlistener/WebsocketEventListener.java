@@ -1,15 +1,14 @@
 package io.f1.backend.domain.game.websocket.eventlistener;
 
-import static io.f1.backend.domain.game.app.RoomService.ROOM_LOCK_PREFIX;
-import static io.f1.backend.domain.game.app.RoomService.USER_LOCK_PREFIX;
 import static io.f1.backend.domain.game.websocket.WebSocketUtils.getSessionUser;
 
 import io.f1.backend.domain.game.app.RoomService;
+import io.f1.backend.domain.game.executor.RoomCommandExecutor;
 import io.f1.backend.domain.game.model.ConnectionState;
+import io.f1.backend.domain.game.store.UserRoomSnapshot;
 import io.f1.backend.domain.game.websocket.DisconnectTaskManager;
 import io.f1.backend.domain.game.websocket.HeartbeatMonitor;
 import io.f1.backend.domain.user.dto.UserPrincipal;
-import io.f1.backend.global.lock.LockExecutor;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,7 +26,7 @@ public class WebsocketEventListener {
     private final RoomService roomService;
     private final DisconnectTaskManager taskManager;
     private final HeartbeatMonitor heartbeatMonitor;
-    private final LockExecutor lockExecutor;
+    private final RoomCommandExecutor roomCommandExecutor;
 
     @EventListener
     public void handleDisconnectedListener(SessionDisconnectEvent event) {
@@ -42,17 +41,17 @@ public class WebsocketEventListener {
         Long roomId = roomService.getRoomIdBySessionId(sessionId);
         roomService.removeSessionRoomId(sessionId);
 
-        /* 정상 로직 */
-        if (!roomService.isUserInAnyRoom(userId)) {
+        /* 정상 로직 - 유저-방 매핑은 락 없이 스냅샷으로 읽는다 */
+        UserRoomSnapshot userRoom = roomService.getUserRoomSnapshot(userId);
+        if (!userRoom.isInRoom()) {
             return;
         }
 
-        if (!roomService.existsRoom(roomId)) {
+        if (roomId == null || !roomService.existsRoom(roomId)) {
             return;
         }
 
-        lockExecutor.executeWithLock(
-                ROOM_LOCK_PREFIX,
+        roomCommandExecutor.executeWithRoomLock(
                 roomId,
                 () ->
                         roomService.changeConnectedStatus(
@@ -61,19 +60,18 @@ public class WebsocketEventListener {
         taskManager.scheduleDisconnectTask(
                 userId,
                 () -> {
-                    lockExecutor.executeWithLock(
-                            USER_LOCK_PREFIX,
+                    roomCommandExecutor.executeWithUserAndRoomLock(
                             userId,
+                            roomId,
                             () -> {
-                                lockExecutor.executeWithLock(
-                                        ROOM_LOCK_PREFIX,
-                                        roomId,
-                                        () -> {
-                                            if (ConnectionState.DISCONNECTED.equals(
-                                                    roomService.getPlayerState(userId, roomId))) {
-                                                roomService.disconnectOrExitRoom(roomId, principal);
-                                            }
-                                        });
+                                /* 유예 시간 동안 다른 방으로 옮겼거나 다시 입장했다면 처리하지 않는다 */
+                                if (!roomService.isUserRoomUnchanged(userId, userRoom)) {
+                                    return;
+                                }
+                                if (ConnectionState.DISCONNECTED.equals(
+                                        roomService.getPlayerState(userId, roomId))) {
+                                    roomService.disconnectOrExitRoom(roomId, principal);
+                                }
                             });
                 });
     }
@@ -16,15 +16,22 @@ import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 public class QuestionService {
 
+    private static final int MAX_ACCEPTED_ANSWERS = 5;
+    private static final int MAX_ANSWER_LENGTH = 30;
+
     private final QuestionRepository questionRepository;
     private final ContentQuestionRepository contentQuestionRepository;
 
     public void saveContentQuestion(Quiz quiz, ContentQuestionRequest request) {
         Question question = new Question(quiz, request.getAnswer());
+        question.changeAcceptedAnswers(toAcceptedAnswers(request.getAcceptedAnswers()));
         quiz.addQuestion(question);
         questionRepository.save(question);
 
@@ -36,7 +43,11 @@ public class QuestionService {
     public void updateContentQuestions(Quiz quiz, ContentQuestionUpdateRequest request) {
         if (request.getId() == null) {
             saveContentQuestion(
-                    quiz, ContentQuestionRequest.of(request.getContent(), request.getAnswer()));
+                    quiz,
+                    ContentQuestionRequest.of(
+                            request.getContent(),
+                            request.getAnswer(),
+                            request.getAcceptedAnswers()));
 
             return;
         }
@@ -49,6 +60,10 @@ public class QuestionService {
         }
 
         question.changeAnswer(request.getAnswer());
+
+        if (request.getAcceptedAnswers() != null) {
+            question.changeAcceptedAnswers(toAcceptedAnswers(request.getAcceptedAnswers()));
+        }
     }
 
     public void deleteQuestion(Long questionId, QuizType quizType) {
@@ -65,6 +80,25 @@ public class QuestionService {
         questionRepository.delete(question);
     }
 
+    // 앞뒤 공백을 정리하고 빈 값/중복은 버린다
+    private List<String> toAcceptedAnswers(List<String> acceptedAnswers) {
+        List<String> answers =
+                acceptedAnswers.stream()
+                        .filter(Objects::nonNull)
+                        .map(String::strip)
+                        .filter(answer -> !answer.isEmpty())
+                        .distinct()
+                        .toList();
+
+        if (answers.size() > MAX_ACCEPTED_ANSWERS) {
+            throw new CustomException(QuestionErrorCode.INVALID_ACCEPTED_ANSWER_COUNT);
+        }
+        if (answers.stream().anyMatch(answer -> answer.length() > MAX_ANSWER_LENGTH)) {
+            throw new CustomException(QuestionErrorCode.INVALID_ANSWER_LENGTH);
+        }
+        return answers;
+    }
+
     private Question getQuestion(Long questionId) {
         return questionRepository
                 .findById(questionId)
@@ -8,14 +8,19 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.List;
+
 @Getter
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ContentQuestionRequest {
     private String content;
     private String answer;
+    private List<String> acceptedAnswers;
 
-    public static ContentQuestionRequest of(String content, String answer) {
-        return new ContentQuestionRequest(content, answer);
+    public static ContentQuestionRequest of(
+            String content, String answer, List<String> acceptedAnswers) {
+        return new ContentQuestionRequest(
+                content, answer, acceptedAnswers == null ? List.of() : acceptedAnswers);
     }
 
     public ContentQuestion toContentQuestion(Question question) {
@@ -4,6 +4,8 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.List;
+
 @Getter
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ContentQuestionUpdateRequest {
@@ -11,7 +13,11 @@ public class ContentQuestionUpdateRequest {
     private String content;
     private String answer;
 
-    public static ContentQuestionUpdateRequest of(Long id, String content, String answer) {
-        return new ContentQuestionUpdateRequest(id, content, answer);
+    // null 이면 기존 추가 정답을 유지한다
+    private List<String> acceptedAnswers;
+
+    public static ContentQuestionUpdateRequest of(
+            Long id, String content, String answer, List<String> acceptedAnswers) {
+        return new ContentQuestionUpdateRequest(id, content, answer, acceptedAnswers);
     }
 }
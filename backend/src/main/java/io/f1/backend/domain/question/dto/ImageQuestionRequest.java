@@ -4,5 +4,14 @@ import io.f1.backend.global.validation.TrimmedSize;
 
 import jakarta.validation.constraints.NotBlank;
 
+import java.util.List;
+
 public record ImageQuestionRequest(
-        @TrimmedSize(min = 1, max = 30) @NotBlank(message = "정답을 입력해주세요.") String answer) {}
+        @TrimmedSize(min = 1, max = 30) @NotBlank(message = "정답을 입력해주세요.") String answer,
+        List<@TrimmedSize(min = 1, max = 30) @NotBlank(message = "추가 정답을 입력해주세요.") String>
+                acceptedAnswers) {
+
+    public ImageQuestionRequest(String answer) {
+        this(answer, List.of());
+    }
+}
@@ -6,6 +6,8 @@ import jakarta.validation.constraints.NotBlank;
 
 import lombok.Getter;
 
+import java.util.List;
+
 @Getter
 public class ImageQuestionUpdateRequest {
     private Long id;
@@ -16,6 +18,9 @@ public class ImageQuestionUpdateRequest {
     @NotBlank(message = "정답을 입력해주세요.")
     private String answer;
 
+    private List<@TrimmedSize(min = 1, max = 30) @NotBlank(message = "추가 정답을 입력해주세요.") String>
+            acceptedAnswers;
+
     public boolean hasImageFile() {
         return imageFile;
     }
@@ -1,3 +1,6 @@
 package io.f1.backend.domain.question.dto;
 
-public record QuestionResponse(Long id, String content, String answer) {}
+import java.util.List;
+
+public record QuestionResponse(
+        Long id, String content, String answer, List<String> acceptedAnswers) {}
@@ -9,6 +9,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -21,4 +23,12 @@ public class TextQuestionRequest {
     @TrimmedSize(min = 1, max = 30)
     @NotBlank(message = "정답을 입력해주세요.")
     private String answer;
+
+    // 대표 정답 외에 정답으로 인정할 표기 (예: 한글/영문 표기)
+    private List<@TrimmedSize(min = 1, max = 30) @NotBlank(message = "추가 정답을 입력해주세요.") String>
+            acceptedAnswers;
+
+    public TextQuestionRequest(String content, String answer) {
+        this(content, answer, List.of());
+    }
 }
@@ -7,6 +7,8 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.List;
+
 @Getter
 @AllArgsConstructor
 public class TextQuestionUpdateRequest {
@@ -20,4 +22,7 @@ public class TextQuestionUpdateRequest {
     @TrimmedSize(min = 1, max = 30)
     @NotBlank(message = "정답을 입력해주세요.")
     private String answer;
+
+    private List<@TrimmedSize(min = 1, max = 30) @NotBlank(message = "추가 정답을 입력해주세요.") String>
+            acceptedAnswers;
 }
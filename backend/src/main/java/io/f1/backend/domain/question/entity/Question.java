@@ -12,12 +12,18 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import org.hibernate.annotations.BatchSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -37,6 +43,11 @@ public class Question extends BaseEntity {
     @OneToOne(mappedBy = "question", cascade = CascadeType.REMOVE)
     private ContentQuestion contentQuestion;
 
+    // 여러 문제의 추가 정답을 한 번의 쿼리로 읽도록 배치로 초기화한다
+    @BatchSize(size = 100)
+    @OneToMany(mappedBy = "question", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<AcceptedAnswer> acceptedAnswers = new ArrayList<>();
+
     public Question(Quiz quiz, String answer) {
         this.quiz = quiz;
         this.answer = answer;
@@ -49,4 +60,15 @@ public class Question extends BaseEntity {
     public void changeAnswer(String answer) {
         this.answer = answer;
     }
+
+    public void changeAcceptedAnswers(List<String> answers) {
+        acceptedAnswers.clear();
+        for (String acceptedAnswer : answers) {
+            acceptedAnswers.add(new AcceptedAnswer(this, acceptedAnswer));
+        }
+    }
+
+    public List<String> getAcceptedAnswerTexts() {
+        return acceptedAnswers.stream().map(AcceptedAnswer::getAnswer).toList();
+    }
 }
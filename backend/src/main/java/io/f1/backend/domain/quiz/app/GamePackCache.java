@@ -0,0 +1,159 @@
+package io.f1.backend.domain.quiz.app;
+
+import io.f1.backend.domain.quiz.dto.GamePack;
+import io.f1.backend.domain.quiz.event.GamePackEvictedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 퀴즈별 {@link GamePack} LRU 캐시. 퀴즈 수와 전체 문제 수 두 가지 상한을 두고, 넘치면 가장 오래 안 쓴 퀴즈부터 버린다. 문제 수가
+ * {@code maxQuestionsPerPack} 을 넘는 퀴즈는 문제 id 만 캐시하고, 문제 수 합계에도 넣지 않는다.
+ *
+ * <p>팩은 DB 조회 없이 만들 수 없으므로 잠금 밖에서 만든다. 같은 퀴즈를 동시에 처음 요청하면 팩을 두 번 만들 수 있지만 결과는 같다. 만드는
+ * 도중에 무효화가 일어나면 만든 팩은 돌려주기만 하고 캐시에는 넣지 않는다.
+ *
+ * <p>퀴즈 수정/삭제로 버린 팩은 {@link GamePackEvictedEvent} 로 알린다. 여러 노드로 띄우면 {@link
+ * RedisGamePackEvictionRelay} 가 이 알림을 다른 노드에 전해 그 노드의 캐시에서도 버리게 한다.
+ */
+@Component
+public class GamePackCache {
+
+    private final int maxPacks;
+    private final int maxQuestions;
+    private final int maxQuestionsPerPack;
+
+    // accessOrder = true: 조회할 때마다 맨 뒤로 옮겨 맨 앞이 가장 오래 안 쓴 항목이 된다
+    private final LinkedHashMap<Long, GamePack> packs = new LinkedHashMap<>(16, 0.75f, true);
+    private int cachedQuestions;
+    private long invalidations;
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter hits;
+    private final Counter misses;
+
+    public GamePackCache(
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${game.pack-cache.max-packs:256}") int maxPacks,
+            @Value("${game.pack-cache.max-questions:100000}") int maxQuestions,
+            @Value("${game.pack-cache.max-questions-per-pack:5000}") int maxQuestionsPerPack) {
+        this.eventPublisher = eventPublisher;
+        this.maxPacks = maxPacks;
+        this.maxQuestions = maxQuestions;
+        this.maxQuestionsPerPack = maxQuestionsPerPack;
+        this.hits = cacheRequests(meterRegistry, "hit");
+        this.misses = cacheRequests(meterRegistry, "miss");
+        Gauge.builder("game.pack.cache.questions", this, GamePackCache::cachedQuestions)
+                .description("캐시에 올라가 있는 게임 팩의 문제 수 합계")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param loader 캐시에 없을 때 DB 에서 팩을 만든다
+     */
+    public GamePack get(Long quizId, Function<Long, GamePack> loader) {
+        long invalidationsBeforeLoad;
+        synchronized (this) {
+            GamePack cached = packs.get(quizId);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            invalidationsBeforeLoad = invalidations;
+        }
+
+        misses.increment();
+        GamePack loaded = loader.apply(quizId);
+
+        synchronized (this) {
+            if (invalidations == invalidationsBeforeLoad && weight(loaded) <= maxQuestions) {
+                put(quizId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    // 이보다 문제가 많은 퀴즈는 팩을 만들 때 문제 id 만 읽는다
+    public boolean canLoadQuestions(long questionCount) {
+        return questionCount <= maxQuestionsPerPack;
+    }
+
+    /** 퀴즈 수정/삭제 트랜잭션이 커밋된 뒤에 팩을 버린다. 커밋 전에 버리면 다른 요청이 예전 데이터로 다시 만들 수 있다. */
+    public void evictAfterCommit(Long quizId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAndNotify(quizId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        evictAndNotify(quizId);
+                    }
+                });
+    }
+
+    /** 이 노드의 캐시에서만 버린다. 다른 노드에서 온 무효화 알림도 이것으로 반영한다. */
+    public synchronized void evict(Long quizId) {
+        invalidations++;
+        GamePack removed = packs.remove(quizId);
+        if (removed != null) {
+            cachedQuestions -= weight(removed);
+        }
+    }
+
+    // 무효화 알림을 놓쳤을 수 있을 때 부른다
+    public synchronized void evictAll() {
+        invalidations++;
+        packs.clear();
+        cachedQuestions = 0;
+    }
+
+    private void evictAndNotify(Long quizId) {
+        evict(quizId);
+        eventPublisher.publishEvent(new GamePackEvictedEvent(quizId));
+    }
+
+    private void put(Long quizId, GamePack pack) {
+        GamePack previous = packs.put(quizId, pack);
+        if (previous != null) {
+            cachedQuestions -= weight(previous);
+        }
+        cachedQuestions += weight(pack);
+
+        Iterator<Map.Entry<Long, GamePack>> eldest = packs.entrySet().iterator();
+        while (packs.size() > maxPacks || cachedQuestions > maxQuestions) {
+            GamePack evicted = eldest.next().getValue();
+            eldest.remove();
+            cachedQuestions -= weight(evicted);
+        }
+    }
+
+    // 메모리에 올라가 있는 문제 수. id 만 든 팩은 0
+    private static int weight(GamePack pack) {
+        return pack.questions().size();
+    }
+
+    private synchronized int cachedQuestions() {
+        return cachedQuestions;
+    }
+
+    private static Counter cacheRequests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("game.pack.cache.requests")
+                .description("게임 팩 캐시 조회 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -12,6 +12,8 @@ import io.f1.backend.domain.question.dto.TextQuestionRequest;
 import io.f1.backend.domain.question.dto.TextQuestionUpdateRequest;
 import io.f1.backend.domain.question.entity.Question;
 import io.f1.backend.domain.quiz.dao.QuizRepository;
+import io.f1.backend.domain.quiz.dto.GamePack;
+import io.f1.backend.domain.quiz.dto.GameQuestion;
 import io.f1.backend.domain.quiz.dto.ImageQuizCreateRequest;
 import io.f1.backend.domain.quiz.dto.ImageQuizUpdateRequest;
 import io.f1.backend.domain.quiz.dto.QuizCreateRequest;
@@ -66,6 +68,7 @@ public class QuizService {
     private final UserRepository userRepository;
     private final QuestionService questionService;
     private final QuizRepository quizRepository;
+    private final GamePackCache gamePackCache;
 
     @Transactional
     public QuizCreateResponse saveTextQuiz(
@@ -75,7 +78,10 @@ public class QuizService {
         for (TextQuestionRequest qRequest : request.getQuestions()) {
             questionService.saveContentQuestion(
                     savedQuiz,
-                    ContentQuestionRequest.of(qRequest.getContent(), qRequest.getAnswer()));
+                    ContentQuestionRequest.of(
+                            qRequest.getContent(),
+                            qRequest.getAnswer(),
+                            qRequest.getAcceptedAnswers()));
         }
 
         return quizToQuizCreateResponse(savedQuiz);
@@ -103,7 +109,9 @@ public class QuizService {
 
             String imagePath = FileManager.saveMultipartFile(imageFile, questionPath);
             questionService.saveContentQuestion(
-                    savedQuiz, ContentQuestionRequest.of(imagePath, qRequest.answer()));
+                    savedQuiz,
+                    ContentQuestionRequest.of(
+                            imagePath, qRequest.answer(), qRequest.acceptedAnswers()));
         }
 
         return quizToQuizCreateResponse(savedQuiz);
@@ -169,6 +177,7 @@ public class QuizService {
         }
 
         quizRepository.deleteById(quizId);
+        gamePackCache.evictAfterCommit(quizId);
     }
 
     @Transactional
@@ -180,6 +189,7 @@ public class QuizService {
         for (Long questionId : request.questionIds()) {
             questionService.deleteQuestion(questionId, quiz.getQuizType());
         }
+        gamePackCache.evictAfterCommit(quizId);
     }
 
     public static void verifyUserAuthority(Quiz quiz) {
@@ -202,7 +212,8 @@ public class QuizService {
                     ContentQuestionUpdateRequest.of(
                             questionReq.getId(),
                             questionReq.getContent(),
-                            questionReq.getAnswer()));
+                            questionReq.getAnswer(),
+                            questionReq.getAcceptedAnswers()));
         }
     }
 
@@ -233,7 +244,10 @@ public class QuizService {
             questionService.updateContentQuestions(
                     quiz,
                     ContentQuestionUpdateRequest.of(
-                            questionReq.getId(), savedImagePath, questionReq.getAnswer()));
+                            questionReq.getId(),
+                            savedImagePath,
+                            questionReq.getAnswer(),
+                            questionReq.getAcceptedAnswers()));
         }
     }
 
@@ -246,6 +260,7 @@ public class QuizService {
         quiz.changeDescription(request.getDescription());
 
         updateThumbnail(quiz, thumbnailFile);
+        gamePackCache.evictAfterCommit(quizId);
 
         return quiz;
     }
@@ -305,11 +320,39 @@ public class QuizService {
         return quizToQuizQuestionListResponse(quiz);
     }
 
-    @Transactional(readOnly = true)
-    public List<Question> getRandomQuestionsWithoutAnswer(Long quizId, Integer round) {
-        findQuiz(quizId);
+    /**
+     * 게임에서 쓰는 퀴즈 스냅샷. 캐시에 있으면 DB 를 조회하지 않는다.
+     *
+     * <p>캐시 적중 때 트랜잭션(커넥션)을 열지 않도록 트랜잭션 없이 두고, 팩을 만들 때는 fetch join 으로 한 번에 읽는다.
+     */
+    public GamePack getGamePack(Long quizId) {
+        return gamePackCache.get(quizId, this::loadGamePack);
+    }
+
+    /**
+     * 라운드 수만큼 문제를 무작위로 고른다. 문제까지 캐시된 퀴즈는 DB 를 조회하지 않고, id 만 캐시된 퀴즈는 고른 문제만 한 번에 읽는다.
+     *
+     * <p>고른 뒤에 삭제된 문제는 빠지므로 라운드 수보다 적게 돌려줄 수 있다.
+     */
+    public List<GameQuestion> sampleQuestions(GamePack gamePack, int round) {
+        if (gamePack.questionsLoaded()) {
+            return gamePack.sampleQuestions(round);
+        }
 
-        return quizRepository.findRandQuestionsByQuizId(quizId, round);
+        List<Long> questionIds = gamePack.sampleQuestionIds(round);
+        Map<Long, GameQuestion> questions = new HashMap<>();
+        for (Question question : quizRepository.findQuestionsWithContentByIdIn(questionIds)) {
+            questions.put(question.getId(), toGameQuestion(question));
+        }
+        return questionIds.stream().map(questions::get).filter(Objects::nonNull).toList();
+    }
+
+    private GamePack loadGamePack(Long quizId) {
+        Quiz quiz = findQuiz(quizId);
+        if (gamePackCache.canLoadQuestions(quizRepository.countQuestionsByQuizId(quizId))) {
+            return toGamePack(quiz, quizRepository.findQuestionsWithContentByQuizId(quizId));
+        }
+        return toGamePackWithoutQuestions(quiz, quizRepository.findQuestionIdsByQuizId(quizId));
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,85 @@
+package io.f1.backend.domain.quiz.app;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.f1.backend.domain.quiz.dto.GamePackEvictionMessage;
+import io.f1.backend.domain.quiz.event.GamePackEvictedEvent;
+
+import jakarta.annotation.PostConstruct;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 노드에서 버린 게임 팩을 Redis pub/sub 으로 다른 노드에 알리고, 다른 노드가 보낸 알림은 이 노드의 {@link GamePackCache} 에
+ * 반영한다. 팩에는 만료 시간이 없으므로 알림이 없으면 다른 노드는 수정 전 문제로 게임을 계속 시작한다.
+ *
+ * <p>pub/sub 은 연결이 끊긴 동안의 메시지를 다시 보내 주지 않는다. 구독을 다시 시작하면 그 사이의 알림을 놓쳤을 수 있으므로 캐시를 모두
+ * 비운다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "game.cluster.enabled", havingValue = "true")
+public class RedisGamePackEvictionRelay {
+
+    static final String CHANNEL = "game-pack:evictions";
+
+    private final RTopic topic;
+    private final String nodeId;
+    private final ObjectMapper objectMapper;
+    private final GamePackCache gamePackCache;
+
+    public RedisGamePackEvictionRelay(
+            RedissonClient redissonClient, ObjectMapper objectMapper, GamePackCache gamePackCache) {
+        this.topic = redissonClient.getTopic(CHANNEL, StringCodec.INSTANCE);
+        this.nodeId = redissonClient.getId();
+        this.objectMapper = objectMapper;
+        this.gamePackCache = gamePackCache;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        topic.addListener(String.class, (channel, message) -> receive(message));
+        topic.addListener(
+                new BaseStatusListener() {
+                    @Override
+                    public void onSubscribe(String channel) {
+                        gamePackCache.evictAll();
+                    }
+                });
+    }
+
+    // 퀴즈 수정/삭제가 커밋된 뒤에 불리므로 Redis 왕복이 트랜잭션을 붙잡지 않는다
+    @EventListener
+    public void onGamePackEvicted(GamePackEvictedEvent event) {
+        try {
+            topic.publish(
+                    objectMapper.writeValueAsString(
+                            new GamePackEvictionMessage(nodeId, event.quizId())));
+        } catch (Exception e) {
+            log.warn("[RedisGamePackEvictionRelay] Failed to publish eviction: {}", event, e);
+        }
+    }
+
+    void receive(String payload) {
+        GamePackEvictionMessage message;
+        try {
+            message = objectMapper.readValue(payload, GamePackEvictionMessage.class);
+        } catch (JsonProcessingException e) {
+            log.warn("[RedisGamePackEvictionRelay] Failed to decode eviction message", e);
+            return;
+        }
+        if (nodeId.equals(message.nodeId())) {
+            return;
+        }
+        gamePackCache.evict(message.quizId());
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,8 +35,18 @@ public interface QuizRepository extends JpaRepository<Quiz, Long> {
 """)
     QuizMinData getQuizMinData();
 
+    // 게임 팩을 만들 때 문제 내용과 추가 정답까지 한 번에 읽는다
     @Query(
-            value = "SELECT * FROM question WHERE quiz_id = :quizId ORDER BY RAND() LIMIT :round",
-            nativeQuery = true)
-    List<Question> findRandQuestionsByQuizId(Long quizId, Integer round);
+            "SELECT DISTINCT qst FROM Question qst JOIN FETCH qst.contentQuestion"
+                    + " LEFT JOIN FETCH qst.acceptedAnswers WHERE qst.quiz.id = :quizId")
+    List<Question> findQuestionsWithContentByQuizId(Long quizId);
+
+    // 문제가 많은 퀴즈는 id 만 캐시해 두고 게임마다 고른 문제만 읽는다
+    @Query("SELECT qst.id FROM Question qst WHERE qst.quiz.id = :quizId ORDER BY qst.id")
+    List<Long> findQuestionIdsByQuizId(Long quizId);
+
+    @Query(
+            "SELECT DISTINCT qst FROM Question qst JOIN FETCH qst.contentQuestion"
+                    + " LEFT JOIN FETCH qst.acceptedAnswers WHERE qst.id IN :questionIds")
+    List<Question> findQuestionsWithContentByIdIn(Collection<Long> questionIds);
 }
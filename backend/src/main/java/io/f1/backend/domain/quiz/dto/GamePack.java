@@ -0,0 +1,113 @@
+package io.f1.backend.domain.quiz.dto;
+
+import io.f1.backend.domain.quiz.entity.QuizType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 게임 시작, 재연결, 로비 목록에 필요한 퀴즈 정보만 담은 불변 스냅샷. {@link
+ * io.f1.backend.domain.quiz.app.GamePackCache} 에 퀴즈별로 한 번 만들어 두고 모든 방이 함께 쓴다.
+ *
+ * <p>문제가 아주 많은 퀴즈는 문제 id 배열만 들고, 게임을 시작할 때 고른 문제만 DB 에서 읽는다.
+ *
+ * @param creatorNickname 작성자가 없는 퀴즈면 null
+ * @param questions 문제 id 만 들고 있는 팩이면 빈 목록
+ * @param questionIds 퀴즈의 모든 문제 id. 문제를 들고 있으면 {@code questions} 와 같은 순서
+ */
+public record GamePack(
+        Long quizId,
+        QuizType quizType,
+        String title,
+        String description,
+        String creatorNickname,
+        String thumbnailUrl,
+        List<GameQuestion> questions,
+        long[] questionIds) {
+
+    public GamePack {
+        questions = List.copyOf(questions);
+        questionIds = questionIds.clone();
+        if (!questions.isEmpty() && questions.size() != questionIds.length) {
+            throw new IllegalArgumentException(
+                    "questions must be empty or match questionIds: "
+                            + questions.size()
+                            + " != "
+                            + questionIds.length);
+        }
+    }
+
+    public GamePack(
+            Long quizId,
+            QuizType quizType,
+            String title,
+            String description,
+            String creatorNickname,
+            String thumbnailUrl,
+            List<GameQuestion> questions) {
+        this(
+                quizId,
+                quizType,
+                title,
+                description,
+                creatorNickname,
+                thumbnailUrl,
+                questions,
+                questions.stream().mapToLong(GameQuestion::id).toArray());
+    }
+
+    // 배열은 여러 방이 함께 쓰므로 복사본을 돌려준다
+    @Override
+    public long[] questionIds() {
+        return questionIds.clone();
+    }
+
+    public int questionCount() {
+        return questionIds.length;
+    }
+
+    public boolean questionsLoaded() {
+        return questions.size() == questionIds.length;
+    }
+
+    // 라운드 수만큼 겹치지 않게 무작위로 고른다
+    public List<GameQuestion> sampleQuestions(int round) {
+        if (!questionsLoaded()) {
+            throw new IllegalStateException("questions are not loaded: quizId=" + quizId);
+        }
+        int[] picked = sampleIndexes(questions.size(), round);
+        List<GameQuestion> sampled = new ArrayList<>(picked.length);
+        for (int index : picked) {
+            sampled.add(questions.get(index));
+        }
+        return List.copyOf(sampled);
+    }
+
+    public List<Long> sampleQuestionIds(int round) {
+        int[] picked = sampleIndexes(questionIds.length, round);
+        List<Long> sampled = new ArrayList<>(picked.length);
+        for (int index : picked) {
+            sampled.add(questionIds[index]);
+        }
+        return List.copyOf(sampled);
+    }
+
+    /**
+     * 앞 {@code count} 자리까지만 섞는 Fisher–Yates. 자리 바꿈을 배열 대신 맵에 적어 두므로 문제 수와 상관없이 O(count) 이고, 공유
+     * 배열을 복사하지 않아도 된다.
+     */
+    private static int[] sampleIndexes(int size, int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int[] picked = new int[Math.min(count, size)];
+        Map<Integer, Integer> swapped = new HashMap<>(picked.length * 2);
+        for (int i = 0; i < picked.length; i++) {
+            int j = i + random.nextInt(size - i);
+            picked[i] = swapped.getOrDefault(j, j);
+            swapped.put(j, swapped.getOrDefault(i, i));
+        }
+        return picked;
+    }
+}
@@ -0,0 +1,8 @@
+package io.f1.backend.domain.quiz.dto;
+
+/**
+ * 노드 사이에 주고받는 게임 팩 무효화 알림.
+ *
+ * @param nodeId 발행한 노드
+ */
+public record GamePackEvictionMessage(String nodeId, Long quizId) {}
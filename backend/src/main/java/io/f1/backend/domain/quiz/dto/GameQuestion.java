@@ -0,0 +1,15 @@
+package io.f1.backend.domain.quiz.dto;
+
+import java.util.List;
+
+/**
+ * 게임에서 쓰는 문제 한 개. 엔티티와 달리 지연 로딩할 연관이 없어 트랜잭션 밖에서 여러 방이 함께 읽어도 된다.
+ *
+ * @param content 텍스트 문제는 문제 내용, 이미지 문제는 이미지 경로
+ */
+public record GameQuestion(Long id, String content, String answer, List<String> acceptedAnswers) {
+
+    public GameQuestion {
+        acceptedAnswers = List.copyOf(acceptedAnswers);
+    }
+}
@@ -0,0 +1,3 @@
+package io.f1.backend.domain.quiz.event;
+
+public record GamePackEvictedEvent(Long quizId) {}
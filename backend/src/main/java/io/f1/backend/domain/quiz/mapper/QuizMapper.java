@@ -3,6 +3,8 @@ package io.f1.backend.domain.quiz.mapper;
 import io.f1.backend.domain.game.dto.response.GameStartResponse;
 import io.f1.backend.domain.question.dto.QuestionResponse;
 import io.f1.backend.domain.question.entity.Question;
+import io.f1.backend.domain.quiz.dto.GamePack;
+import io.f1.backend.domain.quiz.dto.GameQuestion;
 import io.f1.backend.domain.quiz.dto.GameQuestionResponse;
 import io.f1.backend.domain.quiz.dto.QuizCreateRequest;
 import io.f1.backend.domain.quiz.dto.QuizCreateResponse;
@@ -70,7 +72,8 @@ public class QuizMapper {
                                 new QuestionResponse(
                                         question.getId(),
                                         question.getContentQuestion().getContent(),
-                                        question.getAnswer()))
+                                        question.getAnswer(),
+                                        question.getAcceptedAnswerTexts()))
                 .toList();
     }
 
@@ -85,17 +88,49 @@ public class QuizMapper {
                 questionsToQuestionResponses(quiz.getQuestions()));
     }
 
-    public static List<GameQuestionResponse> toGameQuestionResponseList(List<Question> questions) {
+    public static List<GameQuestionResponse> toGameQuestionResponseList(
+            List<GameQuestion> questions) {
         return questions.stream().map(QuizMapper::toGameQuestionResponse).toList();
     }
 
-    public static GameQuestionResponse toGameQuestionResponse(Question question) {
-        return new GameQuestionResponse(
-                question.getId(), question.getContentQuestion().getContent());
+    public static GameQuestionResponse toGameQuestionResponse(GameQuestion question) {
+        return new GameQuestionResponse(question.id(), question.content());
     }
 
     public static GameStartResponse toGameStartResponse(
-            QuizType quizType, List<Question> questions) {
+            QuizType quizType, List<GameQuestion> questions) {
         return new GameStartResponse(quizType, toGameQuestionResponseList(questions));
     }
+
+    public static GamePack toGamePack(Quiz quiz, List<Question> questions) {
+        return new GamePack(
+                quiz.getId(),
+                quiz.getQuizType(),
+                quiz.getTitle(),
+                quiz.getDescription(),
+                quiz.getCreator() == null ? null : quiz.getCreator().getNickname(),
+                quiz.getThumbnailUrl(),
+                questions.stream().map(QuizMapper::toGameQuestion).toList());
+    }
+
+    // 문제가 많은 퀴즈는 문제 id 만 들고 있는다
+    public static GamePack toGamePackWithoutQuestions(Quiz quiz, List<Long> questionIds) {
+        return new GamePack(
+                quiz.getId(),
+                quiz.getQuizType(),
+                quiz.getTitle(),
+                quiz.getDescription(),
+                quiz.getCreator() == null ? null : quiz.getCreator().getNickname(),
+                quiz.getThumbnailUrl(),
+                List.of(),
+                questionIds.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    public static GameQuestion toGameQuestion(Question question) {
+        return new GameQuestion(
+                question.getId(),
+                question.getContentQuestion().getContent(),
+                question.getAnswer(),
+                question.getAcceptedAnswerTexts());
+    }
 }
@@ -0,0 +1,48 @@
+package io.f1.backend.global.config;
+
+import io.f1.backend.global.timer.HashedWheelTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class GameTimerConfig {
+
+    @Value("${game.timer.tick-millis:100}")
+    private long tickMillis;
+
+    @Value("${game.timer.ticks-per-wheel:512}")
+    private int ticksPerWheel;
+
+    @Bean(destroyMethod = "stop")
+    public HashedWheelTimer gameTimer(MeterRegistry meterRegistry) {
+        Timer lateness =
+                Timer.builder("game.timer.lateness")
+                        .description("예약 시각 대비 타이머 작업이 실제로 실행된 지연 시간")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+
+        // 만료된 작업(이벤트 발행)은 휠 워커를 막지 않도록 가상 스레드에서 실행한다
+        HashedWheelTimer timer =
+                new HashedWheelTimer(
+                        "game-timer",
+                        tickMillis,
+                        TimeUnit.MILLISECONDS,
+                        ticksPerWheel,
+                        Executors.newVirtualThreadPerTaskExecutor(),
+                        nanos -> lateness.record(nanos, TimeUnit.NANOSECONDS));
+
+        Gauge.builder("game.timer.pending", timer, HashedWheelTimer::getPendingCount)
+                .description("등록되었지만 아직 만료/취소되지 않은 타이머 수")
+                .register(meterRegistry);
+
+        return timer;
+    }
+}
@@ -0,0 +1,80 @@
+package io.f1.backend.global.config;
+
+import io.f1.backend.domain.game.sse.app.SseService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로비 SSE 알림 전용 실행기. 방 이벤트는 방 락 안에서 발행되므로, 알림을 여기로 넘겨 방 작업이 로비 전송을 기다리지 않게 한다.
+ *
+ * <p>알림 순서(생성 -> 변경 -> 삭제)가 바뀌지 않도록 스레드는 하나만 쓰고, 큐는 크기를 정해 둔다. 큐가 넘치면 알림을 버리는 대신 로비 구독자
+ * 연결을 모두 끊어서, 클라이언트가 다시 연결해 방 목록을 새로 받게 한다.
+ */
+@Slf4j
+@Configuration
+public class LobbyEventExecutorConfig {
+
+    public static final String LOBBY_EVENT_EXECUTOR = "lobbyEventExecutor";
+
+    @Value("${game.lobby.event-executor.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Bean(name = LOBBY_EVENT_EXECUTOR)
+    public ThreadPoolTaskExecutor lobbyEventExecutor(
+            MeterRegistry meterRegistry, SseService sseService) {
+        Counter rejected =
+                Counter.builder("lobby.event.executor.rejected")
+                        .description("큐가 가득 차서 실행하지 못한 로비 알림 수")
+                        .register(meterRegistry);
+        Timer delay =
+                Timer.builder("lobby.event.executor.delay")
+                        .description("로비 알림이 큐에 들어간 뒤 실행되기까지 기다린 시간")
+                        .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("lobby-event-");
+        executor.setTaskDecorator(
+                task -> {
+                    long queuedAt = System.nanoTime();
+                    return () -> {
+                        delay.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                        task.run();
+                    };
+                });
+        executor.setRejectedExecutionHandler(
+                (task, pool) -> {
+                    rejected.increment();
+                    log.warn("[LobbyEventExecutor] Queue is full, disconnecting lobby subscribers");
+                    sseService.disconnectAll();
+                });
+
+        Gauge.builder("lobby.event.executor.queued", executor, LobbyEventExecutorConfig::queued)
+                .description("실행을 기다리는 로비 알림 수")
+                .register(meterRegistry);
+
+        return executor;
+    }
+
+    // 초기화 전이나 종료 뒤에는 큐가 없다
+    private static int queued(ThreadPoolTaskExecutor executor) {
+        try {
+            return executor.getThreadPoolExecutor().getQueue().size();
+        } catch (IllegalStateException e) {
+            return 0;
+        }
+    }
+}
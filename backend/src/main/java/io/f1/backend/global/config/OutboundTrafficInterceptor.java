@@ -0,0 +1,41 @@
+package io.f1.backend.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션별로 실제 내보내는 프레임 수와 payload 바이트 수를 센다. 방송 한 번은 구독자 수만큼 여기를 지나가므로, 인코딩 바이트 수
+ * (websocket.broadcast.encoded.bytes)와 비교하면 fan-out 규모를 알 수 있다.
+ */
+@Component
+public class OutboundTrafficInterceptor implements ChannelInterceptor {
+
+    private final Counter sentFrames;
+    private final Counter sentBytes;
+
+    public OutboundTrafficInterceptor(MeterRegistry meterRegistry) {
+        this.sentFrames =
+                Counter.builder("websocket.outbound.frames")
+                        .description("클라이언트 세션으로 내보낸 STOMP 프레임 수")
+                        .register(meterRegistry);
+        this.sentBytes =
+                Counter.builder("websocket.outbound.bytes")
+                        .description("클라이언트 세션으로 내보낸 payload 바이트 수")
+                        .baseUnit("bytes")
+                        .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        sentFrames.increment();
+        if (message.getPayload() instanceof byte[] payload) {
+            sentBytes.increment(payload.length);
+        }
+        return message;
+    }
+}
@@ -1,5 +1,6 @@
 package io.f1.backend.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -14,7 +15,8 @@ public class RedisConfig {
 
     @Bean
     public RedisTemplate<String, Object> redisTemplate(
-            RedisConnectionFactory redisConnectionFactory) {
+            RedisConnectionFactory redisConnectionFactory,
+            @Value("${game.cluster.enabled:false}") boolean clusterEnabled) {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory);
         redisTemplate.setKeySerializer(new StringRedisSerializer());
@@ -22,7 +24,10 @@ public class RedisConfig {
         redisTemplate.setHashValueSerializer(new StringRedisSerializer());
         redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
 
-        redisConnectionFactory.getConnection().serverCommands().flushAll();
+        // 여러 노드가 함께 쓰면 먼저 떠 있는 노드의 락과 방 id 가 지워지므로 비우지 않는다
+        if (!clusterEnabled) {
+            redisConnectionFactory.getConnection().serverCommands().flushAll();
+        }
 
         return redisTemplate;
     }
@@ -1,5 +1,7 @@
 package io.f1.backend.global.config;
 
+import io.f1.backend.domain.game.websocket.FrameBundleNegotiator;
+
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.context.annotation.Configuration;
@@ -16,6 +18,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompChannelInterceptor stompChannelInterceptor;
     private final CustomHandshakeInterceptor customHandshakeInterceptor;
+    private final OutboundTrafficInterceptor outboundTrafficInterceptor;
+    private final FrameBundleNegotiator frameBundleNegotiator;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -34,6 +38,11 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompChannelInterceptor);
+        registration.interceptors(stompChannelInterceptor, frameBundleNegotiator);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(outboundTrafficInterceptor);
     }
 }
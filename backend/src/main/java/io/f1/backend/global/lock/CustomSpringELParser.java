@@ -1,24 +1,158 @@
 package io.f1.backend.global.lock;
 
+import org.springframework.expression.BeanResolver;
+import org.springframework.expression.ConstructorResolver;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.MethodResolver;
+import org.springframework.expression.OperatorOverloader;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.TypeComparator;
+import org.springframework.expression.TypeConverter;
+import org.springframework.expression.TypeLocator;
+import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 public class CustomSpringELParser {
 
-    private CustomSpringELParser() {}
+    // "#roomId" 처럼 파라미터 하나를 그대로 참조하는 키
+    private static final Pattern PARAMETER_REFERENCE =
+            Pattern.compile("^#([A-Za-z_$][A-Za-z0-9_$]*)$");
 
-    public static Object getDynamicValue(
-            String[] parameterNames, Object[] args, String keyExpression) {
+    // 충분히 호출된 표현식은 바이트코드로 컴파일하고, 컴파일할 수 없으면 인터프리터로 평가한다
+    private static final ExpressionParser PARSER =
+            new SpelExpressionParser(
+                    new SpelParserConfiguration(
+                            SpelCompilerMode.MIXED, CustomSpringELParser.class.getClassLoader()));
 
-        ExpressionParser parser = new SpelExpressionParser();
+    private CustomSpringELParser() {}
 
-        StandardEvaluationContext context = new StandardEvaluationContext();
+    /**
+     * 키 표현식을 한 번만 해석해서 재사용할 수 있는 {@link KeyExpression} 을 만든다. 파라미터 하나를 참조하는 {@code #param} 은
+     * SpEL 을 거치지 않고 인자 배열에서 바로 꺼낸다.
+     */
+    public static KeyExpression compile(String[] parameterNames, String keyExpression) {
+        Matcher matcher = PARAMETER_REFERENCE.matcher(keyExpression.strip());
+        if (matcher.matches()) {
+            int index = Arrays.asList(parameterNames).indexOf(matcher.group(1));
+            if (index >= 0) {
+                return args -> args[index];
+            }
+        }
 
+        Expression expression = PARSER.parseExpression(keyExpression);
+        StandardEvaluationContext template = newTemplate();
+        Map<String, Integer> parameterIndexes = new HashMap<>();
         for (int i = 0; i < parameterNames.length; i++) {
-            context.setVariable(parameterNames[i], args[i]);
+            parameterIndexes.put(parameterNames[i], i);
+        }
+        return args ->
+                expression.getValue(
+                        new ArgumentsContext(template, parameterIndexes, args), Object.class);
+    }
+
+    // 지연 생성되는 접근자/변환기를 미리 만들어 두면 이후에는 읽기만 하므로 여러 스레드가 함께 써도 된다
+    private static StandardEvaluationContext newTemplate() {
+        StandardEvaluationContext template = new StandardEvaluationContext();
+        template.getPropertyAccessors();
+        template.getConstructorResolvers();
+        template.getMethodResolvers();
+        template.getTypeLocator();
+        template.getTypeConverter();
+        return template;
+    }
+
+    @FunctionalInterface
+    public interface KeyExpression {
+
+        Object getValue(Object[] args);
+    }
+
+    /**
+     * 호출마다 인자만 바꿔 끼우는 평가 컨텍스트. 프로퍼티 접근자의 리플렉션 캐시 같은 나머지는 표현식마다 하나인 템플릿을 함께 쓰므로, 호출마다
+     * {@link StandardEvaluationContext} 를 새로 만들 때처럼 캐시를 버리지 않는다.
+     */
+    private static final class ArgumentsContext implements EvaluationContext {
+
+        private final StandardEvaluationContext template;
+        private final Map<String, Integer> parameterIndexes;
+        private final Object[] args;
+
+        private ArgumentsContext(
+                StandardEvaluationContext template,
+                Map<String, Integer> parameterIndexes,
+                Object[] args) {
+            this.template = template;
+            this.parameterIndexes = parameterIndexes;
+            this.args = args;
+        }
+
+        @Override
+        public Object lookupVariable(String name) {
+            Integer index = parameterIndexes.get(name);
+            return index == null ? null : args[index];
+        }
+
+        // 템플릿을 여러 호출이 함께 쓰므로 키 표현식 안에서의 변수 대입은 막는다
+        @Override
+        public void setVariable(String name, Object value) {
+            throw new UnsupportedOperationException("Lock key expressions cannot assign variables");
         }
 
-        return parser.parseExpression(keyExpression).getValue(context, Object.class);
+        @Override
+        public TypedValue getRootObject() {
+            return template.getRootObject();
+        }
+
+        @Override
+        public List<PropertyAccessor> getPropertyAccessors() {
+            return template.getPropertyAccessors();
+        }
+
+        @Override
+        public List<ConstructorResolver> getConstructorResolvers() {
+            return template.getConstructorResolvers();
+        }
+
+        @Override
+        public List<MethodResolver> getMethodResolvers() {
+            return template.getMethodResolvers();
+        }
+
+        @Override
+        public BeanResolver getBeanResolver() {
+            return template.getBeanResolver();
+        }
+
+        @Override
+        public TypeLocator getTypeLocator() {
+            return template.getTypeLocator();
+        }
+
+        @Override
+        public TypeConverter getTypeConverter() {
+            return template.getTypeConverter();
+        }
+
+        @Override
+        public TypeComparator getTypeComparator() {
+            return template.getTypeComparator();
+        }
+
+        @Override
+        public OperatorOverloader getOperatorOverloader() {
+            return template.getOperatorOverloader();
+        }
     }
 }
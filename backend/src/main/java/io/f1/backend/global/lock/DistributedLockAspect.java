@@ -2,6 +2,7 @@ package io.f1.backend.global.lock;
 
 import io.f1.backend.global.exception.CustomException;
 import io.f1.backend.global.exception.errorcode.CommonErrorCode;
+import io.f1.backend.global.lock.CustomSpringELParser.KeyExpression;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,19 +11,23 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Slf4j
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class DistributedLockAspect {
 
-    public static final String LOCK_KEY_FORMAT = "lock:%s:{%s}";
+    private final LockProvider lockProvider;
+    private final LockMetrics lockMetrics;
 
-    private final RedissonClient redissonClient;
+    // 키 표현식은 메서드마다 고정이므로 처음 호출될 때 한 번만 해석한다
+    private final Map<Method, KeyExpression> keyExpressions = new ConcurrentHashMap<>();
 
     @Around("@annotation(distributedLock)")
     public Object lock(ProceedingJoinPoint joinPoint, DistributedLock distributedLock)
@@ -30,15 +35,21 @@ public class DistributedLockAspect {
 
         String key = getLockKey(joinPoint, distributedLock);
 
-        RLock rlock = redissonClient.getLock(key);
+        LockHandle lock = lockProvider.getLock(key);
+
+        String prefix = distributedLock.prefix();
 
         boolean acquired = false;
+        long acquiredAt = 0L;
         try {
+            long waitStartedAt = System.nanoTime();
             acquired =
-                    rlock.tryLock(
+                    lock.tryLock(
                             distributedLock.waitTime(),
                             distributedLock.leaseTime(),
                             distributedLock.timeUnit());
+            acquiredAt = System.nanoTime();
+            lockMetrics.recordWait(prefix, acquiredAt - waitStartedAt, acquired);
 
             if (!acquired) {
                 log.warn("[DistributedLock] Lock acquisition failed: {}", key);
@@ -51,9 +62,23 @@ public class DistributedLockAspect {
             Thread.currentThread().interrupt();
             throw e;
         } finally {
-            if (acquired && rlock.isHeldByCurrentThread()) {
-                rlock.unlock();
-                log.info("[DistributedLock] Lock released: {}", key);
+            if (acquired) {
+                boolean held = lock.isHeldByCurrentThread();
+                long leaseNanos =
+                        lock.enforcesLease()
+                                ? distributedLock.timeUnit().toNanos(distributedLock.leaseTime())
+                                : 0L;
+                lockMetrics.recordHold(
+                        prefix,
+                        key,
+                        System.nanoTime() - acquiredAt,
+                        leaseNanos,
+                        held,
+                        () -> joinPoint.getSignature().toShortString());
+                if (held) {
+                    lock.unlock();
+                    log.info("[DistributedLock] Lock released: {}", key);
+                }
             }
         }
     }
@@ -61,14 +86,15 @@ public class DistributedLockAspect {
     private String getLockKey(ProceedingJoinPoint joinPoint, DistributedLock lockAnnotation) {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
 
-        String keyExpr = lockAnnotation.key();
-        String prefix = lockAnnotation.prefix();
+        KeyExpression keyExpression =
+                keyExpressions.computeIfAbsent(
+                        signature.getMethod(),
+                        method ->
+                                CustomSpringELParser.compile(
+                                        signature.getParameterNames(), lockAnnotation.key()));
 
-        Object keyValueObj =
-                CustomSpringELParser.getDynamicValue(
-                        signature.getParameterNames(), joinPoint.getArgs(), keyExpr);
-        String keyValue = String.valueOf(keyValueObj);
+        Object keyValue = keyExpression.getValue(joinPoint.getArgs());
 
-        return String.format(LOCK_KEY_FORMAT, prefix, keyValue);
+        return LockExecutor.formatLockKey(lockAnnotation.prefix(), keyValue);
     }
 }
@@ -0,0 +1,159 @@
+package io.f1.backend.global.lock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 단일 노드 배포용 프로세스 내부 락. 키를 고정 개수의 {@link ReentrantLock} stripe 로 해싱하므로 락 객체를 만들거나 정리할 필요가
+ * 없고, Redis 왕복 없이 획득/해제된다.
+ *
+ * <p>서로 다른 키가 같은 stripe 를 공유할 수 있다(재진입 가능하므로 같은 스레드의 중첩 락은 문제없다). 프로세스 내부 락이라 holder
+ * 스레드가 살아있는 한 해제되지 않으므로 leaseTime 은 무시한다.
+ */
+@Component
+@ConditionalOnProperty(name = "lock.provider", havingValue = "local")
+public class LocalLockProvider implements LockProvider {
+
+    private static final int DEFAULT_STRIPES = 4096;
+    private static final long MIN_RETRY_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long MAX_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final LocalLockHandle[] stripes;
+    private final int mask;
+
+    public LocalLockProvider() {
+        this(DEFAULT_STRIPES);
+    }
+
+    public LocalLockProvider(int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new LocalLockHandle[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new LocalLockHandle();
+        }
+    }
+
+    @Override
+    public LockHandle getLock(String key) {
+        return stripes[stripeIndex(key)];
+    }
+
+    @Override
+    public LockHandle getMultiLock(List<String> keys) {
+        // 서로 다른 키가 같은 stripe 에 걸릴 수 있으므로 stripe 기준으로 정렬·중복 제거
+        LocalLockHandle[] locks =
+                keys.stream()
+                        .mapToInt(this::stripeIndex)
+                        .distinct()
+                        .sorted()
+                        .mapToObj(index -> stripes[index])
+                        .toArray(LocalLockHandle[]::new);
+        return new LocalMultiLockHandle(locks);
+    }
+
+    int stripeIndex(String key) {
+        int h = key.hashCode();
+        // 하위 비트만 쓰므로 상위 비트를 섞어준다
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Redis 구현과 같은 all-or-nothing 의미를 갖도록, 하나라도 바로 잡지 못하면 잡은 것을 모두 풀고 잠시 뒤 처음부터 다시 시도한다.
+     */
+    private static final class LocalMultiLockHandle implements LockHandle {
+
+        private final LocalLockHandle[] locks;
+
+        private LocalMultiLockHandle(LocalLockHandle[] locks) {
+            this.locks = locks;
+        }
+
+        @Override
+        public boolean tryLock(long waitTime, long leaseTime, TimeUnit unit)
+                throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(waitTime);
+            long retryNanos = MIN_RETRY_NANOS;
+
+            while (true) {
+                if (tryLockAll()) {
+                    return true;
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                TimeUnit.NANOSECONDS.sleep(Math.min(retryNanos, remaining));
+                retryNanos = Math.min(retryNanos * 2, MAX_RETRY_NANOS);
+            }
+        }
+
+        private boolean tryLockAll() {
+            for (int i = 0; i < locks.length; i++) {
+                if (!locks[i].lock.tryLock()) {
+                    for (int j = i - 1; j >= 0; j--) {
+                        locks[j].lock.unlock();
+                    }
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isHeldByCurrentThread() {
+            for (LocalLockHandle lock : locks) {
+                if (!lock.isHeldByCurrentThread()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void unlock() {
+            for (int i = locks.length - 1; i >= 0; i--) {
+                locks[i].unlock();
+            }
+        }
+
+        @Override
+        public boolean enforcesLease() {
+            return false;
+        }
+    }
+
+    private static final class LocalLockHandle implements LockHandle {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        @Override
+        public boolean tryLock(long waitTime, long leaseTime, TimeUnit unit)
+                throws InterruptedException {
+            return lock.tryLock(waitTime, unit);
+        }
+
+        @Override
+        public boolean isHeldByCurrentThread() {
+            return lock.isHeldByCurrentThread();
+        }
+
+        @Override
+        public void unlock() {
+            lock.unlock();
+        }
+
+        @Override
+        public boolean enforcesLease() {
+            return false;
+        }
+    }
+}
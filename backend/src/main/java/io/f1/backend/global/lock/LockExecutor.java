@@ -1,26 +1,26 @@
 package io.f1.backend.global.lock;
 
-import static io.f1.backend.global.lock.DistributedLockAspect.LOCK_KEY_FORMAT;
-
 import io.f1.backend.global.exception.CustomException;
 import io.f1.backend.global.exception.errorcode.CommonErrorCode;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class LockExecutor {
 
-    private final RedissonClient redissonClient;
+    private final LockProvider lockProvider;
+    private final LockMetrics lockMetrics;
 
     // 시간단위를 초로 변경
     private static final TimeUnit DEFAULT_TIME_UNIT = TimeUnit.SECONDS;
@@ -31,13 +31,69 @@ public class LockExecutor {
     // 락 점유 시간
     private static final long DEFAULT_LEASE_TIME = 3L;
 
+    private static final long LEASE_NANOS = DEFAULT_TIME_UNIT.toNanos(DEFAULT_LEASE_TIME);
+
     public <T> T executeWithLock(String prefix, Object key, Supplier<T> supplier) {
         String lockKey = formatLockKey(prefix, key);
-        RLock rlock = redissonClient.getLock(lockKey);
+        return execute(lockProvider.getLock(lockKey), prefix, key, supplier);
+    }
 
+    public void executeWithLock(String prefix, Object key, Runnable runnable) {
+        executeWithLock(
+                prefix,
+                key,
+                () -> {
+                    runnable.run();
+                    return null;
+                });
+    }
+
+    /**
+     * 여러 락 키를 한 번에 획득한다. 키는 정렬해서 항상 같은 순서로 요청하고, 락 구현이 all-or-nothing 으로 획득하므로 중첩 락과 달리
+     * 키 조합이 달라도 데드락이 생기지 않는다. Redisson 구현은 스크립트 한 번으로 획득/해제한다.
+     *
+     * @param lockKeys {@link #formatLockKey(String, Object)} 로 만든 락 키
+     */
+    public <T> T executeWithLocks(Collection<String> lockKeys, Supplier<T> supplier) {
+        List<String> sortedKeys = lockKeys.stream().distinct().sorted().toList();
+
+        if (sortedKeys.size() == 1) {
+            String lockKey = sortedKeys.get(0);
+            String prefix = LockMetrics.prefixOf(lockKey);
+            return execute(lockProvider.getLock(lockKey), prefix, lockKey, supplier);
+        }
+
+        // 지표 태그는 "room+user" 처럼 prefix 조합으로 남긴다
+        String prefix =
+                sortedKeys.stream()
+                        .map(LockMetrics::prefixOf)
+                        .distinct()
+                        .collect(Collectors.joining("+"));
+        return execute(lockProvider.getMultiLock(sortedKeys), prefix, sortedKeys, supplier);
+    }
+
+    public void executeWithLocks(Collection<String> lockKeys, Runnable runnable) {
+        executeWithLocks(
+                lockKeys,
+                () -> {
+                    runnable.run();
+                    return null;
+                });
+    }
+
+    // 모든 락 키를 이 형식("lock:<prefix>:{<value>}")으로 만든다. 락마다 호출되므로 String.format 대신 이어 붙인다
+    public static String formatLockKey(String prefix, Object value) {
+        return "lock:" + prefix + ":{" + value + "}";
+    }
+
+    private <T> T execute(LockHandle lock, String prefix, Object key, Supplier<T> supplier) {
         boolean acquired = false;
+        long acquiredAt = 0L;
         try {
-            acquired = rlock.tryLock(DEFAULT_WAIT_TIME, DEFAULT_LEASE_TIME, DEFAULT_TIME_UNIT);
+            long waitStartedAt = System.nanoTime();
+            acquired = lock.tryLock(DEFAULT_WAIT_TIME, DEFAULT_LEASE_TIME, DEFAULT_TIME_UNIT);
+            acquiredAt = System.nanoTime();
+            lockMetrics.recordWait(prefix, acquiredAt - waitStartedAt, acquired);
 
             if (!acquired) {
                 log.warn("[LockExecutor] Lock acquisition failed: {}", key);
@@ -50,24 +106,16 @@ public class LockExecutor {
             Thread.currentThread().interrupt();
             throw new CustomException(CommonErrorCode.LOCK_INTERRUPTED);
         } finally {
-            if (acquired && rlock.isHeldByCurrentThread()) {
-                rlock.unlock();
-                log.info("[LockExecutor] Lock released: {}", key);
+            if (acquired) {
+                boolean held = lock.isHeldByCurrentThread();
+                long leaseNanos = lock.enforcesLease() ? LEASE_NANOS : 0L;
+                lockMetrics.recordHold(
+                        prefix, key, System.nanoTime() - acquiredAt, leaseNanos, held, null);
+                if (held) {
+                    lock.unlock();
+                    log.info("[LockExecutor] Lock released: {}", key);
+                }
             }
         }
     }
-
-    public void executeWithLock(String prefix, Object key, Runnable runnable) {
-        executeWithLock(
-                prefix,
-                key,
-                () -> {
-                    runnable.run();
-                    return null;
-                });
-    }
-
-    private String formatLockKey(String prefix, Object value) {
-        return String.format(LOCK_KEY_FORMAT, prefix, value);
-    }
 }
@@ -0,0 +1,17 @@
+package io.f1.backend.global.lock;
+
+import java.util.concurrent.TimeUnit;
+
+public interface LockHandle {
+
+    boolean tryLock(long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException;
+
+    boolean isHeldByCurrentThread();
+
+    void unlock();
+
+    /** 이 락이 tryLock 의 leaseTime 이 지나면 스스로 풀리는지 여부. 로컬 락처럼 leaseTime 을 무시하면 false 다. */
+    default boolean enforcesLease() {
+        return true;
+    }
+}
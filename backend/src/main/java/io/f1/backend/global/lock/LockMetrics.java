@@ -0,0 +1,167 @@
+package io.f1.backend.global.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 락 대기/점유 시간과 획득 실패, 점유 중 lease 만료를 락 prefix 별로 기록한다. 점유 시간이 임계치를 넘으면 샘플링해서 호출 위치와 함께
+ * 로그를 남긴다.
+ */
+@Slf4j
+@Component
+public class LockMetrics {
+
+    private static final String LOCK_KEY_PREFIX = "lock:";
+    private static final String LOCK_KEY_VALUE_START = ":{";
+    private static final String UNKNOWN_PREFIX = "unknown";
+
+    // 호출 위치를 찾을 때 건너뛸 락 실행 계층
+    private static final Set<String> INFRA_PACKAGES =
+            Set.of("io.f1.backend.global.lock", "io.f1.backend.domain.game.executor");
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final double slowLogSampleRate;
+
+    private final Map<String, PrefixMeters> metersByPrefix = new ConcurrentHashMap<>();
+
+    public LockMetrics(
+            MeterRegistry meterRegistry,
+            @Value("${lock.metrics.slow-threshold-millis:500}") long slowThresholdMillis,
+            @Value("${lock.metrics.slow-log-sample-rate:0.1}") double slowLogSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.slowLogSampleRate = slowLogSampleRate;
+    }
+
+    public void recordWait(String prefix, long waitNanos, boolean acquired) {
+        PrefixMeters meters = meters(prefix);
+        Timer waitTimer = acquired ? meters.waitAcquired() : meters.waitFailed();
+        waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            meters.acquisitionFailures().increment();
+        }
+    }
+
+    /**
+     * @param leaseNanos 락이 스스로 풀리기까지의 시간. lease 를 강제하지 않는 락이면 0 을 넘기고, 이때는 점유 시간을 lease 와 비교하지 않는다.
+     * @param stillHeld 해제 직전에 현재 스레드가 여전히 락을 소유하고 있는지 여부. 소유하지 않거나 점유 시간이 lease 를 넘겼다면 작업 도중
+     *     lease 가 만료되어 다른 스레드가 같은 락에 진입할 수 있었던 것이다.
+     * @param callSite 느린 점유를 로그로 남길 때만 호출된다. {@code null} 이면 스택에서 호출 위치를 찾는다.
+     */
+    public void recordHold(
+            String prefix,
+            Object key,
+            long holdNanos,
+            long leaseNanos,
+            boolean stillHeld,
+            Supplier<String> callSite) {
+        PrefixMeters meters = meters(prefix);
+        meters.hold().record(holdNanos, TimeUnit.NANOSECONDS);
+
+        boolean leaseExpired = !stillHeld || (leaseNanos > 0 && holdNanos > leaseNanos);
+        if (leaseExpired) {
+            meters.leaseExpired().increment();
+            log.warn(
+                    "[LockMetrics] Lease expired while held: key={}, hold={}ms, lease={}ms, at={}",
+                    key,
+                    TimeUnit.NANOSECONDS.toMillis(holdNanos),
+                    TimeUnit.NANOSECONDS.toMillis(leaseNanos),
+                    resolveCallSite(callSite));
+            return;
+        }
+
+        if (holdNanos >= slowThresholdNanos
+                && ThreadLocalRandom.current().nextDouble() < slowLogSampleRate) {
+            log.warn(
+                    "[LockMetrics] Slow lock hold: key={}, hold={}ms, at={}",
+                    key,
+                    TimeUnit.NANOSECONDS.toMillis(holdNanos),
+                    resolveCallSite(callSite));
+        }
+    }
+
+    /** "lock:room:{1}" 형식의 락 키에서 prefix("room")를 꺼낸다. */
+    public static String prefixOf(String lockKey) {
+        int end = lockKey.indexOf(LOCK_KEY_VALUE_START);
+        if (!lockKey.startsWith(LOCK_KEY_PREFIX) || end < LOCK_KEY_PREFIX.length()) {
+            return UNKNOWN_PREFIX;
+        }
+        return lockKey.substring(LOCK_KEY_PREFIX.length(), end);
+    }
+
+    private String resolveCallSite(Supplier<String> callSite) {
+        if (callSite != null) {
+            return callSite.get();
+        }
+        return STACK_WALKER.walk(
+                frames ->
+                        frames.filter(frame -> !isInfraFrame(frame.getClassName()))
+                                .findFirst()
+                                .map(LockMetrics::describe)
+                                .orElse(UNKNOWN_PREFIX));
+    }
+
+    private static String describe(StackWalker.StackFrame frame) {
+        return frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber();
+    }
+
+    private boolean isInfraFrame(String className) {
+        int lastDot = className.lastIndexOf('.');
+        return lastDot > 0 && INFRA_PACKAGES.contains(className.substring(0, lastDot));
+    }
+
+    private PrefixMeters meters(String prefix) {
+        return metersByPrefix.computeIfAbsent(prefix, this::createMeters);
+    }
+
+    private PrefixMeters createMeters(String prefix) {
+        return new PrefixMeters(
+                waitTimer(prefix, "acquired"),
+                waitTimer(prefix, "failed"),
+                Timer.builder("lock.hold")
+                        .description("락 획득부터 해제까지 점유한 시간")
+                        .tag("prefix", prefix)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Counter.builder("lock.acquisition.failures")
+                        .description("대기 시간 안에 락을 획득하지 못한 횟수")
+                        .tag("prefix", prefix)
+                        .register(meterRegistry),
+                Counter.builder("lock.lease.expired")
+                        .description("작업이 끝나기 전에 lease 가 만료된 횟수")
+                        .tag("prefix", prefix)
+                        .register(meterRegistry));
+    }
+
+    private Timer waitTimer(String prefix, String result) {
+        return Timer.builder("lock.wait")
+                .description("락 획득을 요청한 뒤 획득/실패할 때까지 대기한 시간")
+                .tag("prefix", prefix)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record PrefixMeters(
+            Timer waitAcquired,
+            Timer waitFailed,
+            Timer hold,
+            Counter acquisitionFailures,
+            Counter leaseExpired) {}
+}
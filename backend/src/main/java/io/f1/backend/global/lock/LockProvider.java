@@ -0,0 +1,22 @@
+package io.f1.backend.global.lock;
+
+import java.util.List;
+
+/**
+ * {@link LockExecutor} 와 {@link DistributedLockAspect} 가 사용하는 락 구현을 추상화한다.
+ *
+ * <p>{@code lock.provider} 로 선택한다. {@code redisson}(기본값) 은 Redis 분산 락, {@code local} 은 단일 노드 배포용
+ * 프로세스 내부 striped 락.
+ */
+public interface LockProvider {
+
+    LockHandle getLock(String key);
+
+    /**
+     * 여러 키를 한 번에(all-or-nothing) 획득하는 락. 일부만 잡은 채로 다른 락을 기다리지 않으므로 키 조합이 달라도 데드락이 생기지
+     * 않는다.
+     *
+     * @param keys 정렬·중복 제거된 락 키
+     */
+    LockHandle getMultiLock(List<String> keys);
+}
@@ -0,0 +1,172 @@
+package io.f1.backend.global.lock;
+
+import lombok.RequiredArgsConstructor;
+
+import org.redisson.api.RLock;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "lock.provider", havingValue = "redisson", matchIfMissing = true)
+public class RedissonLockProvider implements LockProvider {
+
+    private static final long MIN_RETRY_MILLIS = 5L;
+    private static final long MAX_RETRY_MILLIS = 100L;
+
+    /*
+     * RLock 과 같은 해시 구조(field = "<clientId>:<threadId>", value = 재진입 횟수)를 사용하므로 단일 키 RLock 과 서로
+     * 배타적이고, 같은 스레드에서는 재진입된다. 하나라도 다른 소유자가 있으면 아무것도 잡지 않고 남은 TTL 을 돌려준다.
+     */
+    private static final String ACQUIRE_SCRIPT =
+            """
+            for i, key in ipairs(KEYS) do
+                if redis.call('exists', key) == 1 and redis.call('hexists', key, ARGV[2]) == 0 then
+                    return redis.call('pttl', key)
+                end
+            end
+            for i, key in ipairs(KEYS) do
+                redis.call('hincrby', key, ARGV[2], 1)
+                redis.call('pexpire', key, ARGV[1])
+            end
+            return nil
+            """;
+
+    // 해제 시 RLock 대기자가 깨어나도록 Redisson 락 채널에 unlock 메시지(0)를 발행한다
+    private static final String RELEASE_SCRIPT =
+            """
+            for i, key in ipairs(KEYS) do
+                if redis.call('hexists', key, ARGV[2]) == 1 then
+                    local counter = redis.call('hincrby', key, ARGV[2], -1)
+                    if counter > 0 then
+                        redis.call('pexpire', key, ARGV[1])
+                    else
+                        redis.call('del', key)
+                        redis.call('publish', 'redisson_lock__channel:' .. key, 0)
+                    end
+                end
+            end
+            return nil
+            """;
+
+    // RLock.isHeldByCurrentThread 처럼 키마다 이 스레드의 필드가 남아 있는지 본다. lease 가 지나 하나라도 풀렸으면 0
+    private static final String HELD_SCRIPT =
+            """
+            for i, key in ipairs(KEYS) do
+                if redis.call('hexists', key, ARGV[2]) == 0 then
+                    return 0
+                end
+            end
+            return 1
+            """;
+
+    private final RedissonClient redissonClient;
+
+    @Override
+    public LockHandle getLock(String key) {
+        return new RedissonLockHandle(redissonClient.getLock(key));
+    }
+
+    @Override
+    public LockHandle getMultiLock(List<String> keys) {
+        return new RedissonMultiLockHandle(keys);
+    }
+
+    private record RedissonLockHandle(RLock rlock) implements LockHandle {
+
+        @Override
+        public boolean tryLock(long waitTime, long leaseTime, TimeUnit unit)
+                throws InterruptedException {
+            return rlock.tryLock(waitTime, leaseTime, unit);
+        }
+
+        @Override
+        public boolean isHeldByCurrentThread() {
+            return rlock.isHeldByCurrentThread();
+        }
+
+        @Override
+        public void unlock() {
+            rlock.unlock();
+        }
+    }
+
+    private final class RedissonMultiLockHandle implements LockHandle {
+
+        private final List<Object> keys;
+        private long ownerThreadId = -1L;
+        private long leaseMillis;
+
+        private RedissonMultiLockHandle(List<String> keys) {
+            this.keys = List.<Object>copyOf(keys);
+        }
+
+        @Override
+        public boolean tryLock(long waitTime, long leaseTime, TimeUnit unit)
+                throws InterruptedException {
+            long threadId = Thread.currentThread().threadId();
+            long deadline = System.nanoTime() + unit.toNanos(waitTime);
+            long retryMillis = MIN_RETRY_MILLIS;
+            leaseMillis = unit.toMillis(leaseTime);
+
+            while (true) {
+                Long ttl = eval(ACQUIRE_SCRIPT, threadId);
+                if (ttl == null) {
+                    ownerThreadId = threadId;
+                    return true;
+                }
+
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    return false;
+                }
+
+                // 보유자의 남은 TTL 보다 오래 기다릴 필요는 없다
+                long sleepMillis = Math.min(retryMillis, remainingMillis);
+                if (ttl > 0) {
+                    sleepMillis = Math.min(sleepMillis, ttl);
+                }
+                Thread.sleep(Math.max(1L, sleepMillis));
+                retryMillis = Math.min(retryMillis * 2, MAX_RETRY_MILLIS);
+            }
+        }
+
+        @Override
+        public boolean isHeldByCurrentThread() {
+            long threadId = Thread.currentThread().threadId();
+            if (ownerThreadId != threadId) {
+                return false;
+            }
+            Long held = eval(HELD_SCRIPT, threadId);
+            return held != null && held == 1L;
+        }
+
+        @Override
+        public void unlock() {
+            eval(RELEASE_SCRIPT, ownerThreadId);
+            ownerThreadId = -1L;
+        }
+
+        private Long eval(String script, long threadId) {
+            return redissonClient
+                    .getScript(StringCodec.INSTANCE)
+                    .eval(
+                            RScript.Mode.READ_WRITE,
+                            script,
+                            RScript.ReturnType.INTEGER,
+                            keys,
+                            leaseMillis,
+                            lockName(threadId));
+        }
+
+        private String lockName(long threadId) {
+            return redissonClient.getId() + ":" + threadId;
+        }
+    }
+}
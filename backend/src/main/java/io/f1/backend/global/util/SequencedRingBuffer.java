@@ -0,0 +1,75 @@
+package io.f1.backend.global.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongFunction;
+
+/**
+ * 번호가 붙은 최근 항목을 {@code capacity} 개까지 남겨 두는 링 버퍼. 항목마다 1부터 1씩 늘어나는 번호를 붙이고, 마지막으로 받은 번호를
+ * 알려 주면 그 뒤의 항목을 순서대로 돌려준다. 재연결한 클라이언트에게 놓친 메시지만 다시 보낼 때 쓴다.
+ *
+ * @param <T> 기록할 항목. 보통 이미 인코딩된 payload
+ */
+public class SequencedRingBuffer<T> {
+
+    private final Object[] items;
+    private long lastSequence;
+
+    // 이보다 작은 번호로는 재개할 수 없다. truncate 할 때 올린다
+    private long firstResumable;
+
+    public SequencedRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.items = new Object[capacity];
+    }
+
+    /**
+     * @param builder 번호를 받아 항목을 만든다. 번호 순서와 기록 순서가 같도록 잠금 안에서 호출된다
+     * @return 기록된 항목
+     */
+    public synchronized T append(LongFunction<T> builder) {
+        long sequence = lastSequence + 1;
+        T item = builder.apply(sequence);
+        items[index(sequence)] = item;
+        lastSequence = sequence;
+        return item;
+    }
+
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * @param sequence 마지막으로 받은 번호. 아직 하나도 받지 못했으면 0
+     * @return 그 뒤의 항목들. 버퍼에서 이미 밀려났거나, truncate 전 번호이거나, 아직 붙이지 않은 번호면 empty
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized Optional<List<T>> itemsAfter(long sequence) {
+        long oldest = Math.max(1, lastSequence - items.length + 1);
+        if (sequence < oldest - 1 || sequence < firstResumable || sequence > lastSequence) {
+            return Optional.empty();
+        }
+
+        List<T> missed = new ArrayList<>((int) (lastSequence - sequence));
+        for (long next = sequence + 1; next <= lastSequence; next++) {
+            missed.add((T) items[index(next)]);
+        }
+        return Optional.of(missed);
+    }
+
+    /**
+     * 지금까지의 번호로는 재개할 수 없게 한다. 번호 하나를 건너뛰고, 건너뛴 번호({@link #getLastSequence()})부터 다시 재개할 수
+     * 있다.
+     */
+    public synchronized void truncate() {
+        lastSequence++;
+        firstResumable = lastSequence;
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence % items.length);
+    }
+}
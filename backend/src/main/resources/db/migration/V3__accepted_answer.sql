@@ -0,0 +1,10 @@
+-- 문제별 추가 정답(별칭). question.answer 는 대표 정답으로 그대로 사용한다
+CREATE TABLE accepted_answer (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    question_id BIGINT NOT NULL,
+    answer VARCHAR(40) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE accepted_answer ADD CONSTRAINT FK_accepted_answer__question_id
+    FOREIGN KEY (question_id) REFERENCES question (id);
@@ -0,0 +1,53 @@
+package io.f1.backend.domain.game.answer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class AnswerMatcherTest {
+
+    @Test
+    @DisplayName("대표 정답과 추가 정답 모두 정답으로 인정된다")
+    void matchesAnyAcceptedAnswer() {
+        AnswerMatcher matcher = AnswerMatcher.of("해리 포터", List.of("Harry Potter", "해리포터"));
+
+        assertThat(matcher.matches(AnswerNormalizer.normalize("해리 포터"))).isTrue();
+        assertThat(matcher.matches(AnswerNormalizer.normalize("HARRY  potter"))).isTrue();
+        assertThat(matcher.matches(AnswerNormalizer.normalize("해리포터"))).isTrue();
+        assertThat(matcher.getAnswer()).isEqualTo("해리 포터");
+    }
+
+    @Test
+    @DisplayName("정답의 접두사나 정답보다 긴 입력은 정답이 아니다")
+    void rejectsPrefixAndLongerInput() {
+        AnswerMatcher matcher = AnswerMatcher.of("해리 포터", List.of("해리"));
+
+        assertThat(matcher.matches(AnswerNormalizer.normalize("해"))).isFalse();
+        assertThat(matcher.matches(AnswerNormalizer.normalize("해리 포"))).isFalse();
+        assertThat(matcher.matches(AnswerNormalizer.normalize("해리 포터와 마법사의 돌"))).isFalse();
+        assertThat(matcher.matches(AnswerNormalizer.normalize("해리"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("오타 허용 범위 안의 입력은 정답으로 인정된다")
+    void acceptsInputWithinTolerance() {
+        AnswerMatcher matcher = AnswerMatcher.of("해리 포터와 마법사의 돌", List.of("Harry Potter"), 1);
+
+        assertThat(matcher.matches(AnswerNormalizer.normalize("해리 포터와 마법사의 돈"))).isTrue();
+        assertThat(matcher.matches(AnswerNormalizer.normalize("해리포터와 마법사의 돌"))).isTrue();
+        assertThat(matcher.matches(AnswerNormalizer.normalize("hary potter"))).isTrue();
+        assertThat(matcher.matches(AnswerNormalizer.normalize("해리포터와 마법사의 돈"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("짧은 정답에는 오타를 허용하지 않는다")
+    void doesNotTolerateTyposInShortAnswers() {
+        AnswerMatcher matcher = AnswerMatcher.of("사과", List.of(), 2);
+
+        assertThat(matcher.matches(AnswerNormalizer.normalize("사과"))).isTrue();
+        assertThat(matcher.matches(AnswerNormalizer.normalize("사자"))).isFalse();
+    }
+}
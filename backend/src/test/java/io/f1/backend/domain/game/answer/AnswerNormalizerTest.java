@@ -0,0 +1,48 @@
+package io.f1.backend.domain.game.answer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AnswerNormalizerTest {
+
+    @Test
+    @DisplayName("앞뒤 공백을 없애고 연속된 공백은 하나로 접는다")
+    void foldsWhitespace() {
+        assertThat(AnswerNormalizer.normalize("  해리\t\t포터 　")).isEqualTo("해리 포터");
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않는다")
+    void foldsCase() {
+        assertThat(AnswerNormalizer.normalize("Harry POTTER")).isEqualTo("harry potter");
+    }
+
+    @Test
+    @DisplayName("조합형 한글 자모는 완성형 음절과 같게 정규화된다")
+    void composesHangulJamo() {
+        String conjoiningJamo = "\u1112\u1161\u11ab"; // ㅎ + ㅏ + ㄴ
+
+        assertThat(AnswerNormalizer.normalize(conjoiningJamo)).isEqualTo("한");
+    }
+
+    @Test
+    @DisplayName("이미 정규화된 문자열은 새로 만들지 않는다")
+    void returnsSameInstanceWhenAlreadyNormalized() {
+        String normalized = "해리 포터";
+
+        assertThat(AnswerNormalizer.normalize(normalized)).isSameAs(normalized);
+    }
+
+    @Test
+    @DisplayName("정답 판정기는 정규화된 입력으로 비교하고, 빈 입력은 정답이 아니다")
+    void matcherComparesNormalizedInput() {
+        AnswerMatcher matcher = AnswerMatcher.of(" Harry  Potter");
+
+        assertThat(matcher.matches(AnswerNormalizer.normalize("harry potter "))).isTrue();
+        assertThat(matcher.matches(AnswerNormalizer.normalize("harry"))).isFalse();
+        assertThat(matcher.matches(AnswerNormalizer.normalize("   "))).isFalse();
+        assertThat(matcher.getAnswer()).isEqualTo(" Harry  Potter");
+    }
+}
@@ -0,0 +1,108 @@
+package io.f1.backend.domain.game.answer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+class BitParallelPatternTest {
+
+    @Test
+    @DisplayName("삽입, 삭제, 치환 한 번은 편집 거리 1 로 판정된다")
+    void singleEditIsDistanceOne() {
+        BitParallelPattern pattern = BitParallelPattern.of("해리 포터");
+
+        assertThat(pattern.withinDistance("해리 포터", 0)).isTrue();
+        assertThat(pattern.withinDistance("해리 보터", 1)).isTrue();
+        assertThat(pattern.withinDistance("해리포터", 1)).isTrue();
+        assertThat(pattern.withinDistance("해리 포터즈", 1)).isTrue();
+        assertThat(pattern.withinDistance("해리 보터", 0)).isFalse();
+        assertThat(pattern.withinDistance("해리 보더", 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("무작위 문자열에 대해 DP 로 구한 편집 거리와 같은 판정을 한다")
+    void agreesWithDynamicProgramming() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 2_000; i++) {
+            String pattern =
+                    randomString(random, 1 + random.nextInt(BitParallelPattern.MAX_LENGTH));
+            String text = mutate(random, pattern);
+            int expected = levenshtein(pattern, text);
+            BitParallelPattern bitParallel = BitParallelPattern.of(pattern);
+
+            for (int limit = 0; limit <= 3; limit++) {
+                assertThat(bitParallel.withinDistance(text, limit))
+                        .as("pattern=%s, text=%s, limit=%d", pattern, text, limit)
+                        .isEqualTo(expected <= limit);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("한 워드보다 긴 정답으로는 만들 수 없다")
+    void rejectsPatternLongerThanWord() {
+        String tooLong = "a".repeat(BitParallelPattern.MAX_LENGTH + 1);
+
+        assertThatThrownBy(() -> BitParallelPattern.of(tooLong))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(4)));
+        }
+        return builder.toString();
+    }
+
+    // 원본에 0~3 번의 무작위 삽입/삭제/치환을 가한다
+    private String mutate(Random random, String source) {
+        StringBuilder builder = new StringBuilder(source);
+        int edits = random.nextInt(4);
+        for (int i = 0; i < edits; i++) {
+            int position = random.nextInt(builder.length() + 1);
+            char c = (char) ('a' + random.nextInt(4));
+            switch (random.nextInt(3)) {
+                case 0 -> builder.insert(position, c);
+                case 1 -> {
+                    if (position < builder.length()) {
+                        builder.deleteCharAt(position);
+                    }
+                }
+                default -> {
+                    if (position < builder.length()) {
+                        builder.setCharAt(position, c);
+                    }
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    private int levenshtein(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] =
+                        Math.min(
+                                Math.min(current[j - 1] + 1, previous[j] + 1),
+                                previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
@@ -9,17 +9,20 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import io.f1.backend.domain.game.answer.AnswerMatcher;
 import io.f1.backend.domain.game.dto.ChatMessage;
 import io.f1.backend.domain.game.event.GameCorrectAnswerEvent;
+import io.f1.backend.domain.game.executor.LockRoomCommandExecutor;
 import io.f1.backend.domain.game.model.GameSetting;
 import io.f1.backend.domain.game.model.Player;
 import io.f1.backend.domain.game.model.Room;
 import io.f1.backend.domain.game.model.RoomSetting;
 import io.f1.backend.domain.game.model.RoomState;
 import io.f1.backend.domain.game.websocket.MessageSender;
-import io.f1.backend.domain.question.entity.Question;
+import io.f1.backend.domain.quiz.dto.GameQuestion;
 import io.f1.backend.domain.user.dto.UserPrincipal;
 import io.f1.backend.domain.user.entity.User;
+import io.f1.backend.global.lock.LockExecutor;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -38,6 +41,7 @@ import java.lang.reflect.Field;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -56,7 +60,12 @@ class ChatServiceTests {
     void setUp() {
         MockitoAnnotations.openMocks(this); // @Mock 어노테이션이 붙은 필드들을 초기화합니다.
 
-        chatService = new ChatService(roomService, messageSender, eventPublisher);
+        chatService =
+                new ChatService(
+                        roomService,
+                        messageSender,
+                        eventPublisher,
+                        new LockRoomCommandExecutor(mock(LockExecutor.class)));
 
         SecurityContextHolder.clearContext();
     }
@@ -70,14 +79,12 @@ class ChatServiceTests {
         ChatMessage wrongMessage = new ChatMessage("뜨거운제티", "오답", Instant.now());
 
         Room room = mock(Room.class);
-        Question question = mock(Question.class);
         User user = createUser(1);
         UserPrincipal userPrincipal = new UserPrincipal(user, Collections.emptyMap());
 
         given(roomService.findRoom(roomId)).willReturn(room);
         given(room.isPlaying()).willReturn(true);
-        given(room.getCurrentQuestion()).willReturn(question);
-        given(question.getAnswer()).willReturn("정답");
+        given(room.getCurrentAnswerMatcher()).willReturn(AnswerMatcher.of("정답"));
 
         // when
         chatService.chat(roomId, userPrincipal, wrongMessage);
@@ -95,14 +102,12 @@ class ChatServiceTests {
         ChatMessage answer = new ChatMessage("뜨거운제티", "정답", Instant.now());
 
         Room room = mock(Room.class);
-        Question question = mock(Question.class);
         User user = createUser(1);
         UserPrincipal userPrincipal = new UserPrincipal(user, Collections.emptyMap());
 
         given(roomService.findRoom(roomId)).willReturn(room);
         given(room.isPlaying()).willReturn(true);
-        given(room.getCurrentQuestion()).willReturn(question);
-        given(question.getAnswer()).willReturn("정답");
+        given(room.getCurrentAnswerMatcher()).willReturn(AnswerMatcher.of("정답"));
         given(room.compareAndSetAnsweredFlag(false, true)).willReturn(true);
 
         // when
@@ -126,14 +131,13 @@ class ChatServiceTests {
         String correctAnswer = "정답";
 
         Room room = createRoom(roomId, playerId, quizId, password, maxUserCount, locked);
-        Question question = mock(Question.class);
+        GameQuestion question = new GameQuestion(1L, "문제", correctAnswer, List.of());
         room.updateRoomState(RoomState.PLAYING);
         room.increaseCurrentRound();
         room.updateQuestions(Collections.singletonList(question));
 
         // room이 실제 객체이므로, RoomService만 mock으로 대체
         given(roomService.findRoom(roomId)).willReturn(room);
-        given(question.getAnswer()).willReturn(correctAnswer);
 
         int userCount = 8;
         ExecutorService executor = Executors.newFixedThreadPool(userCount);
@@ -172,6 +176,33 @@ class ChatServiceTests {
         assertThat(room.getAnswered().get()).isTrue();
     }
 
+    @Test
+    @DisplayName("공백과 대소문자가 달라도 정답으로 인정된다")
+    void EventPublishedWhenAnswerDiffersOnlyInSpacingAndCase() throws Exception {
+
+        // given
+        Long roomId = 1L;
+        ChatMessage answer = new ChatMessage("뜨거운제티", "  harry   POTTER ", Instant.now());
+
+        Room room = mock(Room.class);
+        User user = createUser(1);
+        UserPrincipal userPrincipal = new UserPrincipal(user, Collections.emptyMap());
+
+        given(roomService.findRoom(roomId)).willReturn(room);
+        given(room.isPlaying()).willReturn(true);
+        given(room.getCurrentAnswerMatcher()).willReturn(AnswerMatcher.of("Harry Potter"));
+        given(room.compareAndSetAnsweredFlag(false, true)).willReturn(true);
+
+        // when
+        chatService.chat(roomId, userPrincipal, answer);
+
+        // then
+        ArgumentCaptor<GameCorrectAnswerEvent> captor =
+                ArgumentCaptor.forClass(GameCorrectAnswerEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        assertThat(captor.getValue().answer()).isEqualTo("Harry Potter");
+    }
+
     private Room createRoom(
             Long roomId,
             Long playerId,
@@ -5,27 +5,40 @@ import static io.f1.backend.domain.game.dto.MessageType.QUESTION_START;
 import static io.f1.backend.domain.game.websocket.WebSocketUtils.getDestination;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import io.f1.backend.domain.game.dto.ChatMessage;
 import io.f1.backend.domain.game.dto.MessageType;
-import io.f1.backend.domain.game.dto.RoomEventType;
 import io.f1.backend.domain.game.dto.SystemNoticeMessage;
+import io.f1.backend.domain.game.dto.response.DefaultWebSocketResponse;
+import io.f1.backend.domain.game.dto.response.SystemNoticeResponse;
 import io.f1.backend.domain.game.event.GameCorrectAnswerEvent;
 import io.f1.backend.domain.game.event.GameTimeoutEvent;
+import io.f1.backend.domain.game.executor.LockRoomCommandExecutor;
+import io.f1.backend.domain.game.executor.RoomCommandExecutor;
 import io.f1.backend.domain.game.model.GameSetting;
 import io.f1.backend.domain.game.model.Player;
 import io.f1.backend.domain.game.model.Room;
 import io.f1.backend.domain.game.model.RoomSetting;
 import io.f1.backend.domain.game.model.RoomState;
+import io.f1.backend.domain.game.store.RoomRepository;
 import io.f1.backend.domain.game.websocket.DisconnectTaskManager;
 import io.f1.backend.domain.game.websocket.MessageSender;
-import io.f1.backend.domain.question.entity.Question;
 import io.f1.backend.domain.quiz.app.QuizService;
+import io.f1.backend.domain.quiz.dto.GamePack;
+import io.f1.backend.domain.quiz.dto.GameQuestion;
+import io.f1.backend.domain.quiz.entity.QuizType;
 import io.f1.backend.domain.stat.app.StatService;
 import io.f1.backend.domain.user.dto.UserPrincipal;
 import io.f1.backend.domain.user.entity.User;
+import io.f1.backend.global.exception.CustomException;
+import io.f1.backend.global.exception.errorcode.GameErrorCode;
+import io.f1.backend.global.lock.LocalLockProvider;
+import io.f1.backend.global.lock.LockExecutor;
+import io.f1.backend.global.lock.LockMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -42,7 +55,9 @@ import java.lang.reflect.Field;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -62,14 +77,12 @@ class GameFlowTests {
     @Mock private TimerService timerService;
     @Mock private MessageSender messageSender;
     @Mock private DisconnectTaskManager disconnectTaskManager;
+    @Mock private RoomRepository roomRepository;
 
     private Room room;
-    private Question question;
 
     @BeforeEach
     void setUp() {
-        question = mock(Question.class);
-
         ApplicationEventPublisher eventPublisher =
                 new ApplicationEventPublisher() {
                     @Override
@@ -82,8 +95,14 @@ class GameFlowTests {
                     }
                 };
 
+        // 정답 판정/타임아웃은 lock 모드에서 호출 스레드에서 바로 실행된다
+        RoomCommandExecutor roomCommandExecutor =
+                new LockRoomCommandExecutor(mock(LockExecutor.class));
+
         testRoomService = new TestRoomService();
-        chatService = new ChatService(testRoomService, messageSender, eventPublisher);
+        chatService =
+                new ChatService(
+                        testRoomService, messageSender, eventPublisher, roomCommandExecutor);
         gameService =
                 new GameService(
                         statService,
@@ -92,7 +111,8 @@ class GameFlowTests {
                         timerService,
                         messageSender,
                         null,
-                        eventPublisher);
+                        eventPublisher,
+                        roomCommandExecutor);
     }
 
     @Test
@@ -109,7 +129,7 @@ class GameFlowTests {
         String correctAnswer = "정답";
 
         room = createRoom(roomId, playerId, quizId, password, maxUserCount, locked);
-        when(question.getAnswer()).thenReturn(correctAnswer);
+        GameQuestion question = new GameQuestion(1L, "문제", correctAnswer, List.of());
 
         room.updateRoomState(RoomState.PLAYING);
         room.increaseCurrentRound();
@@ -158,27 +178,102 @@ class GameFlowTests {
 
         // then
 
+        // 라운드 전환(QUESTION_RESULT ~ QUESTION_START)은 한 번만, 하나의 묶음으로 전송된다
+        ArgumentCaptor<List<DefaultWebSocketResponse<?>>> bundleCaptor = bundleCaptor();
         verify(messageSender, atMostOnce())
+                .sendBundle(eq(getDestination(roomId)), bundleCaptor.capture());
+        verify(messageSender, never())
                 .sendBroadcast(eq(getDestination(roomId)), eq(QUESTION_RESULT), any());
-        verify(messageSender, atMostOnce())
+        verify(messageSender, never())
                 .sendBroadcast(eq(getDestination(roomId)), eq(QUESTION_START), any());
 
-        ArgumentCaptor<SystemNoticeMessage> noticeCaptor =
-                ArgumentCaptor.forClass(SystemNoticeMessage.class);
-
-        verify(messageSender, atMost(1))
-                .sendBroadcast(
-                        eq(getDestination(roomId)),
-                        eq(MessageType.SYSTEM_NOTICE),
-                        noticeCaptor.capture());
-
         // SYSTEM_NOTICE가 TIMEOUT 내용이었는지 확인
-        if (!noticeCaptor.getAllValues().isEmpty()) {
-            SystemNoticeMessage message = noticeCaptor.getValue();
-            assertThat(message.getMessage()).isNotEqualTo(RoomEventType.TIMEOUT);
+        for (List<DefaultWebSocketResponse<?>> bundle : bundleCaptor.getAllValues()) {
+            assertThat(bundle)
+                    .extracting(DefaultWebSocketResponse::getType)
+                    .startsWith(QUESTION_RESULT);
+            assertThat(bundle)
+                    .filteredOn(event -> event.getType() == MessageType.SYSTEM_NOTICE)
+                    .extracting(event -> (SystemNoticeResponse) event.getMessage())
+                    .extracting(SystemNoticeResponse::noticeMessage)
+                    .doesNotContain(SystemNoticeMessage.TIMEOUT.getMessage());
         }
     }
 
+    @Test
+    @DisplayName("고른 문제가 라운드 수보다 적으면 고른 문제 수만큼만 라운드를 진행한다")
+    void gameStart_fewerQuestionsThanRound_limitsRound() {
+        // given
+        room = createRoom(1L, 1L, 1L, null, 5, false);
+        GamePack gamePack = createGamePack();
+        List<GameQuestion> questions =
+                List.of(
+                        new GameQuestion(1L, "문제1", "정답1", List.of()),
+                        new GameQuestion(2L, "문제2", "정답2", List.of()));
+        when(roomRepository.findRoom(1L)).thenReturn(Optional.of(room));
+        when(quizService.getGamePack(1L)).thenReturn(gamePack);
+        when(quizService.sampleQuestions(gamePack, 10)).thenReturn(questions);
+
+        // when
+        createStartingGameService().gameStart(1L, createPrincipal());
+
+        // then
+        assertThat(room.getRound()).isEqualTo(2);
+        assertThat(room.getState()).isEqualTo(RoomState.PLAYING);
+    }
+
+    @Test
+    @DisplayName("고른 문제가 하나도 없으면 게임을 시작하지 않는다")
+    void gameStart_noQuestions_fails() {
+        // given
+        room = createRoom(1L, 1L, 1L, null, 5, false);
+        GamePack gamePack = createGamePack();
+        when(roomRepository.findRoom(1L)).thenReturn(Optional.of(room));
+        when(quizService.getGamePack(1L)).thenReturn(gamePack);
+        when(quizService.sampleQuestions(gamePack, 10)).thenReturn(List.of());
+
+        // when & then
+        GameService startingGameService = createStartingGameService();
+        UserPrincipal principal = createPrincipal();
+        assertThatThrownBy(() -> startingGameService.gameStart(1L, principal))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(GameErrorCode.GAME_SETTING_CONFLICT);
+        assertThat(room.getState()).isNotEqualTo(RoomState.PLAYING);
+        assertThat(room.getRound()).isEqualTo(10);
+        verifyNoInteractions(timerService);
+    }
+
+    // 게임 시작은 방 락 안에서 실행되므로 실제로 잡히는 로컬 락을 쓴다
+    private GameService createStartingGameService() {
+        LockExecutor lockExecutor =
+                new LockExecutor(
+                        new LocalLockProvider(),
+                        new LockMetrics(new SimpleMeterRegistry(), 500, 1.0));
+        return new GameService(
+                statService,
+                quizService,
+                testRoomService,
+                timerService,
+                messageSender,
+                roomRepository,
+                event -> {},
+                new LockRoomCommandExecutor(lockExecutor));
+    }
+
+    private GamePack createGamePack() {
+        return new GamePack(1L, QuizType.TEXT, "퀴즈", "설명", "작성자", "thumbnail.png", List.of());
+    }
+
+    private UserPrincipal createPrincipal() {
+        return new UserPrincipal(createUser(0), Collections.emptyMap());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ArgumentCaptor<List<DefaultWebSocketResponse<?>>> bundleCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(List.class);
+    }
+
     private Room createRoom(
             Long roomId,
             Long playerId,
@@ -222,7 +317,7 @@ class GameFlowTests {
         private final Map<Long, Room> rooms = new ConcurrentHashMap<>();
 
         public TestRoomService() {
-            super(null, null, null, null, null, null, null);
+            super(null, null, null, null, null, null, null, null);
         }
 
         @Override
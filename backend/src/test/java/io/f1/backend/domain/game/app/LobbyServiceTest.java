@@ -0,0 +1,138 @@
+package io.f1.backend.domain.game.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.f1.backend.domain.game.dto.request.RoomSearchCondition;
+import io.f1.backend.domain.game.dto.response.RoomListResponse;
+import io.f1.backend.domain.game.dto.response.RoomResponse;
+import io.f1.backend.domain.game.event.RoomCreatedEvent;
+import io.f1.backend.domain.game.event.RoomDeletedEvent;
+import io.f1.backend.domain.game.event.RoomUpdatedEvent;
+import io.f1.backend.domain.game.model.GameSetting;
+import io.f1.backend.domain.game.model.Player;
+import io.f1.backend.domain.game.model.Room;
+import io.f1.backend.domain.game.model.RoomSetting;
+import io.f1.backend.domain.game.model.RoomState;
+import io.f1.backend.domain.game.store.LobbyRoomRepository;
+import io.f1.backend.domain.game.store.RoomRepositoryImpl;
+import io.f1.backend.domain.quiz.dto.GamePack;
+import io.f1.backend.domain.quiz.dto.GameQuestion;
+import io.f1.backend.domain.quiz.entity.QuizType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class LobbyServiceTest {
+
+    private final GamePack gamePack =
+            new GamePack(
+                    1L,
+                    QuizType.TEXT,
+                    "퀴즈",
+                    "설명",
+                    "작성자",
+                    "thumbnail.png",
+                    List.of(new GameQuestion(1L, "문제", "정답", List.of())));
+
+    private RoomRepositoryImpl roomRepository;
+    private LobbyRoomRepository lobbyRoomRepository;
+    private LobbyService lobbyService;
+
+    @BeforeEach
+    void setUp() {
+        roomRepository = new RoomRepositoryImpl();
+        lobbyRoomRepository = new LobbyRoomRepository();
+        lobbyService = new LobbyService(roomRepository, lobbyRoomRepository, new LocalLobbyRelay());
+    }
+
+    @Test
+    @DisplayName("방 이벤트로 만든 목록을 DB 조회 없이 방 id 순서로 돌려준다")
+    void buildsRoomListFromEvents() {
+        Room second = createRoom(2L);
+        Room first = createRoom(1L);
+
+        lobbyService.onRoomCreated(new RoomCreatedEvent(second, gamePack, 1));
+        lobbyService.onRoomCreated(new RoomCreatedEvent(first, gamePack, 1));
+
+        first.addPlayer(new Player(10L, "참가자"));
+        first.updateRoomState(RoomState.PLAYING);
+        lobbyService.onRoomUpdated(new RoomUpdatedEvent(first, gamePack, 1));
+
+        List<RoomResponse> rooms = getRooms().rooms();
+
+        assertThat(rooms).extracting(RoomResponse::roomId).containsExactly(1L, 2L);
+        assertThat(rooms.get(0).currentUserCount()).isEqualTo(2);
+        assertThat(rooms.get(0).roomState()).isEqualTo(RoomState.PLAYING.name());
+        assertThat(rooms.get(0).numberOfQuestions()).isEqualTo(1);
+        assertThat(rooms.get(0).quizTitle()).isEqualTo("퀴즈");
+    }
+
+    @Test
+    @DisplayName("바뀐 방이 없으면 전에 만든 목록을 그대로 다시 쓴다")
+    void reusesListUntilVersionChanges() {
+        Room room = createRoom(1L);
+        lobbyService.onRoomCreated(new RoomCreatedEvent(room, gamePack, 1));
+
+        List<RoomResponse> first = lobbyRoomRepository.findAll();
+        long version = lobbyRoomRepository.getVersion();
+
+        assertThat(lobbyRoomRepository.findAll()).isSameAs(first);
+
+        lobbyService.onRoomUpdated(new RoomUpdatedEvent(room, gamePack, 1));
+
+        assertThat(lobbyRoomRepository.getVersion()).isEqualTo(version + 1);
+        assertThat(lobbyRoomRepository.findAll()).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("삭제된 방은 늦게 온 변경 이벤트로 다시 생기지 않는다")
+    void ignoresUpdateAfterDelete() {
+        Room room = createRoom(1L);
+        lobbyService.onRoomCreated(new RoomCreatedEvent(room, gamePack, 1));
+
+        roomRepository.removeRoom(1L);
+        lobbyService.onRoomDeleted(new RoomDeletedEvent(1L));
+        lobbyService.onRoomUpdated(new RoomUpdatedEvent(room, gamePack, 1));
+
+        assertThat(getRooms().rooms()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("페이지 크기보다 방이 많으면 다음 cursor 를 주고, 마지막 페이지에는 주지 않는다")
+    void paginatesWithCursor() {
+        for (long roomId = 1; roomId <= 5; roomId++) {
+            lobbyService.onRoomCreated(new RoomCreatedEvent(createRoom(roomId), gamePack, 1));
+        }
+
+        RoomListResponse first = lobbyService.getRooms(RoomSearchCondition.NONE, null, 2);
+        RoomListResponse second = lobbyService.getRooms(RoomSearchCondition.NONE, 2L, 2);
+        RoomListResponse last = lobbyService.getRooms(RoomSearchCondition.NONE, 4L, 2);
+
+        assertThat(first.rooms()).extracting(RoomResponse::roomId).containsExactly(1L, 2L);
+        assertThat(first.nextCursor()).isEqualTo(2L);
+        assertThat(second.rooms()).extracting(RoomResponse::roomId).containsExactly(3L, 4L);
+        assertThat(second.nextCursor()).isEqualTo(4L);
+        assertThat(last.rooms()).extracting(RoomResponse::roomId).containsExactly(5L);
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    private RoomListResponse getRooms() {
+        return lobbyService.getRooms(RoomSearchCondition.NONE, null, 20);
+    }
+
+    private Room createRoom(Long roomId) {
+        Player host = new Player(roomId, "방장" + roomId);
+        Room room =
+                new Room(
+                        roomId,
+                        new RoomSetting("방" + roomId, 4, false, null),
+                        new GameSetting(1L, 10, 60),
+                        host);
+        room.addPlayer(host);
+        roomRepository.saveRoom(room);
+        return room;
+    }
+}
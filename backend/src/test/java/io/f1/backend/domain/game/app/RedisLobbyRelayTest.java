@@ -0,0 +1,191 @@
+package io.f1.backend.domain.game.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.f1.backend.domain.game.dto.LobbyClusterMessage;
+import io.f1.backend.domain.game.dto.LobbyClusterMessage.Type;
+import io.f1.backend.domain.game.dto.response.RoomResponse;
+import io.f1.backend.domain.game.sse.app.LobbyEventCoalescer;
+import io.f1.backend.domain.game.sse.dto.LobbySseEvent;
+import io.f1.backend.domain.game.store.LobbyRoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+
+import java.util.List;
+
+class RedisLobbyRelayTest {
+
+    private static final String NODE_ID = "node-a";
+    private static final String OTHER_NODE_ID = "node-b";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LobbyRoomRepository lobbyRoomRepository = new LobbyRoomRepository();
+    private final LobbyEventCoalescer lobbyEventCoalescer = mock(LobbyEventCoalescer.class);
+    private final RTopic topic = mock(RTopic.class);
+
+    private RedisLobbyRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getTopic(eq(RedisLobbyRelay.CHANNEL), any())).thenReturn(topic);
+        when(redissonClient.getId()).thenReturn(NODE_ID);
+        relay =
+                new RedisLobbyRelay(
+                        redissonClient,
+                        objectMapper,
+                        lobbyRoomRepository,
+                        lobbyEventCoalescer,
+                        meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.shutdown();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 방은 로비 목록에 합치고, 처음 보는 방은 CREATE 로 이후 변경은 UPDATE 로 보낸다")
+    void mergesRemoteRooms() throws JsonProcessingException {
+        relay.receive(encode(LobbyClusterMessage.saved(OTHER_NODE_ID, room(1L, 1), 10L)));
+        relay.receive(encode(LobbyClusterMessage.saved(OTHER_NODE_ID, room(1L, 2), 10L)));
+
+        assertThat(lobbyRoomRepository.findAll())
+                .extracting(RoomResponse::currentUserCount)
+                .containsExactly(2);
+        assertThat(lobbyRoomRepository.findQuizId(1L)).contains(10L);
+        assertThat(submittedTypes()).containsExactly("CREATE", "UPDATE");
+        assertThat(meterRegistry.get("lobby.cluster.remote.rooms").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("자기가 발행한 메시지는 다시 반영하지 않는다")
+    void ignoresOwnMessages() throws JsonProcessingException {
+        relay.receive(encode(LobbyClusterMessage.saved(NODE_ID, room(1L, 1), 10L)));
+
+        assertThat(lobbyRoomRepository.findAll()).isEmpty();
+        verifyNoInteractions(lobbyEventCoalescer);
+    }
+
+    @Test
+    @DisplayName("노드가 내려가면 그 노드가 가진 방을 로비에서 지운다")
+    void removesRoomsOfLeavingNode() throws JsonProcessingException {
+        relay.receive(encode(LobbyClusterMessage.saved(OTHER_NODE_ID, room(1L, 1), 10L)));
+        relay.receive(encode(LobbyClusterMessage.saved("node-c", room(2L, 1), 10L)));
+
+        relay.receive(encode(LobbyClusterMessage.of(OTHER_NODE_ID, Type.LEAVE)));
+
+        assertThat(lobbyRoomRepository.findAll())
+                .extracting(RoomResponse::roomId)
+                .containsExactly(2L);
+        assertThat(submittedTypes()).containsExactly("CREATE", "CREATE", "DELETE");
+    }
+
+    @Test
+    @DisplayName("SYNC 를 받으면 다른 노드의 방은 빼고 이 노드의 방만 다시 보낸다")
+    void answersSyncWithLocalRooms() throws JsonProcessingException {
+        lobbyRoomRepository.save(room(1L, 1), 10L);
+        relay.receive(encode(LobbyClusterMessage.saved(OTHER_NODE_ID, room(2L, 1), 10L)));
+
+        relay.receive(encode(LobbyClusterMessage.of(OTHER_NODE_ID, Type.SYNC)));
+
+        assertThat(published(Type.SAVE, 2))
+                .extracting(LobbyClusterMessage::roomId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("다른 노드를 겨냥한 SYNC 에는 응답하지 않는다")
+    void ignoresSyncTargetedAtOtherNode() throws JsonProcessingException {
+        lobbyRoomRepository.save(room(1L, 1), 10L);
+
+        relay.receive(encode(LobbyClusterMessage.syncFrom(OTHER_NODE_ID, "node-c")));
+
+        assertThat(published(Type.SAVE, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료시킨 노드의 하트비트가 다시 오면 그 노드에만 SYNC 를 보내고, 응답으로 방을 되살린다")
+    void resyncsNodeReturningAfterExpiry() throws JsonProcessingException {
+        relay.receive(encode(LobbyClusterMessage.saved(OTHER_NODE_ID, room(1L, 1), 10L)));
+        relay.removeExpiredNodes(Long.MAX_VALUE);
+        assertThat(lobbyRoomRepository.findAll()).isEmpty();
+
+        relay.receive(encode(LobbyClusterMessage.of(OTHER_NODE_ID, Type.HEARTBEAT)));
+        relay.receive(encode(LobbyClusterMessage.saved(OTHER_NODE_ID, room(1L, 1), 10L)));
+
+        // 처음 SAVE 를 받을 때와 하트비트가 돌아올 때 한 번씩
+        assertThat(published(Type.SYNC, 2))
+                .extracting(LobbyClusterMessage::targetNodeId)
+                .containsExactly(OTHER_NODE_ID, OTHER_NODE_ID);
+        assertThat(lobbyRoomRepository.findAll())
+                .extracting(RoomResponse::roomId)
+                .containsExactly(1L);
+        assertThat(submittedTypes()).containsExactly("CREATE", "DELETE", "CREATE");
+    }
+
+    // 발행은 별도 스레드에서 하므로 잠시 기다린 뒤 나간 메시지를 모두 확인한다
+    private List<LobbyClusterMessage> published(Type type, int expectedPublishes) {
+        ArgumentCaptor<Object> published = ArgumentCaptor.forClass(Object.class);
+        verify(topic, after(300).times(expectedPublishes)).publish(published.capture());
+        return published.getAllValues().stream()
+                .map(this::decode)
+                .filter(message -> message.type() == type)
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> submittedTypes() {
+        ArgumentCaptor<LobbySseEvent<?>> captor =
+                ArgumentCaptor.forClass((Class<LobbySseEvent<?>>) (Class<?>) LobbySseEvent.class);
+        verify(lobbyEventCoalescer, atLeastOnce()).submit(anyLong(), captor.capture());
+        return captor.getAllValues().stream().map(LobbySseEvent::type).toList();
+    }
+
+    private String encode(LobbyClusterMessage message) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(message);
+    }
+
+    private LobbyClusterMessage decode(Object json) {
+        try {
+            return objectMapper.readValue((String) json, LobbyClusterMessage.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static RoomResponse room(Long roomId, int currentUserCount) {
+        return new RoomResponse(
+                roomId,
+                "room" + roomId,
+                4,
+                currentUserCount,
+                false,
+                "WAITING",
+                "quiz",
+                "desc",
+                "creator",
+                10,
+                "thumbnail");
+    }
+}
@@ -3,22 +3,32 @@ package io.f1.backend.domain.game.app;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.f1.backend.domain.game.dto.MessageType;
+import io.f1.backend.domain.game.dto.Rank;
 import io.f1.backend.domain.game.dto.request.RoomValidationRequest;
+import io.f1.backend.domain.game.dto.response.RankUpdateResponse;
+import io.f1.backend.domain.game.event.RoomDeletedEvent;
+import io.f1.backend.domain.game.executor.RoomCommandExecutor;
 import io.f1.backend.domain.game.model.GameSetting;
 import io.f1.backend.domain.game.model.Player;
 import io.f1.backend.domain.game.model.Room;
 import io.f1.backend.domain.game.model.RoomSetting;
+import io.f1.backend.domain.game.model.RoomState;
+import io.f1.backend.domain.game.store.LocalRoomIdGenerator;
 import io.f1.backend.domain.game.store.RoomRepository;
 import io.f1.backend.domain.game.store.UserRoomRepository;
 import io.f1.backend.domain.game.websocket.DisconnectTaskManager;
 import io.f1.backend.domain.game.websocket.MessageSender;
 import io.f1.backend.domain.quiz.app.QuizService;
+import io.f1.backend.domain.quiz.dto.GamePack;
 import io.f1.backend.domain.quiz.dto.QuizMinData;
-import io.f1.backend.domain.quiz.entity.Quiz;
+import io.f1.backend.domain.quiz.entity.QuizType;
 import io.f1.backend.domain.user.dto.UserPrincipal;
 import io.f1.backend.domain.user.entity.User;
 import io.f1.backend.global.config.RedisTestContainerConfig;
@@ -31,6 +41,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -59,7 +70,6 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @SpringBootTest
@@ -84,6 +94,7 @@ class RoomServiceConcurrentTest {
     private UserRoomRepository userRoomRepository;
 
     @Autowired private LockExecutor lockExecutor;
+    @Autowired private RoomCommandExecutor roomCommandExecutor;
 
     @InjectMocks private RoomService roomService;
 
@@ -99,13 +110,14 @@ class RoomServiceConcurrentTest {
         ReflectionTestUtils.setField(roomService, "roomRepository", roomRepository);
         ReflectionTestUtils.setField(roomService, "userRoomRepository", userRoomRepository);
         ReflectionTestUtils.setField(
-                roomService, "roomIdGenerator", new AtomicLong(0)); // ID 생성기 초기화
+                roomService, "roomIdGenerator", new LocalRoomIdGenerator()); // ID 생성기 초기화
         ReflectionTestUtils.setField(roomService, "lockExecutor", lockExecutor);
+        ReflectionTestUtils.setField(roomService, "roomCommandExecutor", roomCommandExecutor);
         ReflectionTestUtils.setField(roomService, "quizService", quizService);
 
-        Quiz dummyQuiz = mock(Quiz.class);
-        when(dummyQuiz.getId()).thenReturn(1L);
-        when(quizService.getQuizWithQuestionsById(anyLong())).thenReturn(dummyQuiz);
+        GamePack dummyPack =
+                new GamePack(1L, QuizType.TEXT, "퀴즈", "설명", "작성자", "thumbnail.png", List.of());
+        when(quizService.getGamePack(anyLong())).thenReturn(dummyPack);
         when(quizService.getQuizMinData()).thenReturn(new QuizMinData(1L, 10L));
         doNothing().when(eventPublisher).publishEvent(any());
         doNothing().when(disconnectTasks).cancelDisconnectTask(any(Long.class));
@@ -507,6 +519,70 @@ class RoomServiceConcurrentTest {
         assertThat(finalRoom.getCurrentUserCnt()).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("순위 delta 모드에서 게임 중 연결 끊긴 플레이어가 나가면 바뀐 번호로 전체 순위를 다시 보낸다")
+    void exitRoomForDisconnectedPlayer_whilePlaying_broadcastsRankUpdate() {
+        // Given
+        ReflectionTestUtils.setField(roomService, "rankDeltaEnabled", true);
+        Long roomId = 1L;
+        Room room = createAndSaveRoom(roomId, 100L, "Host", 4);
+        Player disconnectedPlayer = createPlayer(200L, "DisconnectedUser");
+        room.addPlayer(disconnectedPlayer);
+        userRoomRepository.addUser(disconnectedPlayer, room);
+        room.updateRoomState(RoomState.PLAYING);
+        long sequenceBeforeExit = room.getRankSnapshot().sequence();
+
+        // When
+        roomService.exitRoomForDisconnectedPlayer(roomId, disconnectedPlayer);
+
+        // Then
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(messageSender)
+                .sendBroadcast(
+                        eq("/sub/room/" + roomId),
+                        eq(MessageType.RANK_UPDATE),
+                        captor.capture());
+        RankUpdateResponse response = (RankUpdateResponse) captor.getValue();
+        assertThat(response.sequence())
+                .isGreaterThan(sequenceBeforeExit)
+                .isEqualTo(room.getRankSnapshot().sequence());
+        assertThat(response.rank()).extracting(Rank::nickname).containsExactly("Host");
+    }
+
+    @Test
+    @DisplayName("마지막 플레이어가 나가 방이 삭제되면 나가기 응답만 보내고 삭제된 방으로는 방송하지 않는다")
+    void exitRoom_lastPlayer_skipsBroadcastsToDeletedRoom() {
+        // Given
+        Long roomId = 1L;
+        Long hostId = 100L;
+        createAndSaveRoom(roomId, hostId, "Host", 4);
+
+        // When
+        roomService.exitRoomWithLock(roomId, createUserPrincipal(hostId));
+
+        // Then
+        assertThat(roomRepository.findRoom(roomId)).isEmpty();
+        verify(eventPublisher).publishEvent(new RoomDeletedEvent(roomId));
+        verify(messageSender).sendPersonal(any(), eq(MessageType.EXIT_SUCCESS), any(), any());
+        verify(messageSender, never()).sendBroadcast(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("연결 끊긴 마지막 플레이어를 정리해 방이 삭제되면 삭제된 방으로 방송하지 않는다")
+    void exitRoomForDisconnectedPlayer_lastPlayer_skipsBroadcasts() {
+        // Given
+        Long roomId = 1L;
+        Room room = createAndSaveRoom(roomId, 100L, "Host", 4);
+        Player host = room.getHost();
+
+        // When
+        roomService.exitRoomForDisconnectedPlayer(roomId, host);
+
+        // Then
+        assertThat(roomRepository.findRoom(roomId)).isEmpty();
+        verify(messageSender, never()).sendBroadcast(any(), any(), any());
+    }
+
     private Player createPlayer(Long userId, String nickname) {
         return new Player(userId, nickname);
     }
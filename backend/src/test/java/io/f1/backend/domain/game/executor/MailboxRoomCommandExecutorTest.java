@@ -0,0 +1,197 @@
+package io.f1.backend.domain.game.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.f1.backend.domain.game.event.RoomDeletedEvent;
+import io.f1.backend.global.exception.CustomException;
+import io.f1.backend.global.exception.errorcode.RoomErrorCode;
+import io.f1.backend.global.lock.LocalLockProvider;
+import io.f1.backend.global.lock.LockExecutor;
+import io.f1.backend.global.lock.LockMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class MailboxRoomCommandExecutorTest {
+
+    private final MailboxRoomCommandExecutor executor =
+            new MailboxRoomCommandExecutor(
+                    new LockExecutor(
+                            new LocalLockProvider(),
+                            new LockMetrics(new SimpleMeterRegistry(), 500, 0.1)));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 방 명령은 여러 스레드에서 들어와도 한 번에 하나씩만 실행된다")
+    void executeWithRoomLock_serializesCommandsPerRoom() throws InterruptedException {
+        int threadCount = 8;
+        int commandsPerThread = 1000;
+        int[] counter = new int[1];
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            pool.submit(
+                    () -> {
+                        try {
+                            for (int j = 0; j < commandsPerThread; j++) {
+                                executor.executeWithRoomLock(
+                                        1L,
+                                        () -> {
+                                            maxRunning.accumulateAndGet(
+                                                    running.incrementAndGet(), Math::max);
+                                            counter[0]++;
+                                            running.decrementAndGet();
+                                        });
+                            }
+                        } finally {
+                            latch.countDown();
+                        }
+                    });
+        }
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        pool.shutdown();
+
+        assertThat(counter[0]).isEqualTo(threadCount * commandsPerThread);
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("execute 로 넣은 명령은 들어온 순서대로 실행된다")
+    void execute_preservesOrder() {
+        List<Integer> executed = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            executor.execute(1L, () -> executed.add(value));
+        }
+
+        List<Integer> result = executor.executeWithRoomLock(1L, () -> List.copyOf(executed));
+
+        assertThat(result).hasSize(100).isSorted();
+    }
+
+    @Test
+    @DisplayName("같은 방 명령 안에서 다시 호출하면 데드락 없이 바로 실행된다")
+    void executeWithRoomLock_reentrant() {
+        Integer result =
+                executor.executeWithRoomLock(1L, () -> executor.executeWithRoomLock(1L, () -> 42));
+
+        assertThat(result).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("명령에서 발생한 예외는 호출자에게 그대로 전달된다")
+    void executeWithRoomLock_propagatesException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        executor.executeWithRoomLock(
+                                1L,
+                                () -> {
+                                    throw new IllegalArgumentException();
+                                }));
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 시작하지 못한 명령은 실패하고 이후에도 실행되지 않는다")
+    void executeWithRoomLock_timeout_cancelsCommand() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean executed = new AtomicBoolean(false);
+
+        executor.execute(
+                1L,
+                () -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+
+        assertThrows(
+                CustomException.class,
+                () -> executor.executeWithRoomLock(1L, () -> executed.set(true)));
+
+        release.countDown();
+        executor.executeWithRoomLock(1L, () -> {});
+
+        assertThat(executed).isFalse();
+    }
+
+    @Test
+    @DisplayName("방이 삭제되면 이미 들어온 명령까지 실행하고 새 명령은 거절한 뒤, 큐를 비우고 나서 메일박스가 빠진다")
+    void onRoomDeleted_drainsQueuedCommandsThenRemovesMailbox() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean queuedExecuted = new AtomicBoolean(false);
+        executor.execute(
+                1L,
+                () -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+        executor.execute(1L, () -> queuedExecuted.set(true));
+
+        executor.onRoomDeleted(new RoomDeletedEvent(1L));
+
+        CustomException ex =
+                assertThrows(
+                        CustomException.class, () -> executor.executeWithRoomLock(1L, () -> {}));
+        assertEquals(RoomErrorCode.ROOM_NOT_FOUND, ex.getErrorCode());
+        assertThat(executor.getMailboxCount()).isEqualTo(1);
+
+        release.countDown();
+
+        awaitMailboxCount(0);
+        assertThat(queuedExecuted).isTrue();
+    }
+
+    @Test
+    @DisplayName("방 명령 안에서 방을 삭제해도 그 명령은 끝까지 실행되고, 메일박스가 빠진 뒤에는 새 메일박스가 만들어진다")
+    void onRoomDeleted_fromOwnCommand() throws InterruptedException {
+        Integer result =
+                executor.executeWithRoomLock(
+                        1L,
+                        () -> {
+                            executor.onRoomDeleted(new RoomDeletedEvent(1L));
+                            return executor.executeWithRoomLock(1L, () -> 42);
+                        });
+
+        assertThat(result).isEqualTo(42);
+        awaitMailboxCount(0);
+        assertThat(executor.executeWithRoomLock(1L, () -> 7)).isEqualTo(7);
+    }
+
+    // 메일박스는 자기 실행 루프가 끝날 때 빠지므로 호출자가 결과를 받은 직후에는 아직 남아 있을 수 있다
+    private void awaitMailboxCount(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (executor.getMailboxCount() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(executor.getMailboxCount()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,117 @@
+package io.f1.backend.domain.game.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+class LeaderboardTest {
+
+    @Test
+    @DisplayName("정답을 맞힌 플레이어는 정렬 없이 자기 순위로 올라간다")
+    void movesPlayerUpOnCorrectAnswer() {
+        Leaderboard leaderboard = new Leaderboard();
+        Player first = new Player(1L, "first");
+        Player second = new Player(2L, "second");
+        Player third = new Player(3L, "third");
+        leaderboard.add(first);
+        leaderboard.add(second);
+        leaderboard.add(third);
+
+        leaderboard.increaseCorrectCount(3L);
+        leaderboard.increaseCorrectCount(3L);
+        leaderboard.increaseCorrectCount(2L);
+
+        assertThat(leaderboard.getRankedPlayers())
+                .extracting(Player::getNickname)
+                .containsExactly("third", "second", "first");
+        assertThat(third.getCorrectCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("입장, 퇴장, 정답이 섞여도 항상 정답 수 내림차순을 유지한다")
+    void keepsDescendingOrderUnderRandomUpdates() {
+        Leaderboard leaderboard = new Leaderboard();
+        Map<Long, Player> players = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int step = 0; step < 5_000; step++) {
+            long id = random.nextInt(20);
+            int action = random.nextInt(10);
+            if (action == 0) {
+                Player player = new Player(id, "p" + id);
+                players.put(id, player);
+                leaderboard.add(player);
+            } else if (action == 1 && players.containsKey(id)) {
+                players.remove(id);
+                leaderboard.remove(id);
+            } else if (players.containsKey(id)) {
+                leaderboard.increaseCorrectCount(id);
+            }
+
+            List<Player> ranked = leaderboard.getRankedPlayers();
+            assertThat(ranked).containsExactlyInAnyOrderElementsOf(players.values());
+            assertThat(ranked)
+                    .isSortedAccordingTo(
+                            Comparator.comparingInt(Player::getCorrectCount).reversed());
+        }
+    }
+
+    @Test
+    @DisplayName("정답 수를 초기화하면 순위도 다시 만들어진다")
+    void resetsAfterCorrectCountsInitialized() {
+        Leaderboard leaderboard = new Leaderboard();
+        Player player = new Player(1L, "player");
+        Player other = new Player(2L, "other");
+        leaderboard.add(player);
+        leaderboard.add(other);
+        leaderboard.increaseCorrectCount(2L);
+
+        player.initializeCorrectCount();
+        other.initializeCorrectCount();
+        leaderboard.reset();
+        leaderboard.increaseCorrectCount(1L);
+
+        assertThat(leaderboard.getRankedPlayers())
+                .extracting(Player::getNickname)
+                .containsExactly("player", "other");
+    }
+
+    @Test
+    @DisplayName("변경분을 순서대로 적용하면 전체 순위와 같은 정답 수 순서가 된다")
+    void rankChangesRebuildSnapshot() {
+        Leaderboard leaderboard = new Leaderboard();
+        Random random = new Random(11);
+        for (long id = 0; id < 8; id++) {
+            leaderboard.add(new Player(id, "p" + id));
+        }
+
+        RankSnapshot snapshot = leaderboard.snapshot();
+        List<Player> client = new ArrayList<>(snapshot.rankedPlayers());
+        long lastSequence = snapshot.sequence();
+
+        for (int step = 0; step < 1_000; step++) {
+            RankChange change = leaderboard.increaseCorrectCount((long) random.nextInt(8));
+
+            assertThat(change.sequence()).isEqualTo(lastSequence + 1);
+            lastSequence = change.sequence();
+            client.remove(change.player());
+            client.add(change.rank() - 1, change.player());
+
+            assertThat(client)
+                    .extracting(Player::getCorrectCount)
+                    .containsExactlyElementsOf(
+                            leaderboard.getRankedPlayers().stream()
+                                    .map(Player::getCorrectCount)
+                                    .toList());
+        }
+        assertThat(leaderboard.snapshot().sequence()).isEqualTo(lastSequence);
+    }
+}
@@ -0,0 +1,115 @@
+package io.f1.backend.domain.game.sse.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.f1.backend.domain.game.sse.dto.LobbySseEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+class LobbyEventCoalescerTest {
+
+    // 테스트 도중 예약된 전송이 끼어들지 않도록 창을 길게 잡고 flush() 를 직접 부른다
+    private static final long LONG_WINDOW_MILLIS = 60_000L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SseService sseService = mock(SseService.class);
+    private final LobbyEventCoalescer coalescer =
+            new LobbyEventCoalescer(sseService, meterRegistry, LONG_WINDOW_MILLIS);
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+    }
+
+    @Test
+    @DisplayName("창 안에서 같은 방의 UPDATE 가 여러 번 오면 마지막 것만 보낸다")
+    void sendsLatestUpdatePerRoom() {
+        LobbySseEvent<Integer> first = new LobbySseEvent<>("UPDATE", 1);
+        LobbySseEvent<Integer> second = new LobbySseEvent<>("UPDATE", 2);
+        LobbySseEvent<Integer> latest = new LobbySseEvent<>("UPDATE", 3);
+        LobbySseEvent<Integer> otherRoom = new LobbySseEvent<>("UPDATE", 10);
+
+        coalescer.submit(1L, first);
+        coalescer.submit(2L, otherRoom);
+        coalescer.submit(1L, second);
+        coalescer.submit(1L, latest);
+        coalescer.flush();
+
+        InOrder inOrder = Mockito.inOrder(sseService);
+        inOrder.verify(sseService).notifyLobbyUpdate(latest);
+        inOrder.verify(sseService).notifyLobbyUpdate(otherRoom);
+        verify(sseService, never()).notifyLobbyUpdate(first);
+        verify(sseService, never()).notifyLobbyUpdate(second);
+        assertThat(meterRegistry.get("lobby.sse.events.coalesced").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("창 안에서 만들어진 방은 CREATE 뒤에 마지막 UPDATE 를 보낸다")
+    void keepsCreateBeforeLatestUpdate() {
+        LobbySseEvent<Integer> created = new LobbySseEvent<>("CREATE", 1);
+        LobbySseEvent<Integer> updated = new LobbySseEvent<>("UPDATE", 2);
+        LobbySseEvent<Integer> latest = new LobbySseEvent<>("UPDATE", 3);
+
+        coalescer.submit(1L, created);
+        coalescer.submit(1L, updated);
+        coalescer.submit(1L, latest);
+        coalescer.flush();
+
+        InOrder inOrder = Mockito.inOrder(sseService);
+        inOrder.verify(sseService).notifyLobbyUpdate(created);
+        inOrder.verify(sseService).notifyLobbyUpdate(latest);
+        verify(sseService, never()).notifyLobbyUpdate(updated);
+    }
+
+    @Test
+    @DisplayName("창 안에서 만들어졌다가 삭제된 방은 아무것도 보내지 않는다")
+    void dropsRoomCreatedAndDeletedInWindow() {
+        coalescer.submit(1L, new LobbySseEvent<>("CREATE", 1));
+        coalescer.submit(1L, new LobbySseEvent<>("UPDATE", 2));
+        coalescer.submit(1L, new LobbySseEvent<>("DELETE", 1));
+        coalescer.flush();
+
+        verifyNoInteractions(sseService);
+        assertThat(meterRegistry.get("lobby.sse.events.coalesced").counter().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이미 로비에 보인 방이 삭제되면 앞의 UPDATE 는 버리고 DELETE 만 보낸다")
+    void sendsOnlyDeleteForExistingRoom() {
+        LobbySseEvent<Integer> updated = new LobbySseEvent<>("UPDATE", 1);
+        LobbySseEvent<Integer> deleted = new LobbySseEvent<>("DELETE", 1);
+
+        coalescer.submit(1L, updated);
+        coalescer.submit(1L, deleted);
+        coalescer.flush();
+
+        verify(sseService).notifyLobbyUpdate(deleted);
+        verify(sseService, never()).notifyLobbyUpdate(updated);
+    }
+
+    @Test
+    @DisplayName("창을 0 으로 두면 모으지 않고 바로 보낸다")
+    void sendsImmediatelyWithoutWindow() {
+        LobbyEventCoalescer immediate = new LobbyEventCoalescer(sseService, meterRegistry, 0);
+        LobbySseEvent<Integer> first = new LobbySseEvent<>("UPDATE", 1);
+        LobbySseEvent<Integer> second = new LobbySseEvent<>("UPDATE", 2);
+
+        immediate.submit(1L, first);
+        immediate.submit(1L, second);
+
+        InOrder inOrder = Mockito.inOrder(sseService);
+        inOrder.verify(sseService).notifyLobbyUpdate(first);
+        inOrder.verify(sseService).notifyLobbyUpdate(second);
+    }
+}
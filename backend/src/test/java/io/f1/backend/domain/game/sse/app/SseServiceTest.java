@@ -0,0 +1,266 @@
+package io.f1.backend.domain.game.sse.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.f1.backend.domain.game.dto.response.RoomResponse;
+import io.f1.backend.domain.game.sse.dto.LobbySseEvent;
+import io.f1.backend.domain.game.sse.store.LobbyEventLog;
+import io.f1.backend.domain.game.sse.store.SseEmitterRepository;
+import io.f1.backend.domain.game.sse.store.SseSubscriber;
+import io.f1.backend.domain.game.store.LobbyRoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class SseServiceTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SseEmitterRepository emitterRepository = new SseEmitterRepository();
+    private final LobbyEventLog eventLog = new LobbyEventLog(16);
+    private final LobbyRoomRepository lobbyRoomRepository = new LobbyRoomRepository();
+    private final SseService sseService =
+            new SseService(
+                    emitterRepository,
+                    eventLog,
+                    lobbyRoomRepository,
+                    OBJECT_MAPPER,
+                    meterRegistry,
+                    2,
+                    2);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        sseService.shutdown();
+    }
+
+    @Test
+    @DisplayName("느린 구독자가 있어도 알림은 기다리지 않고, 큐가 넘치면 이벤트를 버리고 연결을 끊는다")
+    void dropsSlowSubscriber() {
+        RecordingEmitter slow = new RecordingEmitter(release, 0);
+        SseSubscriber subscriber = subscribe(slow);
+
+        for (int i = 0; i < 10; i++) {
+            sseService.notifyLobbyUpdate(new LobbySseEvent<>("UPDATE", i));
+        }
+
+        assertThat(meterRegistry.get("lobby.sse.events.dropped").counter().count())
+                .isGreaterThanOrEqualTo(1);
+        assertThat(subscriber.isClosed()).isTrue();
+        assertThat(emitterRepository.count()).isZero();
+        assertThat(meterRegistry.get("lobby.sse.emitters").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("이벤트는 구독자마다 넣은 순서대로 나간다")
+    void sendsEventsInOrder() throws InterruptedException {
+        release.countDown();
+        RecordingEmitter first = new RecordingEmitter(release, 2);
+        RecordingEmitter second = new RecordingEmitter(release, 2);
+        subscribe(first);
+        subscribe(second);
+
+        sseService.notifyLobbyUpdate(new LobbySseEvent<>("CREATE", 1));
+        sseService.notifyLobbyUpdate(new LobbySseEvent<>("UPDATE", 2));
+
+        assertThat(first.received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(first.payloads()).containsExactly(1, 2);
+        assertThat(second.payloads()).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("하트비트 작업 하나가 연결된 구독자 모두에게 보낸다")
+    void sendsHeartbeatToAllSubscribers() throws InterruptedException {
+        release.countDown();
+        RecordingEmitter first = new RecordingEmitter(release, 1);
+        RecordingEmitter second = new RecordingEmitter(release, 1);
+        subscribe(first);
+        subscribe(second);
+
+        sseService.sendHeartbeat();
+
+        assertThat(first.received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("lobby.sse.emitters").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("처음 연결하면 지금까지의 delta 를 반영한 방 목록 스냅샷으로 시작한다")
+    void startsWithSnapshot() throws InterruptedException {
+        release.countDown();
+        lobbyRoomRepository.save(room(1L), 10L);
+        sseService.notifyLobbyUpdate(new LobbySseEvent<>("CREATE", 1));
+        RecordingEmitter emitter = new RecordingEmitter(release, 1);
+
+        sseService.subscribe(emitter, null);
+
+        assertThat(emitter.received.await(5, TimeUnit.SECONDS)).isTrue();
+        JsonNode snapshot = emitter.events().get(0);
+        assertThat(snapshot.get("type").asText()).isEqualTo("SNAPSHOT");
+        assertThat(snapshot.get("payload").get("version").asLong()).isEqualTo(1);
+        assertThat(snapshot.get("payload").get("rooms")).hasSize(1);
+        assertThat(snapshot.get("payload").get("nextCursor").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("방이 스냅샷 크기보다 많으면 첫 페이지만 담고 나머지를 읽을 cursor 를 붙인다")
+    void capsSnapshotToFirstPage() throws InterruptedException {
+        release.countDown();
+        lobbyRoomRepository.save(room(3L), 10L);
+        lobbyRoomRepository.save(room(1L), 10L);
+        lobbyRoomRepository.save(room(2L), 10L);
+        RecordingEmitter emitter = new RecordingEmitter(release, 1);
+
+        sseService.subscribe(emitter, null);
+
+        assertThat(emitter.received.await(5, TimeUnit.SECONDS)).isTrue();
+        JsonNode payload = emitter.events().get(0).get("payload");
+        assertThat(payload.get("rooms"))
+                .extracting(room -> room.get("roomId").asLong())
+                .containsExactly(1L, 2L);
+        assertThat(payload.get("nextCursor").asLong()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 뒤의 delta 가 기록에 남아 있으면 스냅샷 없이 그것만 다시 보낸다")
+    void resumesFromLastEventId() throws InterruptedException {
+        release.countDown();
+        sseService.notifyLobbyUpdate(new LobbySseEvent<>("CREATE", 1));
+        sseService.notifyLobbyUpdate(new LobbySseEvent<>("UPDATE", 2));
+        RecordingEmitter emitter = new RecordingEmitter(release, 1);
+
+        sseService.subscribe(emitter, eventLog.eventId(1));
+
+        assertThat(emitter.received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.payloads()).containsExactly(2);
+        assertThat(
+                        meterRegistry
+                                .get("lobby.sse.subscriptions")
+                                .tag("start", "resume")
+                                .counter()
+                                .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("알림이 버려져 연결을 모두 끊은 뒤에는 예전 id 로 재개하지 않고 스냅샷을 보낸다")
+    void sendsSnapshotAfterDisconnectAll() throws InterruptedException {
+        release.countDown();
+        sseService.notifyLobbyUpdate(new LobbySseEvent<>("CREATE", 1));
+        sseService.disconnectAll();
+        RecordingEmitter emitter = new RecordingEmitter(release, 1);
+
+        sseService.subscribe(emitter, eventLog.eventId(1));
+
+        assertThat(emitter.received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.events().get(0).get("type").asText()).isEqualTo("SNAPSHOT");
+    }
+
+    @Test
+    @DisplayName("재시작 전이나 다른 노드의 id, 형식이 틀린 id 로 연결하면 스냅샷으로 시작한다")
+    void sendsSnapshotForForeignEventId() throws InterruptedException {
+        release.countDown();
+        sseService.notifyLobbyUpdate(new LobbySseEvent<>("CREATE", 1));
+        sseService.notifyLobbyUpdate(new LobbySseEvent<>("UPDATE", 2));
+        RecordingEmitter foreign = new RecordingEmitter(release, 1);
+        RecordingEmitter malformed = new RecordingEmitter(release, 1);
+
+        sseService.subscribe(foreign, new LobbyEventLog(16).eventId(1));
+        sseService.subscribe(malformed, "1");
+
+        assertThat(foreign.received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(malformed.received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(foreign.events().get(0).get("type").asText()).isEqualTo("SNAPSHOT");
+        assertThat(malformed.events().get(0).get("type").asText()).isEqualTo("SNAPSHOT");
+        assertThat(foreign.sent.get(0))
+                .extracting(item -> String.valueOf(item.getData()))
+                .anyMatch(data -> data.contains("id:" + eventLog.eventId(2)));
+    }
+
+    private SseSubscriber subscribe(SseEmitter emitter) {
+        SseSubscriber subscriber = new SseSubscriber(emitter, 2);
+        emitterRepository.save(subscriber);
+        return subscriber;
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Set<DataWithMediaType>> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        private final CountDownLatch received;
+
+        private RecordingEmitter(CountDownLatch release, int expected) {
+            this.release = release;
+            this.received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            sent.add(items);
+            received.countDown();
+        }
+
+        private List<Integer> payloads() {
+            return events().stream().map(event -> event.get("payload").asInt()).toList();
+        }
+
+        // 로비 이벤트는 JSON 문자열로 한 번만 만들어져 전달된다
+        private List<JsonNode> events() {
+            return sent.stream()
+                    .flatMap(Set::stream)
+                    .filter(item -> MediaType.APPLICATION_JSON.equals(item.getMediaType()))
+                    .map(item -> readTree((String) item.getData()))
+                    .toList();
+        }
+
+        private static JsonNode readTree(String json) {
+            try {
+                return OBJECT_MAPPER.readTree(json);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static RoomResponse room(Long roomId) {
+        return new RoomResponse(
+                roomId,
+                "room" + roomId,
+                4,
+                1,
+                false,
+                "WAITING",
+                "quiz",
+                "desc",
+                "creator",
+                10,
+                "thumbnail");
+    }
+}
@@ -0,0 +1,70 @@
+package io.f1.backend.domain.game.sse.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+
+class LobbyEventLogTest {
+
+    @Test
+    @DisplayName("링 버퍼가 한 바퀴 돌아도 남아 있는 범위의 delta 는 순서대로 돌려준다")
+    void returnsEventsAfterWrapAround() {
+        LobbyEventLog eventLog = new LobbyEventLog(4);
+
+        appendAll(eventLog, 10);
+
+        assertThat(eventsAfter(eventLog, 6)).containsExactly("7", "8", "9", "10");
+        assertThat(eventsAfter(eventLog, 10)).isEmpty();
+        assertThat(eventLog.eventsAfter(5)).isEmpty();
+        assertThat(eventLog.eventsAfter(11)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("truncate 하면 그 전 번호로는 재개할 수 없고, 이후 스냅샷의 version 부터 다시 재개할 수 있다")
+    void rejectsSequencesBeforeTruncate() {
+        LobbyEventLog eventLog = new LobbyEventLog(4);
+        appendAll(eventLog, 2);
+
+        eventLog.truncate();
+        long snapshotVersion = eventLog.getLastSequence();
+        appendAll(eventLog, 1);
+
+        assertThat(eventLog.eventsAfter(2)).isEmpty();
+        assertThat(snapshotVersion).isEqualTo(3);
+        assertThat(eventsAfter(eventLog, snapshotVersion)).containsExactly("4");
+    }
+
+    @Test
+    @DisplayName("이 기록이 붙인 id 로만 재개하고, epoch 가 다르거나 형식이 틀린 id 는 받지 않는다")
+    void resumesOnlyFromOwnEventIds() {
+        LobbyEventLog eventLog = new LobbyEventLog(4);
+        LobbyEventLog restarted = new LobbyEventLog(4);
+        appendAll(eventLog, 3);
+        appendAll(restarted, 3);
+
+        assertThat(eventLog.eventsAfter(eventLog.eventId(1))).map(List::size).contains(2);
+        assertThat(eventLog.eventsAfter(restarted.eventId(1))).isEmpty();
+        assertThat(eventLog.eventsAfter("1")).isEmpty();
+        assertThat(eventLog.eventsAfter(eventLog.eventId(1) + "x")).isEmpty();
+        assertThat(eventLog.eventsAfter("not-an-id")).isEmpty();
+    }
+
+    private void appendAll(LobbyEventLog eventLog, int count) {
+        for (int i = 0; i < count; i++) {
+            eventLog.append(sequence -> SseEmitter.event().data(String.valueOf(sequence)).build());
+        }
+    }
+
+    private List<Object> eventsAfter(LobbyEventLog eventLog, long sequence) {
+        return eventLog.eventsAfter(sequence).orElseThrow().stream()
+                .flatMap(Set::stream)
+                .map(DataWithMediaType::getData)
+                .toList();
+    }
+}
@@ -0,0 +1,124 @@
+package io.f1.backend.domain.game.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.f1.backend.domain.game.dto.request.RoomSearchCondition;
+import io.f1.backend.domain.game.dto.response.RoomResponse;
+import io.f1.backend.domain.game.model.RoomState;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class LobbyRoomRepositoryTest {
+
+    private LobbyRoomRepository lobbyRoomRepository;
+
+    @BeforeEach
+    void setUp() {
+        lobbyRoomRepository = new LobbyRoomRepository();
+    }
+
+    @Test
+    @DisplayName("상태, 잠금, 빈자리, 퀴즈 조건을 모두 만족하는 방만 찾는다")
+    void findsRoomsMatchingAllConditions() {
+        save(1L, "초보만", RoomState.WAITING, false, 1, 1L);
+        save(2L, "고수방", RoomState.WAITING, false, 4, 1L);
+        save(3L, "아무나", RoomState.PLAYING, false, 1, 1L);
+        save(4L, "비밀방", RoomState.WAITING, true, 1, 1L);
+        save(5L, "다른퀴즈", RoomState.WAITING, false, 1, 2L);
+
+        RoomSearchCondition condition =
+                new RoomSearchCondition(RoomState.WAITING, false, true, 1L, null);
+
+        assertThat(roomIds(condition, null, 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("방 이름 접두사는 대소문자를 구분하지 않고, 다른 조건과 함께 쓸 수 있다")
+    void findsRoomsByNamePrefix() {
+        save(1L, "Kpop 퀴즈", RoomState.WAITING, false, 1, 1L);
+        save(2L, "kpop 고수만", RoomState.PLAYING, false, 1, 1L);
+        save(3L, "K리그", RoomState.WAITING, false, 1, 1L);
+
+        assertThat(roomIds(byName("KPOP"), null, 10)).containsExactly(1L, 2L);
+        assertThat(roomIds(byName("k"), null, 10)).containsExactly(1L, 2L, 3L);
+        assertThat(
+                        roomIds(
+                                new RoomSearchCondition(RoomState.WAITING, null, null, null, "k"),
+                                null,
+                                10))
+                .containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("방이 바뀌면 예전 값의 인덱스에서 빠진다")
+    void reindexesChangedRoom() {
+        save(1L, "방", RoomState.WAITING, false, 1, 1L);
+        save(1L, "방", RoomState.PLAYING, false, 4, 2L);
+
+        assertThat(roomIds(byState(RoomState.WAITING), null, 10)).isEmpty();
+        assertThat(roomIds(byState(RoomState.PLAYING), null, 10)).containsExactly(1L);
+        assertThat(roomIds(new RoomSearchCondition(null, null, true, null, null), null, 10))
+                .isEmpty();
+        assertThat(roomIds(new RoomSearchCondition(null, null, null, 1L, null), null, 10))
+                .isEmpty();
+
+        lobbyRoomRepository.remove(1L);
+
+        assertThat(roomIds(byState(RoomState.PLAYING), null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조건이 있어도 cursor 다음 방부터 페이지 크기만큼만 돌려준다")
+    void paginatesFilteredRooms() {
+        for (long roomId = 1; roomId <= 10; roomId++) {
+            RoomState state = roomId % 2 == 0 ? RoomState.PLAYING : RoomState.WAITING;
+            save(roomId, "방" + roomId, state, false, 1, 1L);
+        }
+
+        assertThat(roomIds(byState(RoomState.WAITING), null, 2)).containsExactly(1L, 3L);
+        assertThat(roomIds(byState(RoomState.WAITING), 3L, 2)).containsExactly(5L, 7L);
+        assertThat(roomIds(byState(RoomState.WAITING), 7L, 2)).containsExactly(9L);
+        assertThat(roomIds(RoomSearchCondition.NONE, 8L, 5)).containsExactly(9L, 10L);
+    }
+
+    private void save(
+            Long roomId,
+            String roomName,
+            RoomState state,
+            boolean locked,
+            int currentUserCount,
+            Long quizId) {
+        RoomResponse room =
+                new RoomResponse(
+                        roomId,
+                        roomName,
+                        4,
+                        currentUserCount,
+                        locked,
+                        state.name(),
+                        "퀴즈",
+                        "설명",
+                        "작성자",
+                        10,
+                        "thumbnail.png");
+        lobbyRoomRepository.save(room, quizId);
+    }
+
+    private List<Long> roomIds(RoomSearchCondition condition, Long cursor, int limit) {
+        return lobbyRoomRepository.find(condition, cursor, limit).stream()
+                .map(RoomResponse::roomId)
+                .toList();
+    }
+
+    private RoomSearchCondition byState(RoomState state) {
+        return new RoomSearchCondition(state, null, null, null, null);
+    }
+
+    private RoomSearchCondition byName(String namePrefix) {
+        return new RoomSearchCondition(null, null, null, null, namePrefix);
+    }
+}
@@ -0,0 +1,82 @@
+package io.f1.backend.domain.game.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.f1.backend.domain.game.model.GameSetting;
+import io.f1.backend.domain.game.model.Player;
+import io.f1.backend.domain.game.model.Room;
+import io.f1.backend.domain.game.model.RoomSetting;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UserRoomRepositoryTests {
+
+    UserRoomRepository userRoomRepository;
+
+    Player player;
+    Room room1;
+    Room room2;
+
+    @BeforeEach
+    void setUp() {
+        userRoomRepository = new UserRoomRepository();
+
+        player = new Player(1L, "빵야빵야");
+        room1 = createRoom(1L);
+        room2 = createRoom(2L);
+    }
+
+    @Test
+    @DisplayName("방에 없는 유저의 스냅샷은 NOT_IN_ROOM 이다")
+    void getSnapshot_notInRoom() {
+        UserRoomSnapshot snapshot = userRoomRepository.getSnapshot(player.getId());
+
+        assertThat(snapshot).isEqualTo(UserRoomSnapshot.NOT_IN_ROOM);
+        assertThat(snapshot.isInRoom()).isFalse();
+        assertThat(userRoomRepository.getRoomId(player.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("매핑이 바뀌지 않았으면 스냅샷 검증에 성공한다")
+    void validate_unchanged() {
+        userRoomRepository.addUser(player, room1);
+
+        UserRoomSnapshot snapshot = userRoomRepository.getSnapshot(player.getId());
+
+        assertThat(snapshot.roomId()).isEqualTo(room1.getId());
+        assertThat(userRoomRepository.validate(player.getId(), snapshot)).isTrue();
+    }
+
+    @Test
+    @DisplayName("나갔다가 같은 방에 다시 들어오면 이전 스냅샷은 검증에 실패한다")
+    void validate_reenterSameRoom_fails() {
+        userRoomRepository.addUser(player, room1);
+        UserRoomSnapshot snapshot = userRoomRepository.getSnapshot(player.getId());
+
+        userRoomRepository.removeUser(player.getId(), room1.getId());
+        userRoomRepository.addUser(player, room1);
+
+        assertThat(userRoomRepository.getRoomId(player.getId())).isEqualTo(room1.getId());
+        assertThat(userRoomRepository.validate(player.getId(), snapshot)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 방 id 로는 매핑이 삭제되지 않는다")
+    void removeUser_otherRoom_keepsMapping() {
+        userRoomRepository.addUser(player, room2);
+        UserRoomSnapshot snapshot = userRoomRepository.getSnapshot(player.getId());
+
+        userRoomRepository.removeUser(player.getId(), room1.getId());
+
+        assertThat(userRoomRepository.isUserInAnyRoom(player.getId())).isTrue();
+        assertThat(userRoomRepository.validate(player.getId(), snapshot)).isTrue();
+    }
+
+    private Room createRoom(Long roomId) {
+        RoomSetting roomSetting = new RoomSetting("방제", 8, false, null);
+        GameSetting gameSetting = new GameSetting(1L, 10, 60);
+        return new Room(roomId, roomSetting, gameSetting, player);
+    }
+}
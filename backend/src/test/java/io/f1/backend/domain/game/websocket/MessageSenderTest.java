@@ -0,0 +1,315 @@
+package io.f1.backend.domain.game.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.f1.backend.domain.game.dto.ChatMessage;
+import io.f1.backend.domain.game.dto.MessageType;
+import io.f1.backend.domain.game.dto.response.DefaultWebSocketResponse;
+import io.f1.backend.domain.game.event.RoomDeletedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.verification.VerificationMode;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+class MessageSenderTest {
+
+    private static final String DESTINATION = "/sub/room/1";
+    private static final String BUNDLED_DESTINATION = "/sub/room/1/bundled";
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private SimpMessagingTemplate messagingTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private FrameBundleNegotiator frameBundleNegotiator;
+    private RoomEventLog eventLog;
+    private MessageSender messageSender;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        frameBundleNegotiator = new FrameBundleNegotiator();
+        eventLog = new RoomEventLog(16);
+        eventLog.open(DESTINATION);
+        messageSender = createSender(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        messageSender.shutdown();
+    }
+
+    @Test
+    @DisplayName("창 안에 들어온 채팅은 CHAT_BATCH 한 프레임으로 전송된다")
+    void coalescesChatsWithinWindow() throws IOException {
+        messageSender.sendBroadcast(DESTINATION, MessageType.CHAT, chat("a"));
+        messageSender.sendBroadcast(DESTINATION, MessageType.CHAT, chat("b"));
+        messageSender.sendBroadcast(DESTINATION, MessageType.CHAT, chat("c"));
+
+        List<JsonNode> frames = sentFrames(timeout(1000).times(1));
+
+        JsonNode frame = frames.get(0);
+        assertThat(frame.get("type").asText()).isEqualTo(MessageType.CHAT_BATCH.name());
+        assertThat(frame.get("message"))
+                .extracting(message -> message.get("message").asText())
+                .containsExactly("a", "b", "c");
+    }
+
+    @Test
+    @DisplayName("제어 메시지는 기다리지 않고, 모아 둔 채팅을 먼저 보낸 뒤 전송된다")
+    void controlMessageBypassesBatchAfterPendingChats() throws IOException {
+        messageSender.sendBroadcast(DESTINATION, MessageType.CHAT, chat("정답"));
+        messageSender.sendBroadcast(DESTINATION, MessageType.QUESTION_RESULT, "result");
+
+        List<JsonNode> frames = sentFrames(times(2));
+
+        assertThat(frames)
+                .extracting(frame -> frame.get("type").asText())
+                .containsExactly(MessageType.CHAT.name(), MessageType.QUESTION_RESULT.name());
+    }
+
+    @Test
+    @DisplayName("묶음 전송을 끄면 채팅도 바로 전송된다")
+    void sendsImmediatelyWhenDisabled() throws IOException {
+        MessageSender immediateSender = createSender(false);
+
+        immediateSender.sendBroadcast(DESTINATION, MessageType.CHAT, chat("a"));
+
+        List<JsonNode> frames = sentFrames(times(1));
+        assertThat(frames.get(0).get("type").asText()).isEqualTo(MessageType.CHAT.name());
+    }
+
+    @Test
+    @DisplayName("방송 메시지는 JSON 으로 한 번 인코딩되어 바이트 수가 기록된다")
+    void encodesOnceAndRecordsBytes() {
+        MessageSender immediateSender = createSender(false);
+
+        immediateSender.sendBroadcast(DESTINATION, MessageType.SYSTEM_NOTICE, "notice");
+
+        Message<byte[]> sent = sentMessages(times(1)).get(0);
+        assertThat(sent.getHeaders().get(MessageHeaders.CONTENT_TYPE))
+                .isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        double encoded =
+                meterRegistry
+                        .get("websocket.broadcast.encoded.bytes")
+                        .tag("type", MessageType.SYSTEM_NOTICE.name())
+                        .counter()
+                        .count();
+        assertThat(encoded).isEqualTo(sent.getPayload().length);
+    }
+
+    @Test
+    @DisplayName("묶음을 협상한 구독자가 없으면 라운드 전환 메시지는 낱개 프레임으로 전송된다")
+    void sendsSeparateFramesWithoutBundleSubscribers() throws IOException {
+        messageSender.sendBundle(DESTINATION, transition());
+
+        assertThat(sentFrames(times(2)))
+                .extracting(frame -> frame.get("type").asText())
+                .containsExactly(
+                        MessageType.QUESTION_RESULT.name(), MessageType.QUESTION_START.name());
+        verify(messagingTemplate, never()).send(eq(BUNDLED_DESTINATION), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("묶음을 협상한 세션의 방 구독은 묶음 destination 으로 바뀌고, 라운드 전환은 한 프레임으로 전송된다")
+    void sendsSingleBundleFrameToNegotiatedSubscribers() throws IOException {
+        connectAndSubscribeWithBundle("session-1");
+
+        messageSender.sendBundle(DESTINATION, transition());
+
+        List<JsonNode> bundles = sentFrames(BUNDLED_DESTINATION, times(1));
+        JsonNode bundle = bundles.get(0);
+        assertThat(bundle.get("type").asText()).isEqualTo(MessageType.BUNDLE.name());
+        assertThat(bundle.get("message"))
+                .extracting(event -> event.get("type").asText())
+                .containsExactly(
+                        MessageType.QUESTION_RESULT.name(), MessageType.QUESTION_START.name());
+
+        // 기존 구독자는 그대로 낱개 프레임을 받는다
+        assertThat(sentFrames(times(2))).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("묶음 구독이 끊기면 묶음 destination 으로 더 이상 보내지 않는다")
+    void stopsBundlingAfterDisconnect() {
+        connectAndSubscribeWithBundle("session-1");
+        frameBundleNegotiator.preSend(stomp(StompCommand.DISCONNECT, "session-1"), channel);
+
+        messageSender.sendBroadcast(DESTINATION, MessageType.SYSTEM_NOTICE, "notice");
+
+        verify(messagingTemplate, never()).send(eq(BUNDLED_DESTINATION), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("방송 메시지에는 destination 별로 1씩 늘어나는 번호가 붙고, 묶음 안의 메시지도 번호를 이어 받는다")
+    void stampsBroadcastsWithSequence() throws IOException {
+        MessageSender immediateSender = createSender(false);
+        connectAndSubscribeWithBundle("session-1");
+
+        immediateSender.sendBroadcast(DESTINATION, MessageType.SYSTEM_NOTICE, "notice");
+        immediateSender.sendBundle(DESTINATION, transition());
+
+        assertThat(sentFrames(times(3)))
+                .extracting(frame -> frame.get("sequence").asLong())
+                .containsExactly(1L, 2L, 3L);
+        JsonNode bundle = sentFrames(BUNDLED_DESTINATION, times(2)).get(1);
+        assertThat(bundle.has("sequence")).isFalse();
+        assertThat(bundle.get("message"))
+                .extracting(event -> event.get("sequence").asLong())
+                .containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("재연결한 사용자에게는 마지막으로 받은 번호 뒤의 메시지만 기록된 payload 그대로 다시 보낸다")
+    void resendsMissedEventsToReconnectedUser() {
+        MessageSender immediateSender = createSender(false);
+        when(messagingTemplate.getUserDestinationPrefix()).thenReturn("/user/");
+        immediateSender.sendBroadcast(DESTINATION, MessageType.PLAYER_LIST, "players");
+        immediateSender.sendBroadcast(DESTINATION, MessageType.SYSTEM_NOTICE, "enter");
+        immediateSender.sendBroadcast(DESTINATION, MessageType.CHAT, chat("a"));
+        List<Message<byte[]>> broadcasts = sentMessages(times(3));
+
+        boolean resent = immediateSender.sendMissedEvents(DESTINATION, 1, "/queue", "user-1");
+
+        assertThat(resent).isTrue();
+        assertThat(sentMessages("/user/user-1/queue", times(2)))
+                .extracting(Message::getPayload)
+                .containsExactly(broadcasts.get(1).getPayload(), broadcasts.get(2).getPayload());
+    }
+
+    @Test
+    @DisplayName("놓친 메시지가 기록에서 밀려났으면 다시 보내지 않고 전체 상태를 보내게 한다")
+    void refusesReplayWhenEventsWereEvicted() {
+        MessageSender immediateSender = createSender(false);
+        for (int i = 0; i < 20; i++) {
+            immediateSender.sendBroadcast(DESTINATION, MessageType.SYSTEM_NOTICE, "notice");
+        }
+
+        assertThat(immediateSender.sendMissedEvents(DESTINATION, 2, "/queue", "user-1"))
+                .isFalse();
+        verify(messagingTemplate, never()).getUserDestinationPrefix();
+    }
+
+    @Test
+    @DisplayName("방이 삭제된 뒤 늦게 들어온 방송은 버려지고 destination 별 상태를 다시 만들지 않는다")
+    void dropsBroadcastsAfterRoomDeleted() {
+        MessageSender immediateSender = createSender(false);
+        immediateSender.sendBroadcast(DESTINATION, MessageType.PLAYER_LIST, "players");
+
+        RoomDeletedEvent deleted = new RoomDeletedEvent(1L);
+        immediateSender.onRoomDeleted(deleted);
+        eventLog.onRoomDeleted(deleted);
+        immediateSender.sendBroadcast(DESTINATION, MessageType.PLAYER_LIST, "players");
+        immediateSender.sendBroadcast(DESTINATION, MessageType.SYSTEM_NOTICE, "exit");
+        immediateSender.sendBundle(DESTINATION, transition());
+
+        assertThat(immediateSender.isOpen(DESTINATION)).isFalse();
+        assertThat(eventLog.isOpen(DESTINATION)).isFalse();
+        assertThat(sentMessages(times(1))).hasSize(1);
+    }
+
+    private void connectAndSubscribeWithBundle(String sessionId) {
+        StompHeaderAccessor connect = StompHeaderAccessor.create(StompCommand.CONNECT);
+        connect.setSessionId(sessionId);
+        connect.setNativeHeader(FrameBundleNegotiator.BUNDLE_HEADER, "1");
+        frameBundleNegotiator.preSend(toMessage(connect), channel);
+
+        StompHeaderAccessor subscribe = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        subscribe.setSessionId(sessionId);
+        subscribe.setSubscriptionId("sub-0");
+        subscribe.setDestination(DESTINATION);
+        Message<?> subscribed = frameBundleNegotiator.preSend(toMessage(subscribe), channel);
+
+        assertThat(StompHeaderAccessor.wrap(subscribed).getDestination())
+                .isEqualTo(BUNDLED_DESTINATION);
+    }
+
+    private Message<byte[]> stomp(StompCommand command, String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        return toMessage(accessor);
+    }
+
+    private Message<byte[]> toMessage(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private List<DefaultWebSocketResponse<?>> transition() {
+        return List.of(
+                new DefaultWebSocketResponse<>(MessageType.QUESTION_RESULT, "result"),
+                new DefaultWebSocketResponse<>(MessageType.QUESTION_START, "start"));
+    }
+
+    private MessageSender createSender(boolean chatCoalescingEnabled) {
+        MessageSender sender =
+                new MessageSender(
+                        messagingTemplate,
+                        objectMapper,
+                        frameBundleNegotiator,
+                        eventLog,
+                        meterRegistry,
+                        chatCoalescingEnabled,
+                        20);
+        sender.open(DESTINATION);
+        return sender;
+    }
+
+    private ChatMessage chat(String message) {
+        return new ChatMessage("닉네임", message, Instant.now());
+    }
+
+    private List<JsonNode> sentFrames(VerificationMode mode) throws IOException {
+        return sentFrames(DESTINATION, mode);
+    }
+
+    private List<JsonNode> sentFrames(String destination, VerificationMode mode)
+            throws IOException {
+        List<JsonNode> frames = new ArrayList<>();
+        for (Message<byte[]> message : sentMessages(destination, mode)) {
+            frames.add(objectMapper.readTree(message.getPayload()));
+        }
+        return frames;
+    }
+
+    private List<Message<byte[]>> sentMessages(VerificationMode mode) {
+        return sentMessages(DESTINATION, mode);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<Message<byte[]>> sentMessages(String destination, VerificationMode mode) {
+        ArgumentCaptor<Message<byte[]>> captor =
+                (ArgumentCaptor) ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate, mode).send(eq(destination), captor.capture());
+        return captor.getAllValues();
+    }
+}
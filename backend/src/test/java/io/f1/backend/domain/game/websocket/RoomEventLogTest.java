@@ -0,0 +1,94 @@
+package io.f1.backend.domain.game.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.f1.backend.domain.game.event.RoomDeletedEvent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+class RoomEventLogTest {
+
+    private static final String DESTINATION = "/sub/room/1";
+
+    @Test
+    @DisplayName("번호는 1부터 시작해 destination 별로 따로 늘어난다")
+    void assignsSequencePerDestination() {
+        RoomEventLog eventLog = open(4);
+        eventLog.open("/sub/room/2");
+
+        appendAll(eventLog, DESTINATION, 2);
+        byte[] other = eventLog.append("/sub/room/2", RoomEventLogTest::encode);
+
+        assertThat(decode(other)).isEqualTo("1");
+        assertThat(eventsAfter(eventLog, 0)).containsExactly("1", "2");
+    }
+
+    @Test
+    @DisplayName("링 버퍼가 한 바퀴 돌아도 남아 있는 범위의 메시지는 순서대로 돌려준다")
+    void returnsEventsAfterWrapAround() {
+        RoomEventLog eventLog = open(4);
+
+        appendAll(eventLog, DESTINATION, 10);
+
+        assertThat(eventsAfter(eventLog, 6)).containsExactly("7", "8", "9", "10");
+        assertThat(eventsAfter(eventLog, 10)).isEmpty();
+        assertThat(eventLog.eventsAfter(DESTINATION, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이 서버가 붙인 적 없는 번호나 삭제된 방의 번호로는 다시 보낼 수 없다")
+    void rejectsUnknownSequences() {
+        RoomEventLog eventLog = open(4);
+        appendAll(eventLog, DESTINATION, 3);
+
+        assertThat(eventLog.eventsAfter(DESTINATION, 4)).isEmpty();
+
+        eventLog.onRoomDeleted(new RoomDeletedEvent(1L));
+
+        assertThat(eventLog.eventsAfter(DESTINATION, 3)).isEmpty();
+        assertThat(eventLog.eventsAfter(DESTINATION, 0)).contains(List.of());
+    }
+
+    @Test
+    @DisplayName("열리지 않았거나 삭제된 방의 destination 에는 기록하지 않는다")
+    void ignoresAppendsToClosedDestinations() {
+        RoomEventLog eventLog = open(4);
+        eventLog.onRoomDeleted(new RoomDeletedEvent(1L));
+
+        assertThat(eventLog.append(DESTINATION, RoomEventLogTest::encode)).isNull();
+        assertThat(eventLog.append("/sub/room/2", RoomEventLogTest::encode)).isNull();
+        assertThat(eventLog.isOpen(DESTINATION)).isFalse();
+        assertThat(eventLog.isOpen("/sub/room/2")).isFalse();
+    }
+
+    private RoomEventLog open(int capacity) {
+        RoomEventLog eventLog = new RoomEventLog(capacity);
+        eventLog.open(DESTINATION);
+        return eventLog;
+    }
+
+    private void appendAll(RoomEventLog eventLog, String destination, int count) {
+        for (int i = 0; i < count; i++) {
+            eventLog.append(destination, RoomEventLogTest::encode);
+        }
+    }
+
+    private List<String> eventsAfter(RoomEventLog eventLog, long lastSequence) {
+        Optional<List<byte[]>> events = eventLog.eventsAfter(DESTINATION, lastSequence);
+        assertThat(events).isPresent();
+        return events.get().stream().map(RoomEventLogTest::decode).toList();
+    }
+
+    private static byte[] encode(long sequence) {
+        return Long.toString(sequence).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String decode(byte[] payload) {
+        return new String(payload, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,180 @@
+package io.f1.backend.domain.question.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.f1.backend.domain.question.dao.ContentQuestionRepository;
+import io.f1.backend.domain.question.dao.QuestionRepository;
+import io.f1.backend.domain.question.dto.ContentQuestionRequest;
+import io.f1.backend.domain.question.dto.ContentQuestionUpdateRequest;
+import io.f1.backend.domain.question.entity.AcceptedAnswer;
+import io.f1.backend.domain.question.entity.Question;
+import io.f1.backend.domain.quiz.entity.Quiz;
+import io.f1.backend.global.exception.CustomException;
+import io.f1.backend.global.exception.errorcode.QuestionErrorCode;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+class QuestionServiceTests {
+
+    @Mock private QuestionRepository questionRepository;
+    @Mock private ContentQuestionRepository contentQuestionRepository;
+
+    private QuestionService questionService;
+    private Quiz quiz;
+
+    @BeforeEach
+    void setUp() {
+        questionService = new QuestionService(questionRepository, contentQuestionRepository);
+        quiz = mock(Quiz.class);
+    }
+
+    @Test
+    @DisplayName("추가 정답은 앞뒤 공백을 정리하고 빈 값과 중복을 버린 뒤 저장된다")
+    void saveContentQuestion_normalizesAcceptedAnswers() {
+        // given
+        List<String> acceptedAnswers = Arrays.asList(" 사과 ", "사과", "", "  ", null, "apple");
+
+        // when
+        questionService.saveContentQuestion(
+                quiz, ContentQuestionRequest.of("과일 문제", "사과", acceptedAnswers));
+
+        // then
+        ArgumentCaptor<Question> captor = ArgumentCaptor.forClass(Question.class);
+        verify(questionRepository).save(captor.capture());
+        assertThat(captor.getValue().getAcceptedAnswerTexts()).containsExactly("사과", "apple");
+    }
+
+    @Test
+    @DisplayName("정리한 뒤의 추가 정답이 5개를 넘으면 E400019 로 거절되고 저장하지 않는다")
+    void saveContentQuestion_tooManyAcceptedAnswers() {
+        // given
+        List<String> acceptedAnswers = List.of("a", "b", "c", "d", "e", "f");
+
+        // when
+        CustomException ex =
+                assertThrows(
+                        CustomException.class,
+                        () ->
+                                questionService.saveContentQuestion(
+                                        quiz,
+                                        ContentQuestionRequest.of("문제", "정답", acceptedAnswers)));
+
+        // then
+        assertEquals(QuestionErrorCode.INVALID_ACCEPTED_ANSWER_COUNT, ex.getErrorCode());
+        verify(questionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("중복을 버리고 5개가 되면 한도 안으로 본다")
+    void saveContentQuestion_countsAfterDeduplication() {
+        // given
+        List<String> acceptedAnswers = List.of("a", "b", "c", "d", "e", " a ");
+
+        // when
+        questionService.saveContentQuestion(
+                quiz, ContentQuestionRequest.of("문제", "정답", acceptedAnswers));
+
+        // then
+        ArgumentCaptor<Question> captor = ArgumentCaptor.forClass(Question.class);
+        verify(questionRepository).save(captor.capture());
+        assertThat(captor.getValue().getAcceptedAnswerTexts()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("30자를 넘는 추가 정답이 있으면 정답 길이 오류로 거절된다")
+    void saveContentQuestion_acceptedAnswerTooLong() {
+        // given
+        List<String> acceptedAnswers = List.of("a".repeat(30), "b".repeat(31));
+
+        // when
+        CustomException ex =
+                assertThrows(
+                        CustomException.class,
+                        () ->
+                                questionService.saveContentQuestion(
+                                        quiz,
+                                        ContentQuestionRequest.of("문제", "정답", acceptedAnswers)));
+
+        // then
+        assertEquals(QuestionErrorCode.INVALID_ANSWER_LENGTH, ex.getErrorCode());
+        verify(questionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("수정 요청에 추가 정답이 있으면 기존 추가 정답을 모두 새 목록으로 바꾼다")
+    void updateContentQuestions_replacesAcceptedAnswers() {
+        // given
+        Question question = new Question(quiz, "사과");
+        question.changeAcceptedAnswers(List.of("apple", "애플"));
+        given(questionRepository.findByIdWithContent(1L)).willReturn(Optional.of(question));
+
+        // when
+        questionService.updateContentQuestions(
+                quiz, ContentQuestionUpdateRequest.of(1L, null, "사과", List.of("링고")));
+
+        // then
+        assertThat(question.getAcceptedAnswerTexts()).containsExactly("링고");
+        assertThat(question.getAcceptedAnswers())
+                .extracting(AcceptedAnswer::getQuestion)
+                .containsOnly(question);
+    }
+
+    @Test
+    @DisplayName("수정 요청의 추가 정답이 null 이면 기존 추가 정답을 유지한다")
+    void updateContentQuestions_keepsAcceptedAnswersWhenNull() {
+        // given
+        Question question = new Question(quiz, "사과");
+        question.changeAcceptedAnswers(List.of("apple"));
+        given(questionRepository.findByIdWithContent(1L)).willReturn(Optional.of(question));
+
+        // when
+        questionService.updateContentQuestions(
+                quiz, ContentQuestionUpdateRequest.of(1L, null, "배", null));
+
+        // then
+        assertEquals("배", question.getAnswer());
+        assertThat(question.getAcceptedAnswerTexts()).containsExactly("apple");
+    }
+
+    @Test
+    @DisplayName("수정 요청도 추가 정답이 5개를 넘으면 거절되고 기존 추가 정답은 그대로 남는다")
+    void updateContentQuestions_tooManyAcceptedAnswers() {
+        // given
+        Question question = new Question(quiz, "사과");
+        question.changeAcceptedAnswers(List.of("apple"));
+        given(questionRepository.findByIdWithContent(1L)).willReturn(Optional.of(question));
+        List<String> acceptedAnswers = List.of("a", "b", "c", "d", "e", "f");
+
+        // when
+        CustomException ex =
+                assertThrows(
+                        CustomException.class,
+                        () ->
+                                questionService.updateContentQuestions(
+                                        quiz,
+                                        ContentQuestionUpdateRequest.of(
+                                                1L, null, "사과", acceptedAnswers)));
+
+        // then
+        assertEquals(QuestionErrorCode.INVALID_ACCEPTED_ANSWER_COUNT, ex.getErrorCode());
+        assertThat(question.getAcceptedAnswerTexts()).containsExactly("apple");
+    }
+}
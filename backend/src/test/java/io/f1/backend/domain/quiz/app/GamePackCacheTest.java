@@ -0,0 +1,145 @@
+package io.f1.backend.domain.quiz.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.f1.backend.domain.quiz.dto.GamePack;
+import io.f1.backend.domain.quiz.dto.GameQuestion;
+import io.f1.backend.domain.quiz.entity.QuizType;
+import io.f1.backend.domain.quiz.event.GamePackEvictedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+class GamePackCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final List<Object> publishedEvents = new ArrayList<>();
+
+    @Test
+    @DisplayName("한 번 만든 팩은 다시 DB 에서 만들지 않는다")
+    void returnsCachedPack() {
+        GamePackCache cache = new GamePackCache(publishedEvents::add, meterRegistry, 4, 100, 100);
+
+        GamePack first = cache.get(1L, id -> load(id, 3));
+        GamePack second = cache.get(1L, id -> load(id, 3));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(requests("hit")).isEqualTo(1);
+        assertThat(requests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("퀴즈 수나 문제 수 상한을 넘으면 가장 오래 안 쓴 팩부터 버린다")
+    void evictsLeastRecentlyUsed() {
+        GamePackCache cache = new GamePackCache(publishedEvents::add, meterRegistry, 2, 10, 10);
+
+        cache.get(1L, id -> load(id, 4));
+        cache.get(2L, id -> load(id, 4));
+        cache.get(1L, id -> load(id, 4));
+        cache.get(3L, id -> load(id, 4));
+
+        assertThat(loads).hasValue(3);
+        cache.get(1L, id -> load(id, 4));
+        assertThat(loads).hasValue(3);
+        cache.get(2L, id -> load(id, 4));
+        assertThat(loads).hasValue(4);
+
+        cache.get(4L, id -> load(id, 8));
+        assertThat(questionsGauge()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("문제 수 상한보다 큰 팩은 캐시하지 않는다")
+    void doesNotCacheOversizedPack() {
+        GamePackCache cache = new GamePackCache(publishedEvents::add, meterRegistry, 4, 10, 10);
+
+        cache.get(1L, id -> load(id, 11));
+        cache.get(1L, id -> load(id, 11));
+
+        assertThat(loads).hasValue(2);
+        assertThat(questionsGauge()).isZero();
+    }
+
+    @Test
+    @DisplayName("문제 id 만 든 팩은 문제 수 합계에 넣지 않는다")
+    void doesNotCountQuestionIds() {
+        GamePackCache cache = new GamePackCache(publishedEvents::add, meterRegistry, 4, 10, 5);
+
+        assertThat(cache.canLoadQuestions(6)).isFalse();
+        GamePack pack =
+                cache.get(
+                        1L,
+                        id ->
+                                new GamePack(
+                                        id,
+                                        QuizType.TEXT,
+                                        "퀴즈",
+                                        "설명",
+                                        null,
+                                        "thumbnail.png",
+                                        List.of(),
+                                        LongStream.rangeClosed(1, 20).toArray()));
+
+        assertThat(cache.get(1L, id -> load(id, 20))).isSameAs(pack);
+        assertThat(questionsGauge()).isZero();
+    }
+
+    @Test
+    @DisplayName("팩을 만드는 도중에 무효화되면 만든 팩을 캐시에 넣지 않는다")
+    void discardsPackLoadedDuringEviction() {
+        GamePackCache cache = new GamePackCache(publishedEvents::add, meterRegistry, 4, 100, 100);
+
+        cache.get(
+                1L,
+                id -> {
+                    cache.evict(id);
+                    return load(id, 3);
+                });
+        cache.get(1L, id -> load(id, 3));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("퀴즈 수정으로 버린 팩은 다른 노드에 알릴 수 있도록 이벤트로 알린다")
+    void publishesEventOnEvictAfterCommit() {
+        GamePackCache cache = new GamePackCache(publishedEvents::add, meterRegistry, 4, 100, 100);
+        cache.get(1L, id -> load(id, 3));
+
+        cache.evictAfterCommit(1L);
+        cache.evict(2L);
+
+        assertThat(publishedEvents).containsExactly(new GamePackEvictedEvent(1L));
+        cache.get(1L, id -> load(id, 3));
+        assertThat(loads).hasValue(2);
+    }
+
+    private GamePack load(Long quizId, int questionCount) {
+        loads.incrementAndGet();
+        List<GameQuestion> questions = new ArrayList<>();
+        LongStream.rangeClosed(1, questionCount)
+                .forEach(id -> questions.add(new GameQuestion(id, "문제", "정답", List.of())));
+        return new GamePack(
+                quizId, QuizType.TEXT, "퀴즈", "설명", "작성자", "thumbnail.png", questions);
+    }
+
+    private double requests(String result) {
+        return meterRegistry
+                .get("game.pack.cache.requests")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private double questionsGauge() {
+        return meterRegistry.get("game.pack.cache.questions").gauge().value();
+    }
+}
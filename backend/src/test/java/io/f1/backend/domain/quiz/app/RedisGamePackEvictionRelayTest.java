@@ -0,0 +1,76 @@
+package io.f1.backend.domain.quiz.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.f1.backend.domain.quiz.dto.GamePackEvictionMessage;
+import io.f1.backend.domain.quiz.event.GamePackEvictedEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+
+class RedisGamePackEvictionRelayTest {
+
+    private static final String NODE_ID = "node-a";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GamePackCache gamePackCache = mock(GamePackCache.class);
+    private final RTopic topic = mock(RTopic.class);
+
+    private RedisGamePackEvictionRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getTopic(eq(RedisGamePackEvictionRelay.CHANNEL), any()))
+                .thenReturn(topic);
+        when(redissonClient.getId()).thenReturn(NODE_ID);
+        relay = new RedisGamePackEvictionRelay(redissonClient, objectMapper, gamePackCache);
+    }
+
+    @Test
+    @DisplayName("이 노드에서 버린 팩은 노드 id 와 함께 채널에 발행한다")
+    void publishesLocalEviction() throws JsonProcessingException {
+        relay.onGamePackEvicted(new GamePackEvictedEvent(10L));
+
+        ArgumentCaptor<Object> published = ArgumentCaptor.forClass(Object.class);
+        verify(topic).publish(published.capture());
+        GamePackEvictionMessage message =
+                objectMapper.readValue(
+                        (String) published.getValue(), GamePackEvictionMessage.class);
+        assertThat(message).isEqualTo(new GamePackEvictionMessage(NODE_ID, 10L));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 알림은 이 노드의 캐시에서만 버리고 다시 발행하지 않는다")
+    void evictsOnRemoteEviction() throws JsonProcessingException {
+        relay.receive(encode(new GamePackEvictionMessage("node-b", 10L)));
+
+        verify(gamePackCache).evict(10L);
+        verifyNoInteractions(topic);
+    }
+
+    @Test
+    @DisplayName("자기가 발행한 알림은 다시 반영하지 않는다")
+    void ignoresOwnEviction() throws JsonProcessingException {
+        relay.receive(encode(new GamePackEvictionMessage(NODE_ID, 10L)));
+
+        verifyNoInteractions(gamePackCache);
+    }
+
+    private String encode(GamePackEvictionMessage message) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(message);
+    }
+}
@@ -0,0 +1,74 @@
+package io.f1.backend.domain.quiz.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.f1.backend.domain.quiz.entity.QuizType;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.LongStream;
+
+class GamePackTest {
+
+    @Test
+    @DisplayName("라운드 수만큼 겹치지 않는 문제를 고르고, 문제가 모자라면 있는 만큼만 고른다")
+    void samplesDistinctQuestions() {
+        GamePack pack = packWithQuestions(50);
+
+        for (int i = 0; i < 1000; i++) {
+            List<GameQuestion> sampled = pack.sampleQuestions(10);
+            assertThat(sampled).hasSize(10).doesNotHaveDuplicates();
+        }
+        assertThat(new HashSet<>(pack.sampleQuestions(100))).hasSize(50);
+    }
+
+    @Test
+    @DisplayName("모든 문제가 고르게 뽑힌다")
+    void samplesUniformly() {
+        GamePack pack = packWithQuestions(20);
+        int[] counts = new int[21];
+
+        int trials = 20_000;
+        for (int i = 0; i < trials; i++) {
+            pack.sampleQuestionIds(5).forEach(id -> counts[id.intValue()]++);
+        }
+
+        // 문제마다 기대값은 trials * 5 / 20 = 5000
+        for (int id = 1; id <= 20; id++) {
+            assertThat(counts[id]).isBetween(4500, 5500);
+        }
+    }
+
+    @Test
+    @DisplayName("문제 id 만 든 팩은 id 로만 고를 수 있다")
+    void samplesIdsWithoutQuestions() {
+        GamePack pack =
+                new GamePack(
+                        1L,
+                        QuizType.TEXT,
+                        "퀴즈",
+                        "설명",
+                        null,
+                        "thumbnail.png",
+                        List.of(),
+                        LongStream.rangeClosed(1, 10_000).toArray());
+
+        assertThat(pack.questionsLoaded()).isFalse();
+        assertThat(pack.questionCount()).isEqualTo(10_000);
+        assertThat(pack.sampleQuestionIds(10)).hasSize(10).doesNotHaveDuplicates();
+        assertThatThrownBy(() -> pack.sampleQuestions(10))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private GamePack packWithQuestions(int count) {
+        List<GameQuestion> questions =
+                LongStream.rangeClosed(1, count)
+                        .mapToObj(id -> new GameQuestion(id, "문제" + id, "정답" + id, List.of()))
+                        .toList();
+        return new GamePack(1L, QuizType.TEXT, "퀴즈", "설명", "작성자", "thumbnail.png", questions);
+    }
+}
@@ -0,0 +1,90 @@
+package io.f1.backend.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.f1.backend.domain.game.sse.app.SseService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class LobbyEventExecutorConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SseService sseService = mock(SseService.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        LobbyEventExecutorConfig config = new LobbyEventExecutorConfig();
+        ReflectionTestUtils.setField(config, "queueCapacity", 2);
+        executor = config.lobbyEventExecutor(meterRegistry, sseService);
+        executor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("알림은 넣은 순서대로 한 스레드에서 실행된다")
+    void runsTasksInOrder() throws InterruptedException {
+        release.countDown();
+        List<Integer> executed = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute(() -> executed.add(1));
+        executor.execute(() -> executed.add(2));
+        executor.execute(done::countDown);
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactly(1, 2);
+        verify(sseService, never()).disconnectAll();
+    }
+
+    @Test
+    @DisplayName("큐가 넘치면 호출한 쪽을 막지 않고 로비 구독자 연결을 모두 끊는다")
+    void disconnectsSubscribersWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(
+                () -> {
+                    started.countDown();
+                    awaitRelease();
+                });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        executor.execute(() -> {});
+        executor.execute(() -> {});
+        executor.execute(() -> {});
+
+        verify(sseService).disconnectAll();
+        assertThat(meterRegistry.get("lobby.event.executor.rejected").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("lobby.event.executor.queued").gauge().value())
+                .isEqualTo(2);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,12 +2,15 @@ package io.f1.backend.global.lock;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.f1.backend.global.config.RedisTestContainerConfig;
 import io.f1.backend.global.exception.CustomException;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
@@ -15,9 +18,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -34,6 +39,8 @@ class DistributedLockIntegrationTest {
     }
 
     @Autowired private TestLockService testLockService;
+    @Autowired private LockProvider lockProvider;
+    @Autowired private RedissonClient redissonClient;
 
     private final Long ROOM_ID = 1L;
 
@@ -81,6 +88,25 @@ class DistributedLockIntegrationTest {
                                 "락 획득에 실패한 스레드는 " + (threadCount - 1) + "개여야 합니다"));
     }
 
+    @DisplayName("여러 키를 함께 잡은 락은 키 하나라도 lease 가 지나 풀리면 더 이상 보유 중으로 보지 않는다")
+    @Test
+    void testMultiLock_NotHeldAfterAnyKeyExpires() throws Exception {
+        // Given
+        String roomKey = LockExecutor.formatLockKey("room", 100L);
+        String userKey = LockExecutor.formatLockKey("user", 100L);
+        LockHandle multiLock = lockProvider.getMultiLock(List.of(roomKey, userKey));
+        assertTrue(multiLock.tryLock(1, 3, TimeUnit.SECONDS));
+        assertTrue(multiLock.isHeldByCurrentThread());
+
+        // When: lease 가 지나 키 하나가 사라진 상황
+        redissonClient.getKeys().delete(userKey);
+
+        // Then
+        assertFalse(multiLock.isHeldByCurrentThread());
+        multiLock.unlock();
+        assertEquals(0, redissonClient.getKeys().countExists(roomKey, userKey));
+    }
+
     @DisplayName("단일 스레드에서 락 획득이 정상적으로 동작하는지 검증")
     @Test
     void testDistributedLock_SingleThread_Success() {
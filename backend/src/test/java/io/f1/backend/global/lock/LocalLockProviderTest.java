@@ -0,0 +1,139 @@
+package io.f1.backend.global.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class LocalLockProviderTest {
+
+    private static final String LOCK_KEY = "lock:room:{1}";
+
+    private final LocalLockProvider lockProvider = new LocalLockProvider();
+
+    @Test
+    @DisplayName("같은 키는 항상 같은 락을 반환한다")
+    void getLock_sameKey_returnsSameLock() {
+        assertSame(lockProvider.getLock(LOCK_KEY), lockProvider.getLock(LOCK_KEY));
+    }
+
+    @Test
+    @DisplayName("다른 스레드가 보유한 락은 대기 시간 안에 획득하지 못한다")
+    void tryLock_heldByOtherThread_fails() throws Exception {
+        LockHandle lock = lockProvider.getLock(LOCK_KEY);
+        assertTrue(lock.tryLock(5L, 3L, TimeUnit.SECONDS));
+
+        try {
+            boolean acquired =
+                    CompletableFuture.supplyAsync(
+                                    () -> {
+                                        try {
+                                            return lockProvider
+                                                    .getLock(LOCK_KEY)
+                                                    .tryLock(100L, 3L, TimeUnit.MILLISECONDS);
+                                        } catch (InterruptedException e) {
+                                            throw new IllegalStateException(e);
+                                        }
+                                    })
+                            .get();
+
+            assertFalse(acquired);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 스레드에서는 중첩 획득이 가능하고 해제 후에는 보유하지 않는다")
+    void tryLock_reentrant() throws InterruptedException {
+        LockHandle lock = lockProvider.getLock(LOCK_KEY);
+
+        assertTrue(lock.tryLock(5L, 3L, TimeUnit.SECONDS));
+        assertTrue(lock.tryLock(5L, 3L, TimeUnit.SECONDS));
+        lock.unlock();
+        assertTrue(lock.isHeldByCurrentThread());
+        lock.unlock();
+
+        assertFalse(lock.isHeldByCurrentThread());
+    }
+
+    @Test
+    @DisplayName("LockExecutor 와 함께 사용하면 임계 구역이 직렬화된다")
+    void lockExecutor_withLocalProvider_serializes() throws InterruptedException {
+        LockMetrics lockMetrics = new LockMetrics(new SimpleMeterRegistry(), 500, 0.1);
+        LockExecutor lockExecutor = new LockExecutor(lockProvider, lockMetrics);
+        int threadCount = 8;
+        int iterations = 500;
+        int[] counter = new int[1];
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(
+                    () -> {
+                        try {
+                            for (int j = 0; j < iterations; j++) {
+                                lockExecutor.executeWithLock("room", 1L, () -> counter[0]++);
+                            }
+                        } finally {
+                            latch.countDown();
+                        }
+                    });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        assertEquals(threadCount * iterations, counter[0]);
+    }
+
+    @Test
+    @DisplayName("여러 키 중 하나라도 다른 스레드가 보유하면 아무 락도 잡지 않는다")
+    void getMultiLock_allOrNothing() throws Exception {
+        String userLockKey = "lock:user:{1}";
+        LockHandle roomLock = lockProvider.getLock(LOCK_KEY);
+
+        // 다른 스레드가 방 락 보유
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.submit(
+                () -> {
+                    roomLock.tryLock(5L, 3L, TimeUnit.SECONDS);
+                    locked.countDown();
+                    release.await();
+                    roomLock.unlock();
+                    return null;
+                });
+        locked.await();
+
+        try {
+            LockHandle multiLock = lockProvider.getMultiLock(List.of(LOCK_KEY, userLockKey));
+
+            assertFalse(multiLock.tryLock(100L, 3L, TimeUnit.MILLISECONDS));
+            assertFalse(lockProvider.getLock(userLockKey).isHeldByCurrentThread());
+        } finally {
+            release.countDown();
+            executorService.shutdown();
+        }
+
+        LockHandle multiLock = lockProvider.getMultiLock(List.of(LOCK_KEY, userLockKey));
+        assertTrue(multiLock.tryLock(5L, 3L, TimeUnit.SECONDS));
+        assertTrue(multiLock.isHeldByCurrentThread());
+        multiLock.unlock();
+        assertFalse(multiLock.isHeldByCurrentThread());
+    }
+}
@@ -3,6 +3,8 @@ package io.f1.backend.global.lock;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -11,16 +13,20 @@ import static org.mockito.Mockito.when;
 
 import io.f1.backend.global.exception.CustomException;
 import io.f1.backend.global.exception.errorcode.CommonErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RLock;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -31,7 +37,9 @@ class LockExecutorTest {
 
     @Mock private RLock rlock;
 
-    @InjectMocks private LockExecutor lockExecutor;
+    @Mock private RScript rscript;
+
+    private LockExecutor lockExecutor;
 
     private final String TEST_PREFIX = "room";
     private final Long TEST_ROOM_ID = 1L;
@@ -40,6 +48,14 @@ class LockExecutorTest {
     private final String EXPECTED_LOCK_KEY = "lock:" + TEST_PREFIX + ":{" + TEST_ROOM_ID + "}";
     private final String EXPECTED_RETURN_VALUE = "success";
 
+    @BeforeEach
+    void setUp() {
+        lockExecutor =
+                new LockExecutor(
+                        new RedissonLockProvider(redissonClient),
+                        new LockMetrics(new SimpleMeterRegistry(), 500, 0.1));
+    }
+
     @Test
     @DisplayName("락 획득 성공 시 supplier 로직이 실행되고 락 해제됨")
     void executeWithLock_successfulLock_supplier() throws Exception {
@@ -194,4 +210,33 @@ class LockExecutorTest {
         verify(rlock, times(1)).tryLock(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS);
         verify(rlock).unlock();
     }
+
+    @Test
+    @DisplayName("여러 락 키는 정렬된 순서로 스크립트 한 번에 획득되고, 한 번에 해제된다")
+    void executeWithLocks_sortedKeys_singleScriptCall() {
+        // given
+        String userLockKey = "lock:user:{1}";
+        String roomLockKey = "lock:room:{" + TEST_ROOM_ID + "}";
+
+        when(redissonClient.getScript(any(Codec.class))).thenReturn(rscript);
+        when(redissonClient.getId()).thenReturn("client-id");
+
+        // when
+        String result =
+                lockExecutor.executeWithLocks(
+                        List.of(userLockKey, roomLockKey), () -> EXPECTED_RETURN_VALUE);
+
+        // then
+        assertEquals(EXPECTED_RETURN_VALUE, result);
+        // 획득 1회 + 해제 1회
+        verify(rscript, times(2))
+                .eval(
+                        eq(RScript.Mode.READ_WRITE),
+                        anyString(),
+                        eq(RScript.ReturnType.INTEGER),
+                        eq(List.of(roomLockKey, userLockKey)),
+                        any(),
+                        any());
+        verify(redissonClient, never()).getLock(anyString());
+    }
 }
@@ -0,0 +1,152 @@
+package io.f1.backend.global.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.f1.backend.global.exception.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+class LockMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LockMetrics lockMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lockMetrics = new LockMetrics(meterRegistry, 500, 1.0);
+    }
+
+    @Test
+    @DisplayName("락 키에서 prefix 를 꺼낸다")
+    void prefixOf() {
+        assertEquals("room", LockMetrics.prefixOf("lock:room:{1}"));
+        assertEquals("user", LockMetrics.prefixOf(LockExecutor.formatLockKey("user", 42L)));
+        assertEquals("unknown", LockMetrics.prefixOf("room:1"));
+    }
+
+    @Test
+    @DisplayName("LockExecutor 는 prefix 별로 대기/점유 시간을 기록한다")
+    void lockExecutor_recordsWaitAndHold() {
+        LockExecutor lockExecutor = new LockExecutor(new LocalLockProvider(), lockMetrics);
+
+        lockExecutor.executeWithLock("room", 1L, () -> {});
+        lockExecutor.executeWithLock("room", 2L, () -> {});
+
+        assertEquals(
+                2,
+                meterRegistry
+                        .get("lock.wait")
+                        .tags("prefix", "room", "result", "acquired")
+                        .timer()
+                        .count());
+        assertEquals(2, meterRegistry.get("lock.hold").tag("prefix", "room").timer().count());
+        assertEquals(
+                0, meterRegistry.get("lock.lease.expired").tag("prefix", "room").counter().count());
+    }
+
+    @Test
+    @DisplayName("여러 락을 함께 잡으면 prefix 조합으로 기록한다")
+    void lockExecutor_multiLock_taggedByPrefixCombination() {
+        LockExecutor lockExecutor = new LockExecutor(new LocalLockProvider(), lockMetrics);
+
+        lockExecutor.executeWithLocks(
+                List.of(
+                        LockExecutor.formatLockKey("user", 1L),
+                        LockExecutor.formatLockKey("room", 1L)),
+                () -> {});
+
+        assertEquals(1, meterRegistry.get("lock.hold").tag("prefix", "room+user").timer().count());
+    }
+
+    @Test
+    @DisplayName("획득 실패는 실패 카운터와 실패 대기 시간으로 기록된다")
+    void recordWait_failure() {
+        LockProvider lockProvider =
+                new LockProvider() {
+                    @Override
+                    public LockHandle getLock(String key) {
+                        return new NeverAcquiredLock();
+                    }
+
+                    @Override
+                    public LockHandle getMultiLock(List<String> keys) {
+                        return new NeverAcquiredLock();
+                    }
+                };
+        LockExecutor lockExecutor = new LockExecutor(lockProvider, lockMetrics);
+
+        assertThrows(
+                CustomException.class, () -> lockExecutor.executeWithLock("room", 1L, () -> {}));
+
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("lock.acquisition.failures")
+                        .tag("prefix", "room")
+                        .counter()
+                        .count());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("lock.wait")
+                        .tags("prefix", "room", "result", "failed")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    @DisplayName("점유 시간이 lease 를 넘기거나 해제 전에 소유권을 잃으면 lease 만료로 기록된다")
+    void recordHold_leaseExpired() {
+        long leaseNanos = TimeUnit.SECONDS.toNanos(3);
+
+        lockMetrics.recordHold("room", "lock:room:{1}", leaseNanos + 1, leaseNanos, true, null);
+        lockMetrics.recordHold("room", "lock:room:{1}", 1_000L, leaseNanos, false, () -> "site");
+        lockMetrics.recordHold("room", "lock:room:{1}", 1_000L, leaseNanos, true, () -> "site");
+
+        assertEquals(
+                2, meterRegistry.get("lock.lease.expired").tag("prefix", "room").counter().count());
+        assertEquals(3, meterRegistry.get("lock.hold").tag("prefix", "room").timer().count());
+    }
+
+    @Test
+    @DisplayName("LocalLockProvider 의 락은 lease 가 없으므로 오래 점유해도 lease 만료로 기록하지 않는다")
+    void recordHold_localLockIgnoresLease() {
+        LocalLockProvider lockProvider = new LocalLockProvider();
+        LockHandle lock = lockProvider.getLock("lock:room:{1}");
+        LockHandle multiLock = lockProvider.getMultiLock(List.of("lock:room:{1}", "lock:user:{1}"));
+        long leaseNanos = lock.enforcesLease() ? TimeUnit.SECONDS.toNanos(3) : 0L;
+
+        lockMetrics.recordHold(
+                "room", "lock:room:{1}", TimeUnit.SECONDS.toNanos(10), leaseNanos, true, null);
+
+        assertFalse(lock.enforcesLease());
+        assertFalse(multiLock.enforcesLease());
+        assertEquals(
+                0, meterRegistry.get("lock.lease.expired").tag("prefix", "room").counter().count());
+    }
+
+    private static class NeverAcquiredLock implements LockHandle {
+
+        @Override
+        public boolean tryLock(long waitTime, long leaseTime, TimeUnit unit) {
+            return false;
+        }
+
+        @Override
+        public boolean isHeldByCurrentThread() {
+            return false;
+        }
+
+        @Override
+        public void unlock() {}
+    }
+}
@@ -0,0 +1,95 @@
+package io.f1.backend.global.timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.f1.backend.global.timer.HashedWheelTimer.Timeout;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+class HashedWheelTimerTest {
+
+    private final AtomicLong maxLatenessNanos = new AtomicLong();
+
+    private HashedWheelTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        timer =
+                new HashedWheelTimer(
+                        "test-timer",
+                        10,
+                        TimeUnit.MILLISECONDS,
+                        8,
+                        Runnable::run,
+                        nanos -> maxLatenessNanos.accumulateAndGet(nanos, Math::max));
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    @DisplayName("등록한 작업은 지연 시간이 지난 뒤 실행되고 대기 카운트에서 빠진다")
+    void newTimeout_expires() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        Timeout timeout = timer.newTimeout(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(timeout.isExpired());
+        assertEquals(0, timer.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 긴 지연도 정확한 라운드에서 만료된다")
+    void newTimeout_expiresAfterMultipleRounds() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        // 8 ticks * 10ms = 80ms 한 바퀴
+        timer.newTimeout(latch::countDown, 200, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    @DisplayName("취소한 작업은 실행되지 않는다")
+    void cancel_preventsExecution() throws InterruptedException {
+        AtomicBoolean executed = new AtomicBoolean(false);
+
+        Timeout timeout = timer.newTimeout(() -> executed.set(true), 30, TimeUnit.MILLISECONDS);
+
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertEquals(0, timer.getPendingCount());
+
+        Thread.sleep(100);
+        assertFalse(executed.get());
+        assertTrue(timeout.isCancelled());
+    }
+
+    @Test
+    @DisplayName("이미 만료된 작업은 취소되지 않는다")
+    void cancel_afterExpire_returnsFalse() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Timeout timeout = timer.newTimeout(latch::countDown, 10, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertFalse(timeout.cancel());
+    }
+}